@@ -4,6 +4,7 @@ import box2dLight.RayHandler;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.csse3200.game.components.combat.CombatActions;
 import com.csse3200.game.components.settingsmenu.UserSettings;
 import com.csse3200.game.entities.Entity;
@@ -11,10 +12,12 @@ import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.gamestate.Achievements;
 import com.csse3200.game.gamestate.SaveHandler;
 import com.csse3200.game.lighting.DayNightCycle;
+import com.csse3200.game.profiling.FrameProfiler;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.screens.*;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.InGameTime;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceContainer;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
@@ -31,8 +34,15 @@ import static com.badlogic.gdx.Gdx.app;
  */
 public class GdxGame extends Game {
     private static final Logger logger = LoggerFactory.getLogger(GdxGame.class);
+    // time each frame spent loading assets which are streaming in
+    private static final int ASSET_STREAM_MILLIS = 4;
     
     private boolean enemyWasBeaten = false;
+    // resources loaded by the loading screen, for the next screen to take over
+    private ResourceService preloadedResources;
+    // texture cache marks taken before each live screen was created, to check for leaked textures
+    private final ObjectMap<Screen, Long> textureMarks = new ObjectMap<>();
+    private long nextTextureMark = 0;
 
     @Override
     public void create() {
@@ -100,7 +110,7 @@ public class GdxGame extends Game {
         logger.info("Setting screen to {}", screenType);
         Screen currentScreen = getScreen();
         if (currentScreen != null) {
-            currentScreen.dispose();
+            disposeScreen(currentScreen);
         }
         setScreen(newScreen(screenType, null, null, null, null));
     }
@@ -114,7 +124,7 @@ public class GdxGame extends Game {
         logger.info("Setting old screen: {}", screen);
         Screen currentScreen = getScreen();
         if (currentScreen != null) {
-            currentScreen.dispose();
+            disposeScreen(currentScreen);
         }
         setScreen(screen);
         ServiceLocator.registerTimeSource(container.getTimeSource());
@@ -219,10 +229,69 @@ public class GdxGame extends Game {
         enemy.specialDispose();
     }
 
+    @Override
+    public void setScreen(Screen screen) {
+        if (screen != null && !textureMarks.containsKey(screen)) {
+            // anything acquired since the last screen change may have been acquired by this screen
+            textureMarks.put(screen, nextTextureMark);
+        }
+        super.setScreen(screen);
+        nextTextureMark = ResourceService.getTextureCache().mark();
+    }
+
+    @Override
+    public void render() {
+        super.render();
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        if (resourceService != null) {
+            // optional assets keep loading after their screen is shown
+            resourceService.streamAssets(ASSET_STREAM_MILLIS);
+        }
+        FrameProfiler.endFrame();
+    }
+
+    /**
+     * Hand resources loaded ahead of time, e.g. by the loading screen, to the next screen.
+     *
+     * @param resourceService resource service holding the loaded assets
+     */
+    public void setPreloadedResources(ResourceService resourceService) {
+        this.preloadedResources = resourceService;
+    }
+
+    /**
+     * Take the resources loaded ahead of time for this screen, if there are any.
+     *
+     * @return the preloaded resource service, or null to create a new one
+     */
+    public ResourceService takePreloadedResources() {
+        ResourceService resourceService = preloadedResources;
+        preloadedResources = null;
+        return resourceService;
+    }
+
     @Override
     public void dispose() {
         logger.debug("Disposing of current screen");
-        getScreen().dispose();
+        disposeScreen(getScreen());
+        if (preloadedResources != null) {
+            preloadedResources.dispose();
+        }
+        // everything that used the shared textures and assets has been disposed
+        ResourceService.disposeShared();
+    }
+
+    /**
+     * Dispose of a screen, warning about any cached textures it acquired but did not release.
+     *
+     * @param screen screen to dispose
+     */
+    private void disposeScreen(Screen screen) {
+        screen.dispose();
+        Long mark = textureMarks.remove(screen);
+        if (mark != null) {
+            ResourceService.getTextureCache().reportLeaks(screen.getClass().getSimpleName(), mark);
+        }
     }
 
     /**
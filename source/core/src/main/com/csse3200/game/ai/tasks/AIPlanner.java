@@ -0,0 +1,142 @@
+package com.csse3200.game.ai.tasks;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.profiling.FrameProfiler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the think phase of every AI task component before entities are updated. Each component
+ * asks its tasks for their priorities against an {@link AISnapshot} of the frame, spread over a
+ * small pool of threads. The act phase then happens in each component's update on the main
+ * thread, in the usual entity order, where tasks which can't decide from the snapshot are asked
+ * directly and the highest priority task is run.
+ *
+ * <p>Thinking only reads the snapshot and each task's own fields, and every component writes its
+ * results into its own slots, so the outcome is the same however the work is split between
+ * threads.
+ *
+ * <p>The pool is separate from the job system, so thinking never queues behind long jobs like
+ * terrain generation. The main thread also claims chunks of components until none are left, so a
+ * busy pool only makes thinking less parallel rather than making the frame wait.
+ */
+public class AIPlanner {
+  /** Components thought about by each job */
+  static final int COMPONENTS_PER_JOB = 32;
+  // the main thread thinks too, so leave it a core
+  private static final int THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+  private static final ExecutorService executor = Executors.newFixedThreadPool(THREADS, runnable -> {
+    Thread thread = new Thread(runnable, "ai-think");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final AISnapshot snapshot = new AISnapshot();
+  private final Array<AITaskComponent> thinking = new Array<>(false, COMPONENTS_PER_JOB);
+  private boolean parallel = true;
+
+  /**
+   * Think for the AI task components of the entities about to be updated.
+   *
+   * @param updating Entities about to be updated, in update order
+   * @param entities Every registered entity, to record in the snapshot
+   */
+  public void think(Array<Entity> updating, Array<Entity> entities) {
+    thinking.clear();
+    for (int i = 0; i < updating.size; i++) {
+      AITaskComponent ai = updating.get(i).getComponent(AITaskComponent.class);
+      if (ai != null && ai.getEntity() != null) {
+        thinking.add(ai);
+      }
+    }
+    if (thinking.size == 0) {
+      return;
+    }
+
+    long start = FrameProfiler.start();
+    snapshot.set(entities);
+    if (!parallel || thinking.size <= COMPONENTS_PER_JOB) {
+      think(0, thinking.size);
+    } else {
+      Round round = new Round((thinking.size + COMPONENTS_PER_JOB - 1) / COMPONENTS_PER_JOB);
+      for (int i = 1; i < Math.min(round.chunkCount, THREADS + 1); i++) {
+        executor.execute(round);
+      }
+      round.run();
+      round.await();
+    }
+    FrameProfiler.stop(FrameProfiler.Metric.AI_THINK, start);
+  }
+
+  /**
+   * Spread thinking over several threads, or keep it all on the calling thread. The results are
+   * the same either way.
+   *
+   * @param parallel true to think on several threads
+   */
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  /**
+   * @return The snapshot of the last frame thought about
+   */
+  public AISnapshot getSnapshot() {
+    return snapshot;
+  }
+
+  private void think(int from, int to) {
+    for (int i = from; i < to; i++) {
+      thinking.get(i).think(snapshot);
+    }
+  }
+
+  /**
+   * One frame of thinking, which threads share by claiming chunks of components. A thread which
+   * only starts once every chunk has been claimed, even in a later frame, does nothing.
+   */
+  private class Round implements Runnable {
+    private final int chunkCount;
+    private final AtomicInteger nextChunk = new AtomicInteger();
+    private final CountDownLatch chunksLeft;
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    Round(int chunkCount) {
+      this.chunkCount = chunkCount;
+      this.chunksLeft = new CountDownLatch(chunkCount);
+    }
+
+    @Override
+    public void run() {
+      int chunk;
+      while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+        int from = chunk * COMPONENTS_PER_JOB;
+        try {
+          think(from, Math.min(from + COMPONENTS_PER_JOB, thinking.size));
+        } catch (RuntimeException e) {
+          failure.compareAndSet(null, e);
+        } finally {
+          chunksLeft.countDown();
+        }
+      }
+    }
+
+    /** Wait for chunks claimed by other threads to finish, rethrowing anything they threw */
+    void await() {
+      try {
+        chunksLeft.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for AI to think", e);
+      }
+      if (failure.get() != null) {
+        throw failure.get();
+      }
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.csse3200.game.ai.tasks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.csse3200.game.entities.Entity;
+
+/**
+ * Positions and sizes of entities at the start of a frame, for priority tasks to read during the
+ * AI think phase. The snapshot is filled on the main thread by {@link AIPlanner} and only read
+ * while the think phase runs, so any number of threads can read it at once.
+ */
+public class AISnapshot {
+  private static final int INITIAL_CAPACITY = 64;
+
+  // entity id to index, where x, y, scale x and scale y of each entity are stored together
+  private final IntIntMap indices = new IntIntMap(INITIAL_CAPACITY);
+  private float[] values = new float[4 * INITIAL_CAPACITY];
+  private final Vector2 position = new Vector2();
+  private int size = 0;
+
+  /**
+   * Forget the last frame and record the given entities.
+   *
+   * @param entities Entities to record
+   */
+  void set(Array<Entity> entities) {
+    indices.clear();
+    size = 0;
+    if (values.length < 4 * entities.size) {
+      values = new float[4 * Math.max(entities.size, values.length / 2)];
+    }
+    for (int i = 0; i < entities.size; i++) {
+      Entity entity = entities.get(i);
+      entity.getPosition(position);
+      values[4 * size] = position.x;
+      values[4 * size + 1] = position.y;
+      values[4 * size + 2] = entity.getScaleX();
+      values[4 * size + 3] = entity.getScaleY();
+      indices.put(entity.getId(), size);
+      size++;
+    }
+  }
+
+  /**
+   * @return The number of entities in the snapshot
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param entity Entity to look for
+   * @return true if the entity's position was recorded
+   */
+  public boolean contains(Entity entity) {
+    return entity != null && indices.containsKey(entity.getId());
+  }
+
+  /**
+   * Get the position of an entity at the start of the frame.
+   *
+   * @param entity Entity in the snapshot
+   * @param out Vector to copy the position into
+   * @return out
+   */
+  public Vector2 getPosition(Entity entity, Vector2 out) {
+    int index = indexOf(entity);
+    return out.set(values[4 * index], values[4 * index + 1]);
+  }
+
+  /**
+   * Get the center position of an entity at the start of the frame.
+   *
+   * @param entity Entity in the snapshot
+   * @param out Vector to copy the center position into
+   * @return out
+   */
+  public Vector2 getCenterPosition(Entity entity, Vector2 out) {
+    int index = indexOf(entity);
+    return out.set(values[4 * index] + values[4 * index + 2] * 0.5f,
+        values[4 * index + 1] + values[4 * index + 3] * 0.5f);
+  }
+
+  /**
+   * Get the distance between the positions of two entities at the start of the frame.
+   *
+   * @param from First entity
+   * @param to Second entity
+   * @return The distance, or a negative value if either entity is not in the snapshot
+   */
+  public float distance(Entity from, Entity to) {
+    int a = from == null ? -1 : indices.get(from.getId(), -1);
+    int b = to == null ? -1 : indices.get(to.getId(), -1);
+    if (a == -1 || b == -1) {
+      return -1f;
+    }
+    return Vector2.dst(values[4 * a], values[4 * a + 1], values[4 * b], values[4 * b + 1]);
+  }
+
+  private int indexOf(Entity entity) {
+    int index = indices.get(entity.getId(), -1);
+    if (index == -1) {
+      throw new IllegalArgumentException("Entity " + entity + " is not in the AI snapshot");
+    }
+    return index;
+  }
+}
@@ -13,12 +13,20 @@ import java.util.*;
  *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
+ *
+ * <p>When the entity service has an {@link AIPlanner}, priorities are first found in a think phase
+ * which may run on another thread, see {@link PriorityTask#getPriority(AISnapshot)}. The update then
+ * only has to ask the tasks which couldn't decide there.
  */
 public class AITaskComponent extends Component implements TaskRunner {
   private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
 
   private final List<PriorityTask> priorityTasks = new ArrayList<>(2);
   private PriorityTask currentTask;
+  // priorities found by the last think phase, in task order, used up by the next update
+  private int[] thoughtPriorities = new int[2];
+  private int thoughtCount = 0;
+  private boolean thought = false;
 
   /**
    * Add a priority task to the list of tasks. This task will be run only when it has the highest
@@ -45,9 +53,18 @@ public class AITaskComponent extends Component implements TaskRunner {
    */
   @Override
   public void update() {
-    PriorityTask desiredtask = getHighestPriorityTask();
-    if (desiredtask == null || desiredtask.getPriority() < 0) {
-      return;
+    PriorityTask desiredtask;
+    if (thought) {
+      thought = false;
+      desiredtask = getHighestThoughtTask();
+      if (desiredtask == null) {
+        return;
+      }
+    } else {
+      desiredtask = getHighestPriorityTask();
+      if (desiredtask == null || desiredtask.getPriority() < 0) {
+        return;
+      }
     }
 
     if (desiredtask != currentTask) {
@@ -63,6 +80,47 @@ public class AITaskComponent extends Component implements TaskRunner {
     }
   }
 
+  /**
+   * Find each task's priority from a snapshot of the frame, for the next update to act on. Called
+   * by {@link AIPlanner}, possibly from a worker thread, so nothing but the tasks' own priorities
+   * is touched.
+   *
+   * @param snapshot Positions of entities at the start of the frame
+   */
+  void think(AISnapshot snapshot) {
+    if (thoughtPriorities.length < priorityTasks.size()) {
+      thoughtPriorities = new int[priorityTasks.size()];
+    }
+    for (int i = 0; i < priorityTasks.size(); i++) {
+      thoughtPriorities[i] = priorityTasks.get(i).getPriority(snapshot);
+    }
+    thoughtCount = priorityTasks.size();
+    thought = true;
+  }
+
+  /**
+   * Pick the task with the highest priority from the think phase, asking any task which couldn't
+   * decide there. Ties go to the task added first, as with {@link #getHighestPriorityTask()}.
+   *
+   * @return The task to run, or null if none has a non-negative priority
+   */
+  private PriorityTask getHighestThoughtTask() {
+    PriorityTask highest = null;
+    int highestPriority = -1;
+    for (int i = 0; i < priorityTasks.size(); i++) {
+      // tasks added since thinking haven't been asked yet
+      int priority = i < thoughtCount ? thoughtPriorities[i] : PriorityTask.PRIORITY_MAIN_THREAD;
+      if (priority == PriorityTask.PRIORITY_MAIN_THREAD) {
+        priority = priorityTasks.get(i).getPriority();
+      }
+      if (priority > highestPriority) {
+        highest = priorityTasks.get(i);
+        highestPriority = priority;
+      }
+    }
+    return highest;
+  }
+
   private PriorityTask getHighestPriorityTask() {
     try {
       return Collections.max(priorityTasks, Comparator.comparingInt(PriorityTask::getPriority));
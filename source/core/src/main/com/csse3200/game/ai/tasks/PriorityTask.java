@@ -5,5 +5,23 @@ package com.csse3200.game.ai.tasks;
  * decide which task to run.
  */
 public interface PriorityTask extends Task {
+  /**
+   * Returned by {@link #getPriority(AISnapshot)} when the priority can only be found on the main
+   * thread, by {@link #getPriority()}.
+   */
+  int PRIORITY_MAIN_THREAD = Integer.MIN_VALUE;
+
   int getPriority();
+
+  /**
+   * Get the priority from a snapshot of the game, without touching anything else. This may be
+   * called from a worker thread during the AI think phase, see {@link AIPlanner}, so it must not
+   * raycast, draw, change state or read any entity except through the snapshot.
+   *
+   * @param snapshot Positions of entities at the start of the frame
+   * @return The priority, or {@link #PRIORITY_MAIN_THREAD} to find it with {@link #getPriority()}
+   */
+  default int getPriority(AISnapshot snapshot) {
+    return PRIORITY_MAIN_THREAD;
+  }
 }
@@ -0,0 +1,37 @@
+package com.csse3200.game.areas.MiniMap;
+
+import com.badlogic.gdx.graphics.Color;
+
+/**
+ * What an entity is shown as on the minimap. Game areas set it on an entity when they spawn it,
+ * see {@link com.csse3200.game.entities.Entity#setMiniMapCategory(MiniMapCategory)}, so the minimap
+ * can tell what each nearby entity is without searching the game area's lists.
+ */
+public enum MiniMapCategory {
+    ENEMY(Color.RED, 10),
+    FRIENDLY_NPC(Color.BLUE, 10),
+    BOSS(Color.RED, 30),
+    MINIGAME_NPC(Color.PURPLE, 10);
+
+    private final Color colour;
+    private final float dotSize;
+
+    MiniMapCategory(Color colour, float dotSize) {
+        this.colour = colour;
+        this.dotSize = dotSize;
+    }
+
+    /**
+     * @return colour of the entity's dot
+     */
+    public Color getColour() {
+        return colour;
+    }
+
+    /**
+     * @return size of the entity's dot in pixels
+     */
+    public float getDotSize() {
+        return dotSize;
+    }
+}
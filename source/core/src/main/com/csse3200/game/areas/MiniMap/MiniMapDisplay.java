@@ -1,13 +1,24 @@
 package com.csse3200.game.areas.MiniMap;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.csse3200.game.areas.GameArea;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
+import java.nio.FloatBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,20 +27,27 @@ import java.util.List;
  * on the screen. It shows the player's position, as well as various entities like
  * enemies, bosses, friendly NPCs, and minigame NPCs, represented by different colored
  * dots. The minimap updates positions based on the entities' world coordinates.
+ *
+ * <p>The background is drawn once into a frame buffer, and every dot is the same white circle
+ * tinted by category, so the whole minimap is drawn with one long lived batch and a few texture
+ * binds however many entities are tracked. Dot positions are only recalculated every
+ * {@link #setRefreshInterval(int) refresh interval}, from the entities near the player in the
+ * entity service's spatial index.
  */
 public class MiniMapDisplay extends UIComponent {
+    private static final String BACKGROUND_TEXTURE = "images/minimap/minimap_background_land.png";
+    private static final int DEFAULT_REFRESH_INTERVAL = 15;
+    private static final int DOT_TEXTURE_SIZE = 32;
+    private static final int PLAYER_DOT_SIZE = 15;
+    private static final MiniMapCategory[] CATEGORIES = MiniMapCategory.values();
+    // x, y, size and category of each dot
+    private static final int DOT_STRIDE = 4;
 
     private Entity player;
     private List<Entity> enemies;
     private List<Entity> bosses;
     private List<Entity> friendlyNPCs;
     private List<Entity> minigameNPCs;
-    private Texture miniMapBackground;
-    private Image greenDotPointImage;
-    private List<Image> redDotPointImages;
-    private List<Image> blueDotPointImages;
-    private List<Image> largeRedPointImages;
-    private List<Image> purplePointImages;
     private GameArea gameArea;
     private int scaleFactor = 50;
     private float miniMapX = 15;  // Minimap's X position on the screen
@@ -39,6 +57,21 @@ public class MiniMapDisplay extends UIComponent {
     float centerY = miniMapY + (float) miniMapDiameter / 2;
     float minimapRadius = (float) miniMapDiameter / 2;
     int frameCount;
+    private int refreshInterval = DEFAULT_REFRESH_INTERVAL;
+
+    // GL resources, created on the first draw and kept until disposed
+    private SpriteBatch miniMapBatch;
+    private FrameBuffer backgroundBuffer;
+    private TextureRegion background;
+    private Texture dotTexture;
+    private int screenWidth;
+    private int screenHeight;
+
+    // dots from the last refresh, reused between refreshes
+    private float[] dots = new float[64 * DOT_STRIDE];
+    private int dotCount = 0;
+    private final Array<Entity> nearby = new Array<>(false, 64);
+    private final Vector2 searchCentre = new Vector2();
 
     /**
      * Default constructor for MiniMapDisplay. Initializes all entity lists.
@@ -71,181 +104,210 @@ public class MiniMapDisplay extends UIComponent {
         bosses = gameArea.getBosses();
         friendlyNPCs = gameArea.getFriendlyNPCs();
         minigameNPCs = gameArea.getMinigameNPCs();
-        redDotPointImages = new ArrayList<>();
-        blueDotPointImages = new ArrayList<>();
-        largeRedPointImages = new ArrayList<>();
-        purplePointImages = new ArrayList<>();
         initializeMiniMap();
     }
 
     /**
-     * Initializes the minimap's center, radius, and background image.
+     * Initializes the minimap's center and radius.
      */
     private void initializeMiniMap() {
         centerX = miniMapX + (float) miniMapDiameter / 2;
         centerY = miniMapY + (float) miniMapDiameter / 2;
         minimapRadius = (float) miniMapDiameter / 2;
-        miniMapBackground = new Texture("images/minimap/minimap_background_land.png");
-
-        initializeAllImages();
     }
 
     /**
-     * Initializes all dot images for player, enemies, bosses, friendly NPCs, and minigame NPCs.
+     * Transfers the world position of an entity to the corresponding minimap position.
+     *
+     * @param entity the entity to transfer.
+     * @return the position of the entity on the minimap.
      */
-    public void initializeAllImages() {
-        initializeGreenDotImages();
-        initializeRedDotImages();
-        initializeBlueDotImages();
-        initializeLargeRedPointImages();
-        initializePurplePointImages();
+    public Vector2 transferToMiniMapPos(Entity entity) {
+        return new Vector2(toMiniMapX(entity), toMiniMapY(entity));
     }
 
-    /**
-     * Initializes the green dot image representing the player on the minimap.
-     */
-    public void initializeGreenDotImages() {
-        greenDotPointImage = new Image(new Texture("images/minimap/greenDotPoint.png"));
-        greenDotPointImage.setSize(15, 15);
-        stage.addActor(greenDotPointImage);
+    private float toMiniMapX(Entity entity) {
+        return (entity.getPositionX() - player.getPositionX()) / scaleFactor * miniMapDiameter
+                + miniMapX + (float) miniMapDiameter / 2;
+    }
+
+    private float toMiniMapY(Entity entity) {
+        return (entity.getPositionY() - player.getPositionY()) / scaleFactor * miniMapDiameter
+                + miniMapY + (float) miniMapDiameter / 2;
     }
 
     /**
-     * Initializes red dot images for each enemy on the minimap.
+     * Recalculates the dots for every enemy, friendly NPC, boss and minigame NPC within the
+     * minimap. When the entity service is available only the entities near the player are looked
+     * at, and each is shown by its {@link Entity#getMiniMapCategory() minimap category}. Otherwise
+     * every entity in the game area's lists is checked.
      */
-    public void initializeRedDotImages() {
-        for (int i = 0; i < enemies.size(); i++) {
-            Image redDotImage = new Image(new Texture("images/minimap/redDotPoint.png"));
-            redDotImage.setSize(10, 10);
-            redDotPointImages.add(redDotImage);
-            stage.addActor(redDotImage);  // Add the red dot actor to the stage
+    public void updateAllPoints() {
+        dotCount = 0;
+        EntityService entityService = ServiceLocator.getEntityService();
+        if (entityService == null || entityService.getSpatialIndex() == null) {
+            addDots(enemies, MiniMapCategory.ENEMY);
+            addDots(friendlyNPCs, MiniMapCategory.FRIENDLY_NPC);
+            addDots(bosses, MiniMapCategory.BOSS);
+            addDots(minigameNPCs, MiniMapCategory.MINIGAME_NPC);
+            return;
+        }
+
+        // the edge of the minimap is this far from the player in world units
+        float range = minimapRadius * scaleFactor / miniMapDiameter;
+        searchCentre.set(player.getPositionX(), player.getPositionY());
+        entityService.getEntitiesInRadius(searchCentre, range, null, nearby);
+        for (int i = 0; i < nearby.size; i++) {
+            MiniMapCategory category = nearby.get(i).getMiniMapCategory();
+            if (category != null) {
+                addDot(nearby.get(i), category);
+            }
         }
+        nearby.clear();
     }
 
-    /**
-     * Initializes blue dot images for friendly NPCs on the minimap.
-     */
-    public void initializeBlueDotImages() {
-        for (int i = 0; i < friendlyNPCs.size(); i++) {
-            Image blueDotImage = new Image(new Texture("images/minimap/blueDotPoint.png"));
-            blueDotImage.setSize(10, 10);
-            blueDotPointImages.add(blueDotImage);
-            stage.addActor(blueDotImage);  // Add the red dot actor to the stage
+    private void addDots(List<Entity> entities, MiniMapCategory category) {
+        for (int i = 0; i < entities.size(); i++) {
+            addDot(entities.get(i), category);
         }
     }
 
-    /**
-     * Initializes large red dot images for bosses on the minimap.
-     */
-    public void initializeLargeRedPointImages() {
-        for (int i = 0; i < bosses.size(); i++) {
-            Image largeRedDotImage = new Image(new Texture("images/minimap/redDotPoint.png"));
-            largeRedDotImage.setSize(30, 30);
-            largeRedPointImages.add(largeRedDotImage);
-            stage.addActor(largeRedDotImage);  // Add the red dot actor to the stage
+    private void addDot(Entity entity, MiniMapCategory category) {
+        float x = toMiniMapX(entity);
+        float y = toMiniMapY(entity);
+        if (Vector2.dst2(centerX, centerY, x, y) > minimapRadius * minimapRadius) {
+            return;
+        }
+        int offset = dotCount * DOT_STRIDE;
+        if (offset + DOT_STRIDE > dots.length) {
+            float[] grown = new float[dots.length * 2];
+            System.arraycopy(dots, 0, grown, 0, dots.length);
+            dots = grown;
         }
+        dots[offset] = x;
+        dots[offset + 1] = y;
+        dots[offset + 2] = category.getDotSize();
+        dots[offset + 3] = category.ordinal();
+        dotCount++;
     }
 
     /**
-     * Initializes purple dot images for minigame NPCs on the minimap.
+     * Counts frames, recalculating the dots every refresh interval.
      */
-    public void initializePurplePointImages() {
-        for (int i = 0; i < minigameNPCs.size(); i++) {
-            Image purpleDotImage = new Image(new Texture("images/minimap/purpleDotPoint.png"));
-            purpleDotImage.setSize(10, 10);
-            purplePointImages.add(purpleDotImage);
-            stage.addActor(purpleDotImage);  // Add the red dot actor to the stage
+    @Override
+    public void update() {
+        if (frameCount++ % refreshInterval == 0) {
+            updateAllPoints();
         }
     }
 
     /**
-     * Transfers the world position of an entity to the corresponding minimap position.
+     * Draws the minimap background, the dots and the player on the screen.
      *
-     * @param entity the entity to transfer.
-     * @return the position of the entity on the minimap.
+     * @param batch the sprite batch used for drawing the world.
      */
-    public Vector2 transferToMiniMapPos(Entity entity) {
-        Vector2 playerPos = player.getPosition();
-        Vector2 entityPos = entity.getPosition();
-
-        Vector2 entityMiniMapPos = new Vector2(
-                (entityPos.x - playerPos.x) / scaleFactor * miniMapDiameter,
-                (entityPos.y - playerPos.y) / scaleFactor * miniMapDiameter
-        );
-        entityMiniMapPos.add(miniMapX + (float)  miniMapDiameter / 2,
-                miniMapY + (float) miniMapDiameter / 2);
+    @Override
+    protected void draw(SpriteBatch batch) {
+        if (miniMapBatch == null) {
+            createGraphics();
+        }
+        if (batch != null) {
+            // the world batch is still drawing, so send what it has so far before drawing over it
+            batch.flush();
+        }
+        if (screenWidth != Gdx.graphics.getWidth() || screenHeight != Gdx.graphics.getHeight()) {
+            screenWidth = Gdx.graphics.getWidth();
+            screenHeight = Gdx.graphics.getHeight();
+            miniMapBatch.getProjectionMatrix().setToOrtho2D(0, 0, screenWidth, screenHeight);
+        }
 
-        return entityMiniMapPos;
+        miniMapBatch.begin();
+        miniMapBatch.draw(background, miniMapX, miniMapY, miniMapDiameter, miniMapDiameter);
+        for (int i = 0; i < dotCount; i++) {
+            int offset = i * DOT_STRIDE;
+            float size = dots[offset + 2];
+            miniMapBatch.setColor(CATEGORIES[(int) dots[offset + 3]].getColour());
+            miniMapBatch.draw(dotTexture, dots[offset], dots[offset + 1], size, size);
+        }
+        // the player is always in the middle
+        miniMapBatch.setColor(Color.GREEN);
+        miniMapBatch.draw(dotTexture, centerX, centerY, PLAYER_DOT_SIZE, PLAYER_DOT_SIZE);
+        miniMapBatch.setColor(Color.WHITE);
+        miniMapBatch.end();
     }
 
     /**
-     * Updates the positions of the dot points (entities) on the minimap.
-     *
-     * @param pointImages the list of dot images (e.g., enemies, NPCs, or bosses).
-     * @param entities    the list of corresponding entities.
+     * Creates the minimap's batch and dot texture, and draws the background into a frame buffer so
+     * it is not scaled again every frame.
      */
-    private void updatePoints(List<Image> pointImages, List<Entity> entities) {
-        if (pointImages.size() != entities.size()) {
-            if (pointImages.equals(redDotPointImages)) {
-                initializeRedDotImages();
-            } else if (pointImages.equals(blueDotPointImages)) {
-                initializeBlueDotImages();
-            } else if (pointImages.equals(largeRedPointImages)) {
-                initializeLargeRedPointImages();
-            } else if (pointImages.equals(purplePointImages)) {
-                initializePurplePointImages();
-            }
-        }
-
-        for (int i = 0; i < entities.size(); i++) {
-            Entity enemy = entities.get(i);
-            Vector2 enemyMiniMapPos = transferToMiniMapPos(enemy);
-
-            float distanceFromCenter = Vector2.dst(centerX, centerY, enemyMiniMapPos.x, enemyMiniMapPos.y);
-            if (distanceFromCenter <= minimapRadius) {
-                pointImages.get(i).setVisible(true);
-                pointImages.get(i).setPosition(enemyMiniMapPos.x, enemyMiniMapPos.y);
-            } else {
-                pointImages.get(i).setVisible(false);
-            }
-        }
+    private void createGraphics() {
+        miniMapBatch = new SpriteBatch();
+
+        Pixmap dot = new Pixmap(DOT_TEXTURE_SIZE, DOT_TEXTURE_SIZE, Pixmap.Format.RGBA8888);
+        dot.setColor(Color.WHITE);
+        dot.fillCircle(DOT_TEXTURE_SIZE / 2, DOT_TEXTURE_SIZE / 2, DOT_TEXTURE_SIZE / 2 - 1);
+        dotTexture = new Texture(dot);
+        dotTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        dot.dispose();
+
+        Texture backgroundTexture = ResourceService.acquireTexture(BACKGROUND_TEXTURE);
+        backgroundBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, miniMapDiameter, miniMapDiameter,
+                false);
+        backgroundBuffer.begin();
+        // clear to transparent, then put back the colour the screen is cleared with
+        FloatBuffer clearColour = BufferUtils.newFloatBuffer(4);
+        Gdx.gl.glGetFloatv(GL20.GL_COLOR_CLEAR_VALUE, clearColour);
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        Gdx.gl.glClearColor(clearColour.get(0), clearColour.get(1), clearColour.get(2),
+                clearColour.get(3));
+        miniMapBatch.getProjectionMatrix().setToOrtho2D(0, 0, miniMapDiameter, miniMapDiameter);
+        miniMapBatch.begin();
+        miniMapBatch.draw(backgroundTexture, 0, 0, miniMapDiameter, miniMapDiameter);
+        miniMapBatch.end();
+        backgroundBuffer.end();
+        ResourceService.releaseTexture(BACKGROUND_TEXTURE);
+
+        // frame buffers are upside down
+        background = new TextureRegion(backgroundBuffer.getColorBufferTexture());
+        background.flip(false, true);
+        // set the screen projection on the first draw
+        screenWidth = -1;
+        screenHeight = -1;
     }
 
     /**
-     * Updates all dot points on the minimap, including enemies, friendly NPCs, bosses, and minigame NPCs.
+     * Sets how often the dots are recalculated. The player's dot is always drawn in the middle.
+     *
+     * @param frames number of frames between recalculating the dots, at least 1
      */
-    public void updateAllPoints() {
-        updatePoints(redDotPointImages, enemies);
-        updatePoints(blueDotPointImages, friendlyNPCs);
-        updatePoints(largeRedPointImages, bosses);
-        updatePoints(purplePointImages, minigameNPCs);
+    public void setRefreshInterval(int frames) {
+        this.refreshInterval = Math.max(frames, 1);
     }
 
     /**
-     * Updates the minimap, adjusting the player and entity positions each frame.
+     * @return number of dots drawn for entities other than the player
      */
-    @Override
-    public void update() {
-        // Update blue point position (player on the minimap)
-        Vector2 playerMiniMapPos = transferToMiniMapPos(player);
-        greenDotPointImage.setPosition(playerMiniMapPos.x, playerMiniMapPos.y);
-        frameCount++;
-        if (frameCount % 15 == 0) {
-            updateAllPoints();
-        }
+    public int getDotCount() {
+        return dotCount;
     }
 
     /**
-     * Draws the minimap background on the screen.
-     *
-     * @param batch the sprite batch used for drawing the minimap.
+     * Releases the minimap's batch, frame buffer and dot texture.
      */
     @Override
-    protected void draw(SpriteBatch batch) {
-        SpriteBatch batchDupe = new SpriteBatch();
-        batchDupe.begin();
-        batchDupe.draw(miniMapBackground, miniMapX, miniMapY, miniMapDiameter, miniMapDiameter);
-        batchDupe.end();
+    public void dispose() {
+        disposeGraphics();
+        super.dispose();
+    }
+
+    private void disposeGraphics() {
+        if (miniMapBatch != null) {
+            miniMapBatch.dispose();
+            backgroundBuffer.dispose();
+            dotTexture.dispose();
+            miniMapBatch = null;
+        }
     }
 
     /**
@@ -293,6 +355,7 @@ public class MiniMapDisplay extends UIComponent {
     public void setMiniMapPosition(float posX, float posY) {
         this.miniMapX = posX;
         this.miniMapY = posY;
+        initializeMiniMap();
     }
 
     /**
@@ -302,6 +365,9 @@ public class MiniMapDisplay extends UIComponent {
      */
     public void setMiniMapDiameter(int size) {
         this.miniMapDiameter = size;
+        initializeMiniMap();
+        // the background is redrawn at the new size on the next draw
+        disposeGraphics();
     }
 
 
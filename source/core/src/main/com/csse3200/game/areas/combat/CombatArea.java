@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.csse3200.game.areas.GameArea;
 import com.csse3200.game.gamestate.GameState;
+import com.csse3200.game.services.AssetBundle;
 import com.csse3200.game.services.AudioManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +33,15 @@ public class CombatArea extends GameArea {
     private GridPoint2 playerSpawn = new GridPoint2(290,  335); // 9, 14...384, 256 // 290, 335
 
     private CombatTerrainFactory combatTerrainFactory;
+    /** Sounds are left to stream in while the fight starts. */
+    public static final AssetBundle ASSETS = new AssetBundle("combat area")
+            .addTextures(CombatAreaConfig.combatTexture, true)
+            .addTextureAtlases(CombatAreaConfig.forestTextureAtlases, true)
+            .addMusic(CombatAreaConfig.forestMusic, true)
+            .addMusic(CombatAreaConfig.combatBackgroundMusic, true)
+            .addSounds(CombatAreaConfig.forestSounds, false)
+            .addSounds(CombatAreaConfig.questSounds, false)
+            .addSounds(CombatAreaConfig.combatSounds, false);
     private static final GridPoint2 MAP_SIZE = new GridPoint2(1030, 590);
 
     private Entity enemy;
@@ -358,30 +368,13 @@ public class CombatArea extends GameArea {
     private void loadAssets() {
         logger.debug("Loading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(CombatAreaConfig.combatTexture);
-        resourceService.loadTextureAtlases(CombatAreaConfig.forestTextureAtlases);
-        resourceService.loadSounds(CombatAreaConfig.forestSounds);
-        resourceService.loadMusic(CombatAreaConfig.forestMusic);
-        resourceService.loadSounds(CombatAreaConfig.questSounds);
-        resourceService.loadSounds(CombatAreaConfig.combatSounds);
-        resourceService.loadMusic(CombatAreaConfig.combatBackgroundMusic);
-
-        while (!resourceService.loadForMillis(10)) {
-            // This could be upgraded to a loading screen
-            logger.info("Loading... {}%", resourceService.getProgress());
-        }
+        resourceService.loadBundle(ASSETS);
+        resourceService.finishLoadingCritical(ASSETS);
     }
 
     public void unloadAssets() {
         logger.debug("Unloading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(CombatAreaConfig.combatTexture);
-        resourceService.unloadAssets(CombatAreaConfig.forestTextureAtlases);
-        resourceService.unloadAssets(CombatAreaConfig.forestSounds);
-        resourceService.unloadAssets(CombatAreaConfig.forestMusic);
-        resourceService.unloadAssets(CombatAreaConfig.questSounds);
-        resourceService.unloadAssets(CombatAreaConfig.combatSounds);
-        resourceService.unloadAssets(CombatAreaConfig.combatBackgroundMusic);
+        ServiceLocator.getResourceService().unloadBundle(ASSETS);
     }
 
     @Override
@@ -19,6 +19,7 @@ import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.GdxGame;
 import com.csse3200.game.areas.MapHandler.MapType;
+import com.csse3200.game.areas.MiniMap.MiniMapCategory;
 import com.csse3200.game.areas.terrain.TerrainFactory;
 import com.csse3200.game.areas.terrain.TerrainFactory.TerrainType;
 import com.csse3200.game.areas.terrain.TerrainLoader;
@@ -38,6 +39,7 @@ import com.csse3200.game.entities.factories.ObstacleFactory;
 import com.csse3200.game.entities.factories.PlayerFactory;
 import com.csse3200.game.entities.factories.ProjectileFactory;
 import com.csse3200.game.physics.components.ColliderComponent;
+import com.csse3200.game.services.AssetBundle;
 import com.csse3200.game.services.AudioManager;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
@@ -57,6 +59,17 @@ public class ForestGameArea extends GameArea {
     private static final GridPoint2 PLAYER_SPAWN = new GridPoint2(MAP_SIZE.x / 2, 10);
     private static final float WALL_LENGTH = 0.1f;
     private static final String UNLOCK_AREA_EVENT = "unlockArea";
+    /**
+     * Assets of the forest area. Sounds are only played once something happens, so they are left to
+     * stream in after the area is shown.
+     */
+    public static final AssetBundle ASSETS = new AssetBundle("forest area")
+            .addTextures(ForestTexturesConfig.FOREST_TEXTURES, true)
+            .addTextureAtlases(ForestTexturesConfig.FOREST_TEXTURE_ATLASES, true)
+            .addMusic(new String[]{"sounds/track_2.mp3"}, true)
+            .addMusic(ForestSoundsConfig.GAME_MUSIC, true)
+            .addSounds(ForestSoundsConfig.GAME_SOUNDS, false)
+            .addSounds(ForestSoundsConfig.CHARACTER_SOUNDS, false);
     private final TerrainFactory terrainFactory;
     private final ArrayList<Entity> area1To2 = new ArrayList<>();
     private final ArrayList<Entity> area2To3 = new ArrayList<>();
@@ -119,6 +132,8 @@ public class ForestGameArea extends GameArea {
         player = spawnPlayer();
         logger.debug("Player is at ({}, {})", player.getPosition().x, player.getPosition().y);
         TerrainLoader.setInitials(player.getPosition(), terrain);
+        // only simulate entities in the chunks around the player
+        ServiceLocator.getEntityService().setActiveChunks(terrain.getActiveChunks());
 
         // Obstacles
         spawnTrees();
@@ -140,6 +155,9 @@ public class ForestGameArea extends GameArea {
         //Friendlies
         spawnFriendlyNPCs();
 
+        // deactivate the bodies just spawned outside the chunks around the player
+        ServiceLocator.getPhysicsService().getPhysics().setActiveChunks(terrain.getActiveChunks());
+
         playMusic();
         player.getEvents().addListener("setPosition", this::handleNewChunks);
         player.getEvents().addListener("spawnLandBoss", this::spawnKangarooBoss);
@@ -378,6 +396,7 @@ private void unlockOceanArea() {
             kangarooBoss.getEvents().addListener("spawnJoey", this::spawnJoeyEnemy);
             spawnBossOnMap(kangarooBoss);
             bosses.add(kangarooBoss);
+            kangarooBoss.setMiniMapCategory(MiniMapCategory.BOSS);
             kangarooBossSpawned = true;
         }
     }
@@ -388,6 +407,7 @@ private void unlockOceanArea() {
             waterBoss.getEvents().addListener("spawnWaterSpiral", this::spawnWaterSpiral);
             spawnBossOnMap(waterBoss);
             bosses.add(waterBoss);
+            waterBoss.setMiniMapCategory(MiniMapCategory.BOSS);
             waterBossSpawned = true;
         }
     }
@@ -398,6 +418,7 @@ private void unlockOceanArea() {
             airBoss.getEvents().addListener("spawnWindGust", this::spawnWindGust);
             spawnBossOnMap(airBoss);
             bosses.add(airBoss);
+            airBoss.setMiniMapCategory(MiniMapCategory.BOSS);
             airBossSpawned = true;
         }
     }
@@ -885,6 +906,7 @@ private void unlockOceanArea() {
             GridPoint2 randomPos = RandomUtils.random(minPos, maxPos);
             Entity npc = creator.get();
             friendlyNPCs.add(npc);
+            npc.setMiniMapCategory(MiniMapCategory.FRIENDLY_NPC);
             spawnEntityAt(npc, randomPos, true, false);
         }
     }
@@ -906,6 +928,7 @@ private void unlockOceanArea() {
             GridPoint2 randomPos = RandomUtils.random(minPos, maxPos);
             Entity npc = creator.get();
             minigameNPCs.add(npc);
+            npc.setMiniMapCategory(MiniMapCategory.MINIGAME_NPC);
             spawnEntityAt(npc, randomPos, true, false);
         }
     }
@@ -937,6 +960,7 @@ private void unlockOceanArea() {
             Entity enemy = creator.get();
             spawnEntityAt(enemy, randomPos, true, false);
             enemies.add(enemy);
+            enemy.setMiniMapCategory(MiniMapCategory.ENEMY);
             enemy.addComponent(new ProximityComponent(player, proximityRange)); // Add ProximityComponent
         }
     }
@@ -950,6 +974,7 @@ private void unlockOceanArea() {
             Entity enemy = creator.get();
             spawnEntityAt(enemy, randomPos, true, false);
             enemies.add(enemy);
+            enemy.setMiniMapCategory(MiniMapCategory.ENEMY);
             enemy.addComponent(new ProximityComponent(player, proximityRange)); // Add ProximityComponent
             enemy.getEvents().addListener("Shoot", this::spawnProjectile);
         }
@@ -986,6 +1011,7 @@ private void unlockOceanArea() {
             Entity enemy = creator.get();
             spawnEntityAt(enemy, randomPos, true, false);
             enemies.add(enemy);
+            enemy.setMiniMapCategory(MiniMapCategory.ENEMY);
             enemy.addComponent(new ProximityComponent(player, proximityRange));
             enemy.getEvents().addListener("spawnBee", this::spawnBee);
         }
@@ -994,6 +1020,7 @@ private void unlockOceanArea() {
     private void spawnBee(Entity bee, Vector2 pos) {
         spawnEntityAtVector(bee, pos);
         enemies.add(bee);
+        bee.setMiniMapCategory(MiniMapCategory.ENEMY);
     }
 
     private void spawnJoeyEnemy(Entity kangaroo) {
@@ -1010,6 +1037,7 @@ private void unlockOceanArea() {
 
             spawnEntityAt(joey, spawnPos, true, true);
             enemies.add(joey);
+            joey.setMiniMapCategory(MiniMapCategory.ENEMY);
         }
     }
 
@@ -1042,27 +1070,14 @@ private void unlockOceanArea() {
     public void loadAssets() {
         logger.debug("LOADING ASSETS");
         ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadMusic(new String[]{"sounds/BGM_03_mp3.mp3", "sounds/track_2.mp3"});
-
-        resourceService.loadTextures(ForestTexturesConfig.FOREST_TEXTURES);
-        resourceService.loadTextureAtlases(ForestTexturesConfig.FOREST_TEXTURE_ATLASES);
-        resourceService.loadSounds(ForestSoundsConfig.GAME_SOUNDS);
-        resourceService.loadMusic(ForestSoundsConfig.GAME_MUSIC);
-        resourceService.loadSounds(ForestSoundsConfig.CHARACTER_SOUNDS);
-        while (!resourceService.loadForMillis(10)) {
-            // This could be upgraded to a loading screen
-            logger.debug("Loading... {}%", resourceService.getProgress());
-        }
+        resourceService.loadBundle(ASSETS);
+        resourceService.finishLoadingCritical(ASSETS);
     }
 
     @Override
     public void unloadAssets() {
         logger.debug("UNLOADING ASSETS");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(ForestTexturesConfig.FOREST_TEXTURES);
-        resourceService.unloadAssets(ForestTexturesConfig.FOREST_TEXTURE_ATLASES);
-        resourceService.unloadAssets(ForestSoundsConfig.GAME_SOUNDS);
-        resourceService.unloadAssets(ForestSoundsConfig.GAME_MUSIC);
+        ServiceLocator.getResourceService().unloadBundle(ASSETS);
     }
 
     @Override
@@ -1,7 +1,6 @@
 package com.csse3200.game.areas.terrain;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
@@ -67,7 +66,7 @@ public class CombatTerrainFactory {
         // Determine the background image based on terrain type
         if (terrainType.equals(TerrainType.FOREST_DEMO)) {
             // backgroundTextureRegion = new TextureRegion(resourceService.getAsset("images/combat_background.png", Texture.class));
-            backgroundTextureRegion = new TextureRegion(resourceService.getAsset("images/air_background.png", Texture.class));
+            backgroundTextureRegion = new TextureRegion(resourceService.getRegion("images/air_background.png"));
         } else {
             return null;
         }
@@ -122,7 +121,7 @@ public class CombatTerrainFactory {
         // Determine the background image based on terrain type
         if (terrainType.equals(TerrainType.FOREST_DEMO)) {
             // backgroundTextureRegion = new TextureRegion(resourceService.getAsset("images/combat_background.png", Texture.class));
-            backgroundTextureRegion = new TextureRegion(resourceService.getAsset("images/land_background.png", Texture.class));
+            backgroundTextureRegion = new TextureRegion(resourceService.getRegion("images/land_background.png"));
         } else {
             return null;
         }
@@ -177,7 +176,7 @@ public class CombatTerrainFactory {
         // Determine the background image based on terrain type
         if (terrainType.equals(TerrainType.FOREST_DEMO)) {
             // backgroundTextureRegion = new TextureRegion(resourceService.getAsset("images/combat_background.png", Texture.class));
-            backgroundTextureRegion = new TextureRegion(resourceService.getAsset("images/water_background.png", Texture.class));
+            backgroundTextureRegion = new TextureRegion(resourceService.getRegion("images/water_background.png"));
         } else {
             return null;
         }
@@ -1,14 +1,13 @@
 package com.csse3200.game.areas.terrain;
 
-import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.areas.forest.ForestGameArea;
 import com.csse3200.game.areas.MapHandler.MapType;
 import com.csse3200.game.areas.terrain.tiles.Tile;
@@ -20,12 +19,17 @@ import com.csse3200.game.areas.terrain.enums.*;
  */
 public class TerrainChunk {
   public static final int CHUNK_SIZE = 16;
+  // tile used for cells where no tile fits its neighbours
+  private static final int DEFAULT_TILE = 4;
+  // solvers are reused between chunks, one per generating thread
+  private static final ThreadLocal<WaveFunctionSolver> SOLVER =
+      ThreadLocal.withInitial(WaveFunctionSolver::new);
 
   private GridPoint2 position;
   private TiledMap tiledMap;
-
-  public Array<BitSet> grid;
-  private BitSet collapsedTiles;
+  // solved tile index of each cell, relative to the tiles of inArea
+  private final int[] tiles = new int[CHUNK_SIZE * CHUNK_SIZE];
+  private boolean released = false;
 
   private Map<String, Integer> tileTypeCount;
   int totalTiles = 0;
@@ -35,8 +39,6 @@ public class TerrainChunk {
     this.position = position;
     this.tiledMap = map;
     this.tileTypeCount = new HashMap<>();
-    this.grid = new Array<>(256);
-    this.collapsedTiles = new BitSet(256);
   }
 
   /**
@@ -48,9 +50,26 @@ public class TerrainChunk {
    */
   public void generateTiles(GridPoint2 chunkPos, Map<GridPoint2, TerrainChunk> loadedChunks,
       TerrainResource terrainResource) {
-    int cPosX = chunkPos.x * CHUNK_SIZE;
-    int cPosY = chunkPos.y * CHUNK_SIZE;
+    TerrainChunk[] neighbours = new TerrainChunk[] {
+        loadedChunks.get(new GridPoint2(chunkPos.x, chunkPos.y - 1)),
+        loadedChunks.get(new GridPoint2(chunkPos.x, chunkPos.y + 1)),
+        loadedChunks.get(new GridPoint2(chunkPos.x - 1, chunkPos.y)),
+        loadedChunks.get(new GridPoint2(chunkPos.x + 1, chunkPos.y))
+    };
+    solveTiles(terrainResource, neighbours, MathUtils.random);
+    commitTiles(terrainResource);
+  }
 
+  /**
+   * Choose the tiles for this chunk without touching the tiled map. This only reads the terrain
+   * resource and the tiles of already solved neighbours, so it may run on a worker thread.
+   *
+   * @param terrainResource The terrain resource to use for generating the terrain
+   * @param neighbours      The solved chunks below, above, left and right of this one, or null
+   *                        where there is no solved chunk
+   * @param random          Source of randomness for this chunk
+   */
+  void solveTiles(TerrainResource terrainResource, TerrainChunk[] neighbours, Random random) {
     // if chunk is in another area, then terrainResource load asset for that area
     // INFO: The Map is equally divided into three areas. Each area is 16x10 tiles wide.
     inArea = checkAreaType(position);
@@ -61,120 +80,141 @@ public class TerrainChunk {
       default -> totalTiles = terrainResource.getTileSize(TileLocation.AIR);
     }
 
-    for (int i = 0; i < 256; ++i) {
-      BitSet bitset = new BitSet(totalTiles);
-      bitset.set(0, totalTiles, true);
-      this.grid.add(bitset);
-    }
-
-    updateGrid(terrainResource);
-
-    while (true)
-      if (collapseAll(cPosX, cPosY, terrainResource))
-        break;
-  }
+    WaveFunctionSolver solver = SOLVER.get();
+    solver.reset(terrainResource.getTileRules(inArea));
+    constrainBorders(solver, terrainResource, neighbours);
+    solver.solve(random);
 
-  private MapType checkAreaType(GridPoint2 chunkPos) {
-    if (chunkPos.y < (ForestGameArea.MAP_SIZE.y / 16) / 3) {
-      return MapType.FOREST;
-    } else if (chunkPos.y < (ForestGameArea.MAP_SIZE.y / 16) / 3 * 2) {
-        return MapType.WATER;
-    } else {
-      return MapType.AIR;
+    // any tile left without a possible tile gets the default tile
+    for (int i = 0; i < WaveFunctionSolver.CELLS; ++i) {
+      int tileIndex = solver.getTile(i);
+      tiles[i] = tileIndex == WaveFunctionSolver.UNCOLLAPSED ? DEFAULT_TILE : tileIndex;
     }
   }
 
-  public Map<String, Integer> getTileTypeCount() {return tileTypeCount;}
-
   /**
-   * Fill all tile in the chunk return true if all tiles are collapsed, false
-   * otherwise
-   *
-   * @param cPosX           x position of the chunk
-   * @param cPosY           y position of the chunk
-   * @param terrainResource Terrain resource to use for generating the terrain
+   * Write the solved tiles into the tiled map. Must be called on the render thread.
    *
-   * @return true if all tiles are collapsed, false otherwise
+   * @param terrainResource The terrain resource the tiles were solved with
    */
-  private boolean collapseAll(int cPosX, int cPosY, TerrainResource terrainResource) {
-    boolean allCollapsed = true;
-    for (int t = 0; t < 256; ++t) {
-
-      int minentropy = Integer.MAX_VALUE;
-      for (int i = 0; i < grid.size; ++i) {
-        int entropy = grid.get(i).cardinality();
-        if (entropy < minentropy && entropy > 0) {
-          minentropy = entropy;
-        }
-      }
-
-      // get all minentropy tiles to an array and random pick one of them
-      Array<Integer> minentropyTiles = new Array<>();
-      for (int i = 0; i < grid.size; ++i) {
-        if (grid.get(i).cardinality() == minentropy) {
-          minentropyTiles.add(i);
-        }
-      }
-
-      if (minentropyTiles.size == 0)
-        break;
-
-      Integer randomTile = minentropyTiles.random();
-
-      // ranodm pick a tile
-      int randomTrueBitIndex = randomPickTile(grid.get(randomTile));
+  void commitTiles(TerrainResource terrainResource) {
+    int cPosX = position.x * CHUNK_SIZE;
+    int cPosY = position.y * CHUNK_SIZE;
+    for (int i = 0; i < WaveFunctionSolver.CELLS; ++i) {
+      collapseTile(cPosX + i % CHUNK_SIZE, cPosY + i / CHUNK_SIZE, terrainResource, tiles[i]);
+    }
+  }
 
+  /**
+   * Remove this chunk's cells from the tiled map, keeping its solved tiles.
+   * Must be called on the render thread.
+   */
+  void releaseTiles() {
+    int cPosX = position.x * CHUNK_SIZE;
+    int cPosY = position.y * CHUNK_SIZE;
+    TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(0);
+    TiledMapTileLayer fogLayer = null;
+    if (inArea == MapType.WATER) {
+      fogLayer = (TiledMapTileLayer) tiledMap.getLayers().get(1);
+    } else if (inArea == MapType.AIR) {
+      fogLayer = (TiledMapTileLayer) tiledMap.getLayers().get(2);
+    }
 
-      // clear all bit of the picked cell as filled tile
-      grid.get(randomTile).clear(); // collapsed
+    for (int i = 0; i < WaveFunctionSolver.CELLS; ++i) {
+      layer.setCell(cPosX + i % CHUNK_SIZE, cPosY + i / CHUNK_SIZE, null);
+      if (fogLayer != null)
+        fogLayer.setCell(cPosX + i % CHUNK_SIZE, cPosY + i / CHUNK_SIZE, null);
+    }
+    tileTypeCount.clear();
+    released = true;
+  }
 
-      collapseTile(cPosX + randomTile % 16, cPosY + randomTile / 16, terrainResource, randomTrueBitIndex);
-      collapsedTiles.set(randomTile);
+  /**
+   * @return true if this chunk's cells have been removed from the map by {@link #releaseTiles()}
+   */
+  boolean isReleased() {
+    return released;
+  }
 
-      updateGrid(terrainResource);
+  /**
+   * Get the solved tiles of this chunk as one byte per cell, so an evicted chunk can be restored
+   * with {@link #restoreTiles(byte[])} without being solved again. Every area has far fewer than
+   * 256 tiles, so an unsigned byte holds any tile index.
+   *
+   * @return The tile index of each cell
+   */
+  byte[] compactTiles() {
+    byte[] compact = new byte[tiles.length];
+    for (int i = 0; i < tiles.length; ++i) {
+      compact[i] = (byte) tiles[i];
     }
-    // set the rest of the empty tiles
-    setDefaultTiles(cPosX, cPosY, terrainResource);
-
-    return allCollapsed;
+    return compact;
   }
 
   /**
-   * random pick a tile from the possible tiles
+   * Set the solved tiles of this chunk from {@link #compactTiles()}, ready to be committed.
    *
-   * @param bitSet The possible tiles
-   * @return the index of the picked tile
+   * @param compact The tile index of each cell
    */
-  private int randomPickTile(BitSet bitSet) {
-    int numTrueBits = bitSet.cardinality();
-    int randomTrueBitIndex = 0;
-    if (numTrueBits > 0) {
-      int randomIndex = ((int) (MathUtils.random() * numTrueBits));
-      randomTrueBitIndex = bitSet.nextSetBit(0);
-      for (int i = 0; i < randomIndex; i++)
-        randomTrueBitIndex = bitSet.nextSetBit(randomTrueBitIndex + 1);
+  void restoreTiles(byte[] compact) {
+    inArea = checkAreaType(position);
+    for (int i = 0; i < tiles.length; ++i) {
+      tiles[i] = compact[i] & 0xFF;
     }
-    return randomTrueBitIndex;
   }
 
   /**
-   * Set the rest of the empty tiles to a default tile.
+   * Restrict the cells on the edge of this chunk to the tiles allowed by the neighbouring chunks
+   * that have already been solved.
    *
-   * @param cPosX           x position of the chunk
-   * @param cPosY           y position of the chunk
-   * @param terrainResource Terrain resource to use for generating the terrain
+   * @param solver          The solver for this chunk
+   * @param terrainResource The terrain resource the neighbours were solved with
+   * @param neighbours      The chunks below, above, left and right of this one
    */
-  private void setDefaultTiles(int cPosX, int cPosY, TerrainResource terrainResource) {
-    int currentBit = 0;
-    for (int i = 0; i < collapsedTiles.size() - collapsedTiles.cardinality(); ++i) {
-      currentBit = collapsedTiles.nextClearBit(currentBit);
-      collapseTile(cPosX + currentBit % 16, cPosY + currentBit / 16, terrainResource, 4);
-      currentBit++;
+  private void constrainBorders(WaveFunctionSolver solver, TerrainResource terrainResource,
+      TerrainChunk[] neighbours) {
+    TerrainChunk down = neighbours[0];
+    TerrainChunk up = neighbours[1];
+    TerrainChunk left = neighbours[2];
+    TerrainChunk right = neighbours[3];
+    int top = (CHUNK_SIZE - 1) * CHUNK_SIZE;
+    for (int i = 0; i < CHUNK_SIZE; ++i) {
+      if (down != null)
+        solver.constrain(i, down.getTile(terrainResource, top + i).getUp());
+
+      if (up != null)
+        solver.constrain(top + i, up.getTile(terrainResource, i).getDown());
+
+      if (left != null)
+        solver.constrain(i * CHUNK_SIZE, left.getTile(terrainResource, i * CHUNK_SIZE + CHUNK_SIZE - 1).getRight());
+
+      if (right != null)
+        solver.constrain(i * CHUNK_SIZE + CHUNK_SIZE - 1, right.getTile(terrainResource, i * CHUNK_SIZE).getLeft());
+    }
+  }
+
+  private Tile getTile(TerrainResource terrainResource, int cell) {
+    return terrainResource.getMapTilebyIndex(tiles[cell], inArea);
+  }
+
+  public GridPoint2 getPosition() {
+    return position;
+  }
+
+  private MapType checkAreaType(GridPoint2 chunkPos) {
+    if (chunkPos.y < (ForestGameArea.MAP_SIZE.y / 16) / 3) {
+      return MapType.FOREST;
+    } else if (chunkPos.y < (ForestGameArea.MAP_SIZE.y / 16) / 3 * 2) {
+        return MapType.WATER;
+    } else {
+      return MapType.AIR;
     }
   }
 
+  public Map<String, Integer> getTileTypeCount() {return tileTypeCount;}
+
   /**
-   *  Set the selected tile on the map.
+   *  Set the selected tile on the map, using the terrain resource's shared cell for the tile.
    *  Also strores the type of the tile infomation 
    *
    *  @param x               x position of the tile
@@ -183,24 +223,18 @@ public class TerrainChunk {
    *  @param tileIndex       The index of the tile to set
    */
   private void collapseTile(int x, int y, TerrainResource terrainResource, int tileIndex) {
-    CCell cell = new CCell();
     Tile tile = terrainResource.getMapTilebyIndex(tileIndex, inArea);
-    cell.setTile(tile, terrainResource);
-    ((TiledMapTileLayer) tiledMap.getLayers().get(0)).setCell(x, y, cell);
+    ((TiledMapTileLayer) tiledMap.getLayers().get(0))
+        .setCell(x, y, terrainResource.getMapCellbyIndex(tileIndex, inArea));
 
     if (inArea == MapType.WATER) {
-      CCell fogCell = new CCell();
-      Tile fogTile = terrainResource.getMapTilebyIndex(0, MapType.FOG);
-      fogCell.setTile(fogTile, terrainResource);
-      ((TiledMapTileLayer) tiledMap.getLayers().get(1)).setCell(x, y, fogCell);
+      ((TiledMapTileLayer) tiledMap.getLayers().get(1))
+          .setCell(x, y, terrainResource.getMapCellbyIndex(0, MapType.FOG));
     } else if (inArea == MapType.AIR) {
-      CCell fogCell = new CCell();
-      Tile fogTile = terrainResource.getMapTilebyIndex(0, MapType.FOG);
-      fogCell.setTile(fogTile, terrainResource);
-      ((TiledMapTileLayer) tiledMap.getLayers().get(2)).setCell(x, y, fogCell);
+      ((TiledMapTileLayer) tiledMap.getLayers().get(2))
+          .setCell(x, y, terrainResource.getMapCellbyIndex(0, MapType.FOG));
     }
 
-
     if (tileTypeCount.containsKey(tile.getCentre())) {
       tileTypeCount.put(tile.getCentre(), tileTypeCount.get(tile.getCentre()) + 1);
     } else {
@@ -218,74 +252,4 @@ public class TerrainChunk {
   public Integer getTileTypeCount(String tileType) {
     return tileTypeCount.get(tileType);
   }
-
-  /**
-   * Update the grid of possible tiles for each cell in the chunk.
-   */
-  private void updateGrid(TerrainResource terrainResource) {
-    for (int i = 0; i < grid.size; ++i) {
-      int x = position.x * 16 + (i % 16);
-      int y = position.y * 16 + (i / 16);
-      CCell thisCell = ((CCell) ((TiledMapTileLayer) tiledMap.getLayers().get(0)).getCell(x, y));
-      if (thisCell != null)
-        continue;
-      int tSize = terrainResource.getMapTiles(inArea).size();
-      BitSet up = new BitSet(tSize);
-      BitSet down = new BitSet(tSize);
-      BitSet left = new BitSet(tSize);
-      BitSet right = new BitSet(tSize);
-      up.set(0, tSize, true);
-      down.set(0, tSize, true);
-      left.set(0, tSize, true);
-      right.set(0, tSize, true);
-
-      // position is the chunk position, needs to be converted to world position
-      CCell upcell = (CCell) ((TiledMapTileLayer) tiledMap.getLayers().get(0)).getCell(x, y + 1);
-      if (upcell != null)
-        up = upcell.getDown();
-
-      CCell downcell = (CCell) ((TiledMapTileLayer) tiledMap.getLayers().get(0)).getCell(x, y - 1);
-      if (downcell != null)
-        down = downcell.getUp();
-
-      CCell leftcell = (CCell) ((TiledMapTileLayer) tiledMap.getLayers().get(0)).getCell(x - 1, y);
-      if (leftcell != null)
-        left = leftcell.getRight();
-
-      CCell rightcell = (CCell) ((TiledMapTileLayer) tiledMap.getLayers().get(0)).getCell(x + 1, y);
-      if (rightcell != null)
-        right = rightcell.getLeft();
-
-      grid.set(i, analyseTile(up, down, left, right, grid.get(i)));
-    }
-  }
-
-  /**
-   * Analyse the possible tiles for a given cell based on the surrounding cells.
-   * 
-   * @param up             The cell above this cell
-   * @param down           The cell below this cell
-   * @param left           The cell to the left of this cell
-   * @param right          The cell to the right of this cell
-   * @param currentBitCell The current bitset for this cell
-   *
-   * @return The updated bitset for this cell
-   */
-  private BitSet analyseTile(BitSet up, BitSet down, BitSet left, BitSet right,
-      BitSet currentBitCell) {
-    BitSet gridCell = currentBitCell;
-    if (up != null)
-      currentBitCell.and(up);
-
-    if (down != null)
-      currentBitCell.and(down);
-
-    if (left != null)
-      currentBitCell.and(left);
-
-    if (right != null)
-      currentBitCell.and(right);
-
-    return gridCell;
-  }
 }
@@ -0,0 +1,163 @@
+package com.csse3200.game.areas.terrain;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.GridPoint2;
+
+/**
+ * Bounded cache of the terrain chunks that are loaded into the tiled map.
+ *
+ * <p>Once more than {@code capacity} chunks are loaded, the least recently used chunks that are not
+ * active are evicted: their cells are removed from the map and their tiles are kept as a compact
+ * array of tile indices. Loading an evicted chunk again restores exactly the same tiles without
+ * running wave function collapse.
+ */
+public class TerrainChunkCache {
+  public static final int DEFAULT_CAPACITY = 128;
+
+  private final int capacity;
+  private final TiledMap tiledMap;
+  // loaded chunks, least recently used first
+  private final LinkedHashMap<GridPoint2, TerrainChunk> resident = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<GridPoint2, byte[]> evicted = new HashMap<>();
+
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  /**
+   * Create a chunk cache for a tiled map.
+   *
+   * @param tiledMap The map chunks are loaded into
+   * @param capacity The number of chunks to keep loaded before evicting inactive ones
+   */
+  public TerrainChunkCache(TiledMap tiledMap, int capacity) {
+    this.tiledMap = tiledMap;
+    this.capacity = capacity;
+  }
+
+  /**
+   * Get a chunk so that it is loaded into the map, restoring it if it was evicted. Counts a hit
+   * if the chunk was loaded or could be restored, and a miss if it has to be generated.
+   *
+   * @param chunkPos        The position of the chunk
+   * @param terrainResource The terrain resource the chunk was generated with
+   * @return The loaded chunk, or null if it has never been generated
+   */
+  public TerrainChunk load(GridPoint2 chunkPos, TerrainResource terrainResource) {
+    TerrainChunk chunk = resident.get(chunkPos);
+    if (chunk == null) {
+      byte[] tiles = evicted.remove(chunkPos);
+      if (tiles == null) {
+        misses++;
+        return null;
+      }
+      chunk = new TerrainChunk(chunkPos, tiledMap);
+      chunk.restoreTiles(tiles);
+      chunk.commitTiles(terrainResource);
+      resident.put(chunkPos, chunk);
+    }
+    hits++;
+    return chunk;
+  }
+
+  /**
+   * Get the solved tiles of a chunk without loading it into the map or counting a hit. An evicted
+   * chunk is returned detached from the map, which is enough to read its tiles.
+   *
+   * @param chunkPos The position of the chunk
+   * @return The chunk, or null if it has never been generated
+   */
+  public TerrainChunk peek(GridPoint2 chunkPos) {
+    TerrainChunk chunk = resident.get(chunkPos);
+    if (chunk == null) {
+      byte[] tiles = evicted.get(chunkPos);
+      if (tiles != null) {
+        chunk = new TerrainChunk(chunkPos, tiledMap);
+        chunk.restoreTiles(tiles);
+      }
+    }
+    return chunk;
+  }
+
+  /**
+   * Get a loaded chunk.
+   *
+   * @param chunkPos The position of the chunk
+   * @return The chunk, or null if it is not loaded
+   */
+  public TerrainChunk get(GridPoint2 chunkPos) {
+    return resident.get(chunkPos);
+  }
+
+  /**
+   * Add a chunk which has just been committed to the map.
+   *
+   * @param chunk The chunk
+   */
+  public void put(TerrainChunk chunk) {
+    evicted.remove(chunk.getPosition());
+    resident.put(chunk.getPosition(), chunk);
+  }
+
+  /**
+   * Evict least recently used chunks until the cache is within capacity. Active chunks are never
+   * evicted, so the cache may stay over capacity if they do not all fit.
+   *
+   * @param activeChunks The chunks around the player which must stay loaded
+   */
+  public void evict(Set<GridPoint2> activeChunks) {
+    Iterator<Map.Entry<GridPoint2, TerrainChunk>> entries = resident.entrySet().iterator();
+    while (resident.size() > capacity && entries.hasNext()) {
+      Map.Entry<GridPoint2, TerrainChunk> entry = entries.next();
+      if (activeChunks.contains(entry.getKey()))
+        continue;
+
+      TerrainChunk chunk = entry.getValue();
+      chunk.releaseTiles();
+      evicted.put(entry.getKey(), chunk.compactTiles());
+      entries.remove();
+      evictions++;
+    }
+  }
+
+  /**
+   * @return The number of chunks currently loaded into the map
+   */
+  public int getResidentCount() {
+    return resident.size();
+  }
+
+  /**
+   * @return The number of evicted chunks kept as tile indices
+   */
+  public int getEvictedCount() {
+    return evicted.size();
+  }
+
+  /**
+   * @return The number of chunk loads served without generating the chunk
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * @return The number of chunk loads which needed the chunk to be generated
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * @return The number of chunks evicted from the map
+   */
+  public long getEvictions() {
+    return evictions;
+  }
+}
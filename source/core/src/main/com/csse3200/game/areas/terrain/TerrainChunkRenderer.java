@@ -0,0 +1,346 @@
+package com.csse3200.game.areas.terrain;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Renders an orthogonal chunked terrain from prebuilt geometry. The first time a loaded chunk is
+ * seen, its cells on every visible layer are uploaded into a static vertex buffer, grouped by
+ * texture, and from then on drawing the chunk is one draw call per texture. Only chunks which
+ * overlap the camera are drawn.
+ *
+ * <p>Geometry is thrown away when its chunk is evicted from the {@link TerrainChunkCache}, and all
+ * geometry is rebuilt when a layer is shown or hidden, e.g. when the fog over an area is lifted.
+ */
+public class TerrainChunkRenderer implements Disposable {
+  private static final int CHUNK_SIZE = TerrainChunk.CHUNK_SIZE;
+  private static final int VERTEX_SIZE = 5;
+  private static final int VERTICES_PER_SPRITE = 4;
+  private static final int INDICES_PER_SPRITE = 6;
+  private static final float WHITE = Color.WHITE_FLOAT_BITS;
+
+  private final TiledMap tiledMap;
+  private final TerrainChunkCache chunkCache;
+  private final float unitScale;
+  private final Map<GridPoint2, ChunkGeometry> geometry = new HashMap<>();
+  private final GridPoint2 lookup = new GridPoint2();
+  private ShaderProgram shader;
+  private boolean[] layerVisible = new boolean[0];
+
+  // scratch space for grouping a chunk's cells by texture
+  private final Cell[] cells = new Cell[CHUNK_SIZE * CHUNK_SIZE];
+  private final boolean[] placed = new boolean[CHUNK_SIZE * CHUNK_SIZE];
+  private float[] vertices = new float[2 * CHUNK_SIZE * CHUNK_SIZE * VERTICES_PER_SPRITE * VERTEX_SIZE];
+  private int vertexCount = 0;
+
+  private int drawCalls = 0;
+  private int chunksDrawn = 0;
+  private long drawNanos = 0;
+
+  /**
+   * @param tiledMap   The map the chunks are loaded into
+   * @param chunkCache The loaded chunks
+   * @param unitScale  World units per tile map pixel
+   */
+  public TerrainChunkRenderer(TiledMap tiledMap, TerrainChunkCache chunkCache, float unitScale) {
+    this.tiledMap = tiledMap;
+    this.chunkCache = chunkCache;
+    this.unitScale = unitScale;
+  }
+
+  /**
+   * Draw every loaded chunk which overlaps the camera's view. Leaves this renderer's shader
+   * bound, so any batch drawing afterwards needs to rebind its own.
+   *
+   * @param camera The camera to render to
+   */
+  public void render(OrthographicCamera camera) {
+    long start = System.nanoTime();
+    drawCalls = 0;
+    chunksDrawn = 0;
+    if (shader == null) {
+      shader = SpriteBatch.createDefaultShader();
+    }
+    checkLayerVisibility();
+    pruneEvicted();
+
+    TiledMapTileLayer base = (TiledMapTileLayer) tiledMap.getLayers().get(0);
+    float chunkWidth = CHUNK_SIZE * base.getTileWidth() * unitScale;
+    float chunkHeight = CHUNK_SIZE * base.getTileHeight() * unitScale;
+    float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+    float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+    int minX = MathUtils.floor((camera.position.x - halfWidth) / chunkWidth);
+    int maxX = MathUtils.floor((camera.position.x + halfWidth) / chunkWidth);
+    int minY = MathUtils.floor((camera.position.y - halfHeight) / chunkHeight);
+    int maxY = MathUtils.floor((camera.position.y + halfHeight) / chunkHeight);
+
+    Gdx.gl.glEnable(GL20.GL_BLEND);
+    Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    shader.bind();
+    shader.setUniformMatrix("u_projTrans", camera.combined);
+    shader.setUniformi("u_texture", 0);
+
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        TerrainChunk chunk = chunkCache.get(lookup.set(x, y));
+        if (chunk == null)
+          continue;
+
+        ChunkGeometry chunkGeometry = geometry.get(lookup);
+        if (chunkGeometry == null || chunkGeometry.chunk != chunk) {
+          if (chunkGeometry != null)
+            chunkGeometry.dispose();
+          chunkGeometry = build(chunk);
+          geometry.put(new GridPoint2(x, y), chunkGeometry);
+        }
+        if (chunkGeometry.mesh == null)
+          continue;
+
+        chunkGeometry.mesh.bind(shader);
+        int offset = 0;
+        for (int i = 0; i < chunkGeometry.textures.size; i++) {
+          int count = chunkGeometry.counts.get(i) * INDICES_PER_SPRITE;
+          chunkGeometry.textures.get(i).bind(0);
+          chunkGeometry.mesh.render(shader, GL20.GL_TRIANGLES, offset, count, false);
+          offset += count;
+          drawCalls++;
+        }
+        chunkGeometry.mesh.unbind(shader);
+        chunksDrawn++;
+      }
+    }
+    drawNanos = System.nanoTime() - start;
+  }
+
+  /**
+   * Throw away all prebuilt geometry, so that it is rebuilt from the map the next time each chunk
+   * is drawn. Call this after changing cells in the map directly.
+   */
+  public void invalidate() {
+    for (ChunkGeometry chunkGeometry : geometry.values()) {
+      chunkGeometry.dispose();
+    }
+    geometry.clear();
+  }
+
+  /** @return The number of draw calls made by the last {@link #render} */
+  public int getDrawCalls() {
+    return drawCalls;
+  }
+
+  /** @return The number of chunks drawn by the last {@link #render} */
+  public int getChunksDrawn() {
+    return chunksDrawn;
+  }
+
+  /** @return The CPU time taken by the last {@link #render}, in nanoseconds */
+  public long getDrawNanos() {
+    return drawNanos;
+  }
+
+  @Override
+  public void dispose() {
+    invalidate();
+    if (shader != null) {
+      shader.dispose();
+      shader = null;
+    }
+  }
+
+  private void checkLayerVisibility() {
+    MapLayers layers = tiledMap.getLayers();
+    boolean changed = layerVisible.length != layers.size();
+    if (changed) {
+      layerVisible = new boolean[layers.size()];
+    }
+    for (int i = 0; i < layers.size(); i++) {
+      boolean visible = layers.get(i).isVisible();
+      changed |= layerVisible[i] != visible;
+      layerVisible[i] = visible;
+    }
+    if (changed) {
+      invalidate();
+    }
+  }
+
+  private void pruneEvicted() {
+    Iterator<Map.Entry<GridPoint2, ChunkGeometry>> entries = geometry.entrySet().iterator();
+    while (entries.hasNext()) {
+      Map.Entry<GridPoint2, ChunkGeometry> entry = entries.next();
+      if (entry.getValue().chunk.isReleased()) {
+        entry.getValue().dispose();
+        entries.remove();
+      }
+    }
+  }
+
+  /**
+   * Upload a chunk's cells on every visible layer into one mesh, layer by layer and grouped by
+   * texture within each layer.
+   */
+  private ChunkGeometry build(TerrainChunk chunk) {
+    ChunkGeometry chunkGeometry = new ChunkGeometry(chunk);
+    vertexCount = 0;
+    MapLayers layers = tiledMap.getLayers();
+    for (int i = 0; i < layers.size(); i++) {
+      if (!layers.get(i).isVisible() || !(layers.get(i) instanceof TiledMapTileLayer layer))
+        continue;
+
+      int count = collectCells(layer, chunk.getPosition());
+      int needed = (vertexCount + count * VERTICES_PER_SPRITE) * VERTEX_SIZE;
+      if (needed > vertices.length) {
+        vertices = Arrays.copyOf(vertices, needed);
+      }
+      if (count > 0) {
+        addCells(chunkGeometry, layer, chunk.getPosition());
+      }
+    }
+
+    int sprites = vertexCount / VERTICES_PER_SPRITE;
+    if (sprites == 0)
+      return chunkGeometry;
+
+    short[] indices = new short[sprites * INDICES_PER_SPRITE];
+    for (int i = 0, j = 0; i < indices.length; i += INDICES_PER_SPRITE, j += VERTICES_PER_SPRITE) {
+      indices[i] = (short) j;
+      indices[i + 1] = (short) (j + 1);
+      indices[i + 2] = (short) (j + 2);
+      indices[i + 3] = (short) (j + 2);
+      indices[i + 4] = (short) (j + 3);
+      indices[i + 5] = (short) j;
+    }
+    chunkGeometry.mesh = new Mesh(true, vertexCount, indices.length,
+        new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+        new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+        new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+    chunkGeometry.mesh.setVertices(vertices, 0, vertexCount * VERTEX_SIZE);
+    chunkGeometry.mesh.setIndices(indices);
+    return chunkGeometry;
+  }
+
+  private int collectCells(TiledMapTileLayer layer, GridPoint2 chunkPos) {
+    int count = 0;
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = layer.getCell(chunkPos.x * CHUNK_SIZE + i % CHUNK_SIZE,
+          chunkPos.y * CHUNK_SIZE + i / CHUNK_SIZE);
+      placed[i] = cells[i] == null || cells[i].getTile() == null;
+      if (!placed[i])
+        count++;
+    }
+    return count;
+  }
+
+  /**
+   * Add the collected cells to the chunk's vertices one texture at a time, so that each texture
+   * is bound once. Terrain tiles do not overlap, so their order does not matter otherwise.
+   */
+  private void addCells(ChunkGeometry chunkGeometry, TiledMapTileLayer layer, GridPoint2 chunkPos) {
+    float tileWidth = layer.getTileWidth() * unitScale;
+    float tileHeight = layer.getTileHeight() * unitScale;
+    for (int first = 0; first < cells.length; first++) {
+      if (placed[first])
+        continue;
+
+      Texture texture = cells[first].getTile().getTextureRegion().getTexture();
+      int count = 0;
+      for (int i = first; i < cells.length; i++) {
+        if (placed[i] || cells[i].getTile().getTextureRegion().getTexture() != texture)
+          continue;
+
+        TiledMapTile tile = cells[i].getTile();
+        float x = (chunkPos.x * CHUNK_SIZE + i % CHUNK_SIZE) * tileWidth + tile.getOffsetX() * unitScale;
+        float y = (chunkPos.y * CHUNK_SIZE + i / CHUNK_SIZE) * tileHeight + tile.getOffsetY() * unitScale;
+        addSprite(tile.getTextureRegion(), x, y);
+        placed[i] = true;
+        count++;
+      }
+      chunkGeometry.textures.add(texture);
+      chunkGeometry.counts.add(count);
+    }
+  }
+
+  /**
+   * Write one tile's quad in the same vertex layout as {@link SpriteBatch}.
+   */
+  private void addSprite(TextureRegion region, float x, float y) {
+    float x2 = x + region.getRegionWidth() * unitScale;
+    float y2 = y + region.getRegionHeight() * unitScale;
+    float u = region.getU();
+    float v = region.getV2();
+    float u2 = region.getU2();
+    float v2 = region.getV();
+    int idx = vertexCount * VERTEX_SIZE;
+    vertexCount += VERTICES_PER_SPRITE;
+
+    vertices[idx++] = x;
+    vertices[idx++] = y;
+    vertices[idx++] = WHITE;
+    vertices[idx++] = u;
+    vertices[idx++] = v;
+
+    vertices[idx++] = x;
+    vertices[idx++] = y2;
+    vertices[idx++] = WHITE;
+    vertices[idx++] = u;
+    vertices[idx++] = v2;
+
+    vertices[idx++] = x2;
+    vertices[idx++] = y2;
+    vertices[idx++] = WHITE;
+    vertices[idx++] = u2;
+    vertices[idx++] = v2;
+
+    vertices[idx++] = x2;
+    vertices[idx++] = y;
+    vertices[idx++] = WHITE;
+    vertices[idx++] = u2;
+    vertices[idx] = v;
+  }
+
+  /**
+   * The prebuilt geometry of one loaded chunk.
+   */
+  private static class ChunkGeometry implements Disposable {
+    private final TerrainChunk chunk;
+    private final Array<Texture> textures = new Array<>(false, 8);
+    // sprites drawn with each texture, in the order they appear in the mesh
+    private final IntArray counts = new IntArray(false, 8);
+    private Mesh mesh;
+
+    private ChunkGeometry(TerrainChunk chunk) {
+      this.chunk = chunk;
+    }
+
+    @Override
+    public void dispose() {
+      if (mesh != null) {
+        mesh.dispose();
+        mesh = null;
+      }
+    }
+  }
+}
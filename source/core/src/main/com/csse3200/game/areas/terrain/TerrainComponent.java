@@ -1,5 +1,8 @@
 package com.csse3200.game.areas.terrain;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import com.csse3200.game.areas.terrain.enums.*;
 import org.slf4j.Logger;
@@ -10,9 +13,14 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.BatchTiledMapRenderer;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.areas.MapHandler.MapType;
+import com.csse3200.game.concurrency.JobSystem;
+import com.csse3200.game.profiling.FrameProfiler;
 import com.csse3200.game.rendering.RenderComponent;
 
 /**
@@ -26,6 +34,12 @@ public class TerrainComponent extends RenderComponent {
   public static final int CHUNK_SIZE = 16;
 
   private static final int TERRAIN_LAYER = 0;
+  // time allowed each frame for adding background generated chunks to the map
+  private static final long COMMIT_BUDGET_NANOS = 2_000_000L;
+  // below, above, left and right, matching the order TerrainChunk expects its neighbours in
+  private static final GridPoint2[] NEIGHBOUR_OFFSETS = {
+      new GridPoint2(0, -1), new GridPoint2(0, 1), new GridPoint2(-1, 0), new GridPoint2(1, 0)
+  };
   private TiledMap tiledMap;
   private TiledMapRenderer tiledMapRenderer;
   private OrthographicCamera camera;
@@ -38,10 +52,20 @@ public class TerrainComponent extends RenderComponent {
   private Set<GridPoint2> previouslyActive = new HashSet<>();
   private Set<GridPoint2> newChunks = new HashSet<>();
   private Set<GridPoint2> oldChunks = new HashSet<>();
-  private Map<GridPoint2, TerrainChunk> loadedChunks = new HashMap<>();
+  private final TerrainChunkCache chunkCache;
+  // chunks being generated in the background, in the order they were requested
+  private final Map<GridPoint2, ChunkJob> pendingChunks = new LinkedHashMap<>();
+  private GridPoint2 centreChunk;
+  private final long terrainSeed;
   private TerrainResource terrainResource;
 
   private TiledMapRenderer renderer;
+  private TerrainChunkRenderer chunkRenderer;
+  private boolean cachedRendering = true;
+  private int drawCalls = 0;
+  private long drawNanos = 0;
+  // flushes the batch had counted before the terrain restarted it, and stopped counting
+  private int restartedBatchCalls = 0;
 
   // Constructor and other methods...
 
@@ -63,6 +87,8 @@ public class TerrainComponent extends RenderComponent {
     this.tileSize = tileSize;
     this.tiledMapRenderer = renderer;
     this.terrainResource = new TerrainResource(mapType);
+    this.terrainSeed = MathUtils.random.nextLong();
+    this.chunkCache = new TerrainChunkCache(map, TerrainChunkCache.DEFAULT_CAPACITY);
   }
 
   public Vector2 tileToWorldPosition(GridPoint2 tilePos) {
@@ -85,24 +111,102 @@ public class TerrainComponent extends RenderComponent {
   }
 
   /**
-   * Fill a chunk with tiles if it is not already loaded.
+   * Fill a chunk with tiles if it is not already loaded. The chunk is generated immediately on
+   * the calling thread, or finished off if it is already being generated in the background.
    *
    * @param chunkPos The position of the chunk to fill
    */
   public void fillChunk(GridPoint2 chunkPos) {
+    requestChunk(chunkPos);
+    ChunkJob job = pendingChunks.remove(chunkPos);
+    if (job != null) {
+      commitChunk(job);
+    }
+  }
+
+  /**
+   * Start generating a chunk in the background if it is not already loaded or being generated.
+   * Chunks that were evicted from the cache are restored straight away instead. Neighbouring
+   * chunks that are still being generated are waited on, so that the edges of chunks line up
+   * just as if they were generated one after another. A neighbour which fails to generate is
+   * left out rather than failing this chunk as well.
+   *
+   * @param chunkPos The position of the chunk to generate
+   */
+  public void requestChunk(GridPoint2 chunkPos) {
     // Check if the chunk is within the bounds of the map
-    if (loadedChunks.containsKey(chunkPos))
+    if (pendingChunks.containsKey(chunkPos) || !isInBounds(chunkPos)
+        || chunkCache.load(chunkPos, terrainResource) != null)
       return;
 
     TerrainChunk chunk = new TerrainChunk(chunkPos, tiledMap);
+    ChunkJob[] pendingNeighbours = new ChunkJob[NEIGHBOUR_OFFSETS.length];
+    TerrainChunk[] neighbours = getNeighbours(chunkPos, pendingNeighbours);
+    List<CompletableFuture<TerrainChunk>> waitFor = new ArrayList<>(NEIGHBOUR_OFFSETS.length);
+    for (ChunkJob neighbourJob : pendingNeighbours) {
+      if (neighbourJob != null)
+        waitFor.add(neighbourJob.future);
+    }
 
-    if ((chunkPos.x < 0 || chunkPos.y < 0) ||
-            (chunkPos.x >= ((TiledMapTileLayer) tiledMap.getLayers().get(0)).getWidth() ||
-                    chunkPos.y >= ((TiledMapTileLayer) tiledMap.getLayers().get(0)).getHeight()))
-      return;
+    Random random = chunkRandom(chunkPos);
+    CompletableFuture<TerrainChunk> future = CompletableFuture
+        .allOf(waitFor.toArray(new CompletableFuture[0]))
+        // a failed neighbour is left out in addFinished, so it does not fail this chunk
+        .handle((ignored, failure) -> null)
+        .thenCompose(ignored -> JobSystem.launch(() -> {
+          chunk.solveTiles(terrainResource, addFinished(neighbours, pendingNeighbours), random);
+          return chunk;
+        }));
+    pendingChunks.put(chunkPos, new ChunkJob(chunk, future));
+  }
+
+  /**
+   * Get the chunks next to a chunk, in the order {@link TerrainChunk#solveTiles} expects them.
+   *
+   * @param chunkPos          The position of the chunk
+   * @param pendingNeighbours Filled with the job generating each neighbour which is still being
+   *                          generated, whose chunk is left out of the returned neighbours
+   * @return The neighbouring chunks, with null where there is no chunk
+   */
+  private TerrainChunk[] getNeighbours(GridPoint2 chunkPos, ChunkJob[] pendingNeighbours) {
+    TerrainChunk[] neighbours = new TerrainChunk[NEIGHBOUR_OFFSETS.length];
+    for (int i = 0; i < NEIGHBOUR_OFFSETS.length; i++) {
+      GridPoint2 pos = new GridPoint2(chunkPos).add(NEIGHBOUR_OFFSETS[i]);
+      pendingNeighbours[i] = pendingChunks.get(pos);
+      if (pendingNeighbours[i] == null) {
+        neighbours[i] = chunkCache.peek(pos);
+      }
+    }
+    return neighbours;
+  }
+
+  /**
+   * Add the neighbours which have finished generating since {@link #getNeighbours} to its
+   * neighbours. Neighbours which failed or are still generating are left out. This only reads
+   * the jobs, so it may run on a worker thread.
+   *
+   * @param neighbours        Neighbours from {@link #getNeighbours}
+   * @param pendingNeighbours Jobs from {@link #getNeighbours}
+   * @return The neighbouring chunks which have been solved, with null where there is none
+   */
+  private static TerrainChunk[] addFinished(TerrainChunk[] neighbours,
+      ChunkJob[] pendingNeighbours) {
+    TerrainChunk[] finished = neighbours.clone();
+    for (int i = 0; i < pendingNeighbours.length; i++) {
+      ChunkJob neighbourJob = pendingNeighbours[i];
+      if (neighbourJob != null && neighbourJob.future.isDone()
+          && !neighbourJob.future.isCompletedExceptionally()) {
+        finished[i] = neighbourJob.chunk;
+      }
+    }
+    return finished;
+  }
 
-    chunk.generateTiles(chunkPos, loadedChunks, terrainResource);
-    loadedChunks.put(chunkPos, chunk);
+  /**
+   * @return The source of randomness for a chunk, the same every time the chunk is generated
+   */
+  private Random chunkRandom(GridPoint2 chunkPos) {
+    return new RandomXS128(terrainSeed + 31L * chunkPos.x + 1_000_003L * chunkPos.y);
   }
 
   /**
@@ -116,7 +220,9 @@ public class TerrainComponent extends RenderComponent {
 
   /**
    * Load all chunks in a given radius (a square - not circle) around the given
-   * chunk position.
+   * chunk position. Only the chunk at the centre is guaranteed to be loaded when this returns;
+   * the rest are generated in the background, nearest first, and added to the map by
+   * {@link #update()}. The next ring of chunks in the direction of travel is prefetched.
    *
    * @param chunkPos The position of the chunk to load around
    * @param r        The number of chunks away to spawn
@@ -127,19 +233,95 @@ public class TerrainComponent extends RenderComponent {
     previouslyActive.addAll(activeChunks);
     activeChunks.clear();
 
-    // Iterate over all chunks in a square of radius r around the player and spawn
-    // them in.
-    int[] moves = java.util.stream.IntStream.rangeClosed(-r, r).toArray();
-    for (int dx : moves) {
-      for (int dy : moves) {
-        GridPoint2 pos = new GridPoint2(chunkPos.x + dx, chunkPos.y + dy);
-        logger.debug("Loading Chunk at {}, {}", pos.x, pos.y);
-        fillChunk(pos);
-        activeChunks.add(pos);
+    int dirX = 0;
+    int dirY = 0;
+    if (centreChunk != null) {
+      dirX = Integer.signum(chunkPos.x - centreChunk.x);
+      dirY = Integer.signum(chunkPos.y - centreChunk.y);
+    }
+    centreChunk = new GridPoint2(chunkPos);
+
+    // Iterate over all chunks in a square of radius r around the player, one ring at a time so
+    // that the closest chunks are generated first.
+    for (int ring = 0; ring <= r; ring++) {
+      for (int dx = -ring; dx <= ring; dx++) {
+        for (int dy = -ring; dy <= ring; dy++) {
+          if (Math.max(Math.abs(dx), Math.abs(dy)) != ring)
+            continue;
+          GridPoint2 pos = new GridPoint2(chunkPos.x + dx, chunkPos.y + dy);
+          logger.debug("Loading Chunk at {}, {}", pos.x, pos.y);
+          requestChunk(pos);
+          activeChunks.add(pos);
+        }
       }
     }
 
+    // Prefetch the ring just outside the active square on the side the player is heading
+    int ahead = r + 1;
+    for (int dx = -ahead; dx <= ahead; dx++) {
+      for (int dy = -ahead; dy <= ahead; dy++) {
+        if (Math.max(Math.abs(dx), Math.abs(dy)) == ahead && dx * dirX + dy * dirY > 0)
+          requestChunk(new GridPoint2(chunkPos.x + dx, chunkPos.y + dy));
+      }
+    }
+
+    // The player is standing on this chunk, so it cannot wait for a later frame
+    fillChunk(chunkPos);
+
     updateChunkStatus();
+    chunkCache.evict(activeChunks);
+  }
+
+  /**
+   * Add chunks which have finished generating in the background to the map, stopping once the
+   * frame's time budget is used up. At least one chunk is committed per call.
+   */
+  @Override
+  public void update() {
+    long start = System.nanoTime();
+    Iterator<ChunkJob> jobs = pendingChunks.values().iterator();
+    while (jobs.hasNext()) {
+      ChunkJob job = jobs.next();
+      if (!job.future.isDone())
+        continue;
+
+      jobs.remove();
+      commitChunk(job);
+      if (System.nanoTime() - start > COMMIT_BUDGET_NANOS)
+        break;
+    }
+    chunkCache.evict(activeChunks);
+  }
+
+  /**
+   * Add a chunk that was generated in the background to the map, waiting for it if necessary.
+   *
+   * @param job The job generating the chunk
+   */
+  private void commitChunk(ChunkJob job) {
+    GridPoint2 chunkPos = job.chunk.getPosition();
+    try {
+      job.future.join();
+      job.chunk.commitTiles(terrainResource);
+      chunkCache.put(job.chunk);
+    } catch (CompletionException | CancellationException e) {
+      logger.error("Failed to generate chunk at {}, {}", chunkPos.x, chunkPos.y, e);
+      // solve it again here, from the same seed and whichever neighbours have been solved
+      ChunkJob[] pendingNeighbours = new ChunkJob[NEIGHBOUR_OFFSETS.length];
+      TerrainChunk[] neighbours = getNeighbours(chunkPos, pendingNeighbours);
+      TerrainChunk chunk = new TerrainChunk(chunkPos, tiledMap);
+      chunk.solveTiles(terrainResource, addFinished(neighbours, pendingNeighbours),
+          chunkRandom(chunkPos));
+      chunk.commitTiles(terrainResource);
+      chunkCache.put(chunk);
+    }
+  }
+
+  private boolean isInBounds(GridPoint2 chunkPos) {
+    TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(0);
+    return chunkPos.x >= 0 && chunkPos.y >= 0
+        && chunkPos.x * CHUNK_SIZE < layer.getWidth()
+        && chunkPos.y * CHUNK_SIZE < layer.getHeight();
   }
 
   private void updateChunkStatus() {
@@ -153,7 +335,16 @@ public class TerrainComponent extends RenderComponent {
   }
 
   public TerrainChunk getChunk(GridPoint2 chunkPos) {
-    return loadedChunks.get(chunkPos);
+    return chunkCache.get(chunkPos);
+  }
+
+  /**
+   * Get the cache of loaded chunks, which also keeps the hit, miss and eviction counts.
+   *
+   * @return The chunk cache
+   */
+  public TerrainChunkCache getChunkCache() {
+    return chunkCache;
   }
 
   public Set<GridPoint2> getNewChunks() {
@@ -199,12 +390,93 @@ public class TerrainComponent extends RenderComponent {
 
   @Override
   public void draw(SpriteBatch batch) {
+    if (cachedRendering && orientation == TerrainOrientation.ORTHOGONAL) {
+      if (chunkRenderer == null) {
+        TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(0);
+        chunkRenderer = new TerrainChunkRenderer(tiledMap, chunkCache, tileSize / layer.getTileWidth());
+      }
+      // the terrain binds its own shader and state, which the batch sets up again when it begins
+      boolean drawing = batch.isDrawing();
+      restartedBatchCalls = 0;
+      if (drawing) {
+        batch.end();
+        restartedBatchCalls = batch.renderCalls;
+      }
+      chunkRenderer.render(camera);
+      if (drawing) {
+        batch.begin();
+      }
+      drawCalls = chunkRenderer.getDrawCalls();
+      drawNanos = chunkRenderer.getDrawNanos();
+      reportDraw();
+      return;
+    }
+
+    restartedBatchCalls = 0;
+    long start = System.nanoTime();
     tiledMapRenderer.setView(camera);
     tiledMapRenderer.render();
+    drawNanos = System.nanoTime() - start;
+    if (tiledMapRenderer instanceof BatchTiledMapRenderer batchRenderer
+        && batchRenderer.getBatch() instanceof SpriteBatch mapBatch) {
+      drawCalls = mapBatch.renderCalls;
+    }
+    reportDraw();
+  }
+
+  private void reportDraw() {
+    FrameProfiler.set(FrameProfiler.Metric.TERRAIN, drawNanos);
+    FrameProfiler.set(FrameProfiler.Metric.TERRAIN_DRAW_CALLS, drawCalls);
+  }
+
+  /**
+   * Choose between drawing the terrain from prebuilt per-chunk geometry (the default) and walking
+   * the tiled map every frame. Cached rendering only applies to orthogonal terrain.
+   *
+   * @param cachedRendering true to draw from prebuilt geometry
+   */
+  public void setCachedRendering(boolean cachedRendering) {
+    this.cachedRendering = cachedRendering;
+  }
+
+  /**
+   * Rebuild the cached terrain geometry. Needed only if cells in the map are changed directly;
+   * chunk loading and showing or hiding layers are picked up automatically.
+   */
+  public void invalidateRenderCache() {
+    if (chunkRenderer != null) {
+      chunkRenderer.invalidate();
+    }
+  }
+
+  /**
+   * @return The number of draw calls the terrain made last frame
+   */
+  public int getDrawCalls() {
+    return drawCalls;
+  }
+
+  @Override
+  public int getUnbatchedDrawCalls() {
+    return drawCalls + restartedBatchCalls;
+  }
+
+  /**
+   * @return The CPU time spent drawing the terrain last frame, in nanoseconds
+   */
+  public long getDrawNanos() {
+    return drawNanos;
   }
 
   @Override
   public void dispose() {
+    for (ChunkJob job : pendingChunks.values()) {
+      job.future.cancel(false);
+    }
+    pendingChunks.clear();
+    if (chunkRenderer != null) {
+      chunkRenderer.dispose();
+    }
     tiledMap.dispose();
     super.dispose();
   }
@@ -219,6 +491,19 @@ public class TerrainComponent extends RenderComponent {
     return TERRAIN_LAYER;
   }
 
+  /**
+   * A chunk being generated in the background.
+   */
+  private static class ChunkJob {
+    private final TerrainChunk chunk;
+    private final CompletableFuture<TerrainChunk> future;
+
+    private ChunkJob(TerrainChunk chunk, CompletableFuture<TerrainChunk> future) {
+      this.chunk = chunk;
+      this.future = future;
+    }
+  }
+
   public TiledMap getTiledMap()
   {
 
@@ -1,7 +1,8 @@
 package com.csse3200.game.areas.terrain;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
 import com.csse3200.game.areas.FogGameAreaConfigs.FogMapTiles;
 import com.csse3200.game.areas.FogGameAreaConfigs.FogTileConfig;
 import com.csse3200.game.areas.MapHandler;
@@ -20,7 +21,9 @@ import com.csse3200.game.areas.terrain.enums.*;
 
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * TerrainResource class to store all possible tiles and their edge tiles.
@@ -39,6 +42,12 @@ public class TerrainResource {
 
     private boolean unlockedWater;
 
+    // one shared map cell per tile, so loaded chunks only hold references to these
+    private final Map<MapHandler.MapType, Cell[]> sharedCells = new EnumMap<>(MapHandler.MapType.class);
+
+    // packed adjacency rules for the wave function collapse solver
+    private final Map<MapHandler.MapType, TileRules> tileRules = new EnumMap<>(MapHandler.MapType.class);
+
     public TerrainResource(MapHandler.MapType mapType) {
         forestTiles = new ArrayList<>();
         waterTiles = new ArrayList<>();
@@ -56,7 +65,7 @@ public class TerrainResource {
                     // =======================
                     forestTiles.add(
                             new Tile(tile.id,
-                                    new TextureRegion(resourceService.getAsset(tile.fp, Texture.class)),
+                                    new TextureRegion(resourceService.getRegion(tile.fp)),
                                     tile.edges, tile.centre));
                 }
                 forestSize = forestTiles.size();
@@ -70,7 +79,7 @@ public class TerrainResource {
                 //for (OceanTileConfig tile : oceanTileConfig.waterMapTiles) {
                 for (TileConfig tile : OceanTileConfig.getWaterMapTiles()) {
                     waterTiles.add(new Tile(tile.id,
-                            new TextureRegion(resourceService.getAsset(tile.fp, Texture.class)),
+                            new TextureRegion(resourceService.getRegion(tile.fp)),
                             tile.edges,
                             tile.centre));
                 }
@@ -79,7 +88,7 @@ public class TerrainResource {
                 // load fog tiles
                 for (FogTileConfig tile : fogTileConfig.fogTiles) {
                     fogTiles.add(new Tile(tile.id,
-                            new TextureRegion(resourceService.getAsset(tile.fp, Texture.class)),
+                            new TextureRegion(resourceService.getRegion(tile.fp)),
                             tile.edges,
                             tile.centre));
                 }
@@ -88,7 +97,7 @@ public class TerrainResource {
                 // load air tiles
                 for (TileConfig tile : AirTileConfig.getAirMapTiles()) {
                     airTiles.add(new Tile(tile.id,
-                            new TextureRegion(resourceService.getAsset(tile.fp, Texture.class)),
+                            new TextureRegion(resourceService.getRegion(tile.fp)),
                             tile.edges,
                             tile.centre));
                 }
@@ -104,6 +113,32 @@ public class TerrainResource {
         }
 
         this.setPossibleTiles();
+
+        tileRules.put(MapHandler.MapType.FOREST, new TileRules(forestTiles));
+        tileRules.put(MapHandler.MapType.WATER, new TileRules(waterTiles));
+        tileRules.put(MapHandler.MapType.AIR, new TileRules(airTiles));
+        tileRules.put(MapHandler.MapType.FOG, new TileRules(fogTiles));
+
+        sharedCells.put(MapHandler.MapType.FOREST, createSharedCells(forestTiles));
+        sharedCells.put(MapHandler.MapType.WATER, createSharedCells(waterTiles));
+        sharedCells.put(MapHandler.MapType.AIR, createSharedCells(airTiles));
+        sharedCells.put(MapHandler.MapType.FOG, createSharedCells(fogTiles));
+    }
+
+    /**
+     * Create one map cell per tile of an area, with the tile's index as its id.
+     *
+     * @param areaTiles The tiles of the area
+     * @return The shared cells, in the same order as the tiles
+     */
+    private static Cell[] createSharedCells(List<Tile> areaTiles) {
+        Cell[] cells = new Cell[areaTiles.size()];
+        for (int i = 0; i < cells.length; i++) {
+            TerrainTile mapTile = new TerrainTile(areaTiles.get(i).getTexture());
+            mapTile.setId(i);
+            cells[i] = new SharedCell(mapTile);
+        }
+        return cells;
     }
 
     public List<Tile> getMapTiles(MapHandler.MapType mapType) {
@@ -238,5 +273,65 @@ public class TerrainResource {
         };
     }
 
+    /**
+     * Get the shared map cell for a tile. The same cell is placed at every position the tile is
+     * used, so it must not be modified.
+     *
+     * @param index   The index of the tile
+     * @param mapType The map type of the tile
+     * @return The cell showing the tile with the given index and map type
+     */
+    public Cell getMapCellbyIndex(int index, MapHandler.MapType mapType) {
+        Cell[] cells = sharedCells.get(mapType);
+        if (cells == null) {
+            throw new IllegalArgumentException("No such map type:" + mapType);
+        }
+        return cells[index];
+    }
+
+    /**
+     * Get the adjacency rules of an area, packed for the wave function collapse solver.
+     *
+     * @param mapType The map type of the area
+     * @return The rules for the area's tiles
+     */
+    public TileRules getTileRules(MapHandler.MapType mapType) {
+        TileRules rules = tileRules.get(mapType);
+        if (rules == null) {
+            throw new IllegalArgumentException("No such map type:" + mapType);
+        }
+        return rules;
+    }
+
     public boolean hasUnlockedWater() {return unlockedWater;}
+
+    /**
+     * A map cell shared by every position showing the same tile, which cannot be changed once
+     * created.
+     */
+    private static class SharedCell extends Cell {
+        private SharedCell(TiledMapTile tile) {
+            super.setTile(tile);
+        }
+
+        @Override
+        public Cell setTile(TiledMapTile tile) {
+            throw new UnsupportedOperationException("Shared terrain cells cannot be modified");
+        }
+
+        @Override
+        public Cell setFlipHorizontally(boolean flipHorizontally) {
+            throw new UnsupportedOperationException("Shared terrain cells cannot be modified");
+        }
+
+        @Override
+        public Cell setFlipVertically(boolean flipVertically) {
+            throw new UnsupportedOperationException("Shared terrain cells cannot be modified");
+        }
+
+        @Override
+        public Cell setRotation(int rotation) {
+            throw new UnsupportedOperationException("Shared terrain cells cannot be modified");
+        }
+    }
 }
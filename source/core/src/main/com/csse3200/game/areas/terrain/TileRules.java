@@ -0,0 +1,99 @@
+package com.csse3200.game.areas.terrain;
+
+import com.csse3200.game.areas.terrain.tiles.Tile;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Immutable adjacency rules for one area's tile set, packed into long-word masks so that the
+ * wave function collapse solver can intersect possibilities without touching {@link BitSet}s.
+ * Row {@code i} of each direction holds the tiles which may sit on that side of tile {@code i}.
+ */
+public class TileRules {
+  private final int tileCount;
+  private final int words;
+  private final long[] up;
+  private final long[] right;
+  private final long[] down;
+  private final long[] left;
+
+  /**
+   * Pack the possible neighbours of every tile in an area.
+   * The tiles must already have had their possible neighbours set by {@link TerrainResource}.
+   *
+   * @param tiles The tiles of a single area, in index order
+   */
+  public TileRules(List<Tile> tiles) {
+    this.tileCount = tiles.size();
+    this.words = wordsFor(tileCount);
+    this.up = new long[tileCount * words];
+    this.right = new long[tileCount * words];
+    this.down = new long[tileCount * words];
+    this.left = new long[tileCount * words];
+
+    for (int i = 0; i < tileCount; i++) {
+      Tile tile = tiles.get(i);
+      pack(tile.getUp(), up, i * words, words);
+      pack(tile.getRight(), right, i * words, words);
+      pack(tile.getDown(), down, i * words, words);
+      pack(tile.getLeft(), left, i * words, words);
+    }
+  }
+
+  /**
+   * Copy the bits of a bitset into a range of a long array, dropping any bits that do not fit.
+   *
+   * @param bits   The bits to copy
+   * @param dst    The destination array
+   * @param offset The first word to write
+   * @param words  The number of words to write
+   */
+  static void pack(BitSet bits, long[] dst, int offset, int words) {
+    for (int w = 0; w < words; w++) {
+      dst[offset + w] = 0L;
+    }
+    int limit = words * Long.SIZE;
+    for (int i = bits.nextSetBit(0); i >= 0 && i < limit; i = bits.nextSetBit(i + 1)) {
+      dst[offset + (i >>> 6)] |= 1L << i;
+    }
+  }
+
+  /**
+   * Get the number of long words needed to hold a mask of the given number of tiles.
+   *
+   * @param tileCount The number of tiles
+   * @return The number of words
+   */
+  static int wordsFor(int tileCount) {
+    return Math.max(1, (tileCount + Long.SIZE - 1) >>> 6);
+  }
+
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  public int getWords() {
+    return words;
+  }
+
+  /** @return the tiles which may sit above each tile, {@link #getWords()} words per tile */
+  long[] getUp() {
+    return up;
+  }
+
+  /** @return the tiles which may sit to the right of each tile, {@link #getWords()} words per tile */
+  long[] getRight() {
+    return right;
+  }
+
+  /** @return the tiles which may sit below each tile, {@link #getWords()} words per tile */
+  long[] getDown() {
+    return down;
+  }
+
+  /** @return the tiles which may sit to the left of each tile, {@link #getWords()} words per tile */
+  long[] getLeft() {
+    return left;
+  }
+}
@@ -0,0 +1,209 @@
+package com.csse3200.game.areas.terrain;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Incremental wave function collapse solver for a single terrain chunk.
+ *
+ * <p>Possible tiles for each cell are stored as long-word masks, and cells are kept in a bucket
+ * queue indexed by entropy so that the lowest entropy cells can be found without rescanning the
+ * chunk. Collapsing a cell only narrows the four cells next to it.
+ *
+ * <p>The solver consumes random numbers in exactly the same order as the original
+ * {@code BitSet}-based implementation, so a given seed produces the same chunk. A solver is not
+ * thread safe, but may be reused for any number of chunks on the thread that owns it.
+ */
+public class WaveFunctionSolver {
+  public static final int CHUNK_SIZE = TerrainChunk.CHUNK_SIZE;
+  public static final int CELLS = CHUNK_SIZE * CHUNK_SIZE;
+  /** Tile index reported for cells which ran out of possible tiles. */
+  public static final int UNCOLLAPSED = -1;
+
+  private static final int CELL_WORDS = CELLS / Long.SIZE;
+
+  private TileRules rules;
+  private int words;
+  private int lowest;
+
+  // possible tiles, 'words' longs per cell
+  private long[] possible = new long[0];
+  // cells waiting to collapse, CELL_WORDS longs per entropy value
+  private long[] buckets = new long[0];
+  private long[] scratch = new long[0];
+  private final int[] entropy = new int[CELLS];
+  private final int[] tiles = new int[CELLS];
+
+  /**
+   * Prepare the solver for a new chunk where every cell may be any tile.
+   *
+   * @param rules The adjacency rules of the area the chunk is in
+   */
+  public void reset(TileRules rules) {
+    this.rules = rules;
+    this.words = rules.getWords();
+    int tileCount = rules.getTileCount();
+
+    if (possible.length < CELLS * words) {
+      possible = new long[CELLS * words];
+      scratch = new long[words];
+    }
+    if (buckets.length < (tileCount + 1) * CELL_WORDS) {
+      buckets = new long[(tileCount + 1) * CELL_WORDS];
+    }
+    Arrays.fill(buckets, 0L);
+
+    for (int w = 0; w < words; w++) {
+      int remaining = tileCount - w * Long.SIZE;
+      scratch[w] = remaining >= Long.SIZE ? -1L : (remaining <= 0 ? 0L : (1L << remaining) - 1);
+    }
+    for (int cell = 0; cell < CELLS; cell++) {
+      System.arraycopy(scratch, 0, possible, cell * words, words);
+      entropy[cell] = tileCount;
+      tiles[cell] = UNCOLLAPSED;
+    }
+    if (tileCount > 0) {
+      for (int w = 0; w < CELL_WORDS; w++) {
+        buckets[tileCount * CELL_WORDS + w] = -1L;
+      }
+    }
+    lowest = tileCount;
+  }
+
+  /**
+   * Restrict a cell to the tiles allowed by a neighbour outside of this chunk.
+   *
+   * @param cell    Index of the cell, {@code x + y * CHUNK_SIZE}
+   * @param allowed The tiles the neighbour allows on this side
+   */
+  public void constrain(int cell, BitSet allowed) {
+    TileRules.pack(allowed, scratch, 0, words);
+    restrict(cell, scratch, 0);
+  }
+
+  /**
+   * Collapse every cell, picking the lowest entropy cell each time.
+   *
+   * @param random Source of randomness, normally {@code MathUtils.random}
+   */
+  public void solve(Random random) {
+    while (true) {
+      int e = nextEntropy();
+      if (e == 0) {
+        return;
+      }
+
+      int base = e * CELL_WORDS;
+      int count = 0;
+      for (int w = 0; w < CELL_WORDS; w++) {
+        count += Long.bitCount(buckets[base + w]);
+      }
+
+      int cell = selectBit(buckets, base, CELL_WORDS, random.nextInt(count));
+      int tile = selectBit(possible, cell * words, words, (int) (random.nextFloat() * e));
+      collapse(cell, tile);
+    }
+  }
+
+  /**
+   * Get the tile a cell collapsed to.
+   *
+   * @param cell Index of the cell, {@code x + y * CHUNK_SIZE}
+   * @return The tile index, or {@link #UNCOLLAPSED} if no tile fitted
+   */
+  public int getTile(int cell) {
+    return tiles[cell];
+  }
+
+  private void collapse(int cell, int tile) {
+    unqueue(cell, entropy[cell]);
+    entropy[cell] = 0;
+    for (int w = 0; w < words; w++) {
+      possible[cell * words + w] = 0L;
+    }
+    tiles[cell] = tile;
+
+    int x = cell % CHUNK_SIZE;
+    int y = cell / CHUNK_SIZE;
+    int offset = tile * words;
+    if (y + 1 < CHUNK_SIZE) {
+      restrict(cell + CHUNK_SIZE, rules.getUp(), offset);
+    }
+    if (y > 0) {
+      restrict(cell - CHUNK_SIZE, rules.getDown(), offset);
+    }
+    if (x > 0) {
+      restrict(cell - 1, rules.getLeft(), offset);
+    }
+    if (x + 1 < CHUNK_SIZE) {
+      restrict(cell + 1, rules.getRight(), offset);
+    }
+  }
+
+  private void restrict(int cell, long[] mask, int offset) {
+    int e = entropy[cell];
+    if (e == 0) {
+      return;
+    }
+
+    int base = cell * words;
+    int count = 0;
+    for (int w = 0; w < words; w++) {
+      possible[base + w] &= mask[offset + w];
+      count += Long.bitCount(possible[base + w]);
+    }
+    if (count == e) {
+      return;
+    }
+
+    unqueue(cell, e);
+    entropy[cell] = count;
+    if (count > 0) {
+      buckets[count * CELL_WORDS + (cell >>> 6)] |= 1L << cell;
+      lowest = Math.min(lowest, count);
+    }
+  }
+
+  private void unqueue(int cell, int e) {
+    buckets[e * CELL_WORDS + (cell >>> 6)] &= ~(1L << cell);
+  }
+
+  /**
+   * Find the lowest non-zero entropy of any cell still waiting to collapse.
+   *
+   * @return The entropy, or 0 if every cell has collapsed or ran out of tiles
+   */
+  private int nextEntropy() {
+    int tileCount = rules.getTileCount();
+    for (int e = Math.max(lowest, 1); e <= tileCount; e++) {
+      int base = e * CELL_WORDS;
+      for (int w = 0; w < CELL_WORDS; w++) {
+        if (buckets[base + w] != 0L) {
+          lowest = e;
+          return e;
+        }
+      }
+    }
+    lowest = tileCount;
+    return 0;
+  }
+
+  /**
+   * Find the n-th set bit (counting from zero) in a range of words.
+   */
+  private static int selectBit(long[] bits, int offset, int words, int n) {
+    for (int w = 0; w < words; w++) {
+      long word = bits[offset + w];
+      int count = Long.bitCount(word);
+      if (n < count) {
+        for (int i = 0; i < n; i++) {
+          word &= word - 1;
+        }
+        return w * Long.SIZE + Long.numberOfTrailingZeros(word);
+      }
+      n -= count;
+    }
+    return 0;
+  }
+}
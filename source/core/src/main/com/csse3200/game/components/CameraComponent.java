@@ -20,10 +20,13 @@ public class CameraComponent extends Component {
 
   @Override
   public void update() {
-    Vector2 position = entity.getCenterPosition();
-    if (!lastPosition.epsilonEquals(entity.getCenterPosition())) {
-      camera.position.set(position, 0f);
-      lastPosition = position;
+    // Follow where the entity is drawn rather than its position, so that it doesn't jitter against
+    // the camera while physics is interpolated
+    float x = entity.getRenderX() + entity.getScaleX() / 2f;
+    float y = entity.getRenderY() + entity.getScaleY() / 2f;
+    if (!lastPosition.epsilonEquals(x, y)) {
+      camera.position.set(x, y, 0f);
+      lastPosition.set(x, y);
       camera.update();
     }
   }
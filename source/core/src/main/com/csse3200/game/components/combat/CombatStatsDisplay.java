@@ -13,6 +13,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 import org.slf4j.Logger;
@@ -49,7 +50,7 @@ public class CombatStatsDisplay extends UIComponent {
     private Table hoverTextTable;
     private Label hoverTextLabel;
     private Image backgroundImage;
-    private static final Texture BACKGROUND_TEXTURE = new Texture(Gdx.files.internal("images/blue-bar.png"));
+    private static final Texture BACKGROUND_TEXTURE = ResourceService.getTextureCache().acquirePermanent("images/blue-bar.png");
     private static final Skin SKIN = new Skin(Gdx.files.internal("flat-earth/skin/flat-earth-ui.json"));
 
     /**
@@ -121,11 +122,9 @@ public class CombatStatsDisplay extends UIComponent {
         playerHungerLabel = new Label(hungerText, skin, "large");
 
         // Health/XP images
-        playerHealthImage = new Image(ServiceLocator.getResourceService().getAsset("images/health_bar_x1.png",
-                Texture.class));
-        xpImage = new Image(ServiceLocator.getResourceService().getAsset("images/xp_bar.png", Texture.class));
-        playerHungerImage = new Image(ServiceLocator.getResourceService().getAsset("images/hunger_bar.png",
-                Texture.class));
+        playerHealthImage = new Image(ServiceLocator.getResourceService().getRegion("images/health_bar_x1.png"));
+        xpImage = new Image(ServiceLocator.getResourceService().getRegion("images/xp_bar.png"));
+        playerHungerImage = new Image(ServiceLocator.getResourceService().getRegion("images/hunger_bar.png"));
         barImageWidth = (playerHealthImage.getWidth() * barWidthScaling);
         barImageHeight = (playerHealthImage.getHeight() * barHeightScaling);
 
@@ -171,10 +170,8 @@ public class CombatStatsDisplay extends UIComponent {
         enemyHungerLabel = new Label(hungerText, skin, "large");
 
         // Images
-        enemyHealthImage = new Image(ServiceLocator.getResourceService().getAsset("images/health_bar_x1.png",
-                Texture.class));
-        enemyHungerImage = new Image(ServiceLocator.getResourceService().getAsset("images/hunger_bar.png",
-                Texture.class));
+        enemyHealthImage = new Image(ServiceLocator.getResourceService().getRegion("images/health_bar_x1.png"));
+        enemyHungerImage = new Image(ServiceLocator.getResourceService().getRegion("images/hunger_bar.png"));
         enemyTable.add(enemyHealthImage).size(barImageWidth, barImageHeight).pad(barLabelGap).padTop(generalPadding);
         enemyTable.add(enemyHealthLabel).align(Align.left).padRight(generalPadding).padTop(generalPadding);
         enemyTable.row();
@@ -355,7 +352,7 @@ public class CombatStatsDisplay extends UIComponent {
         float tableTopPadding = 200f;
         float tableLeftPadding = 5f;
         String statusFilePath = String.format("images/statuses/%s_stat.png", statusEffect.name().toLowerCase());
-        statusEffectImage = new Image (ServiceLocator.getResourceService().getAsset(statusFilePath, Texture.class));
+        statusEffectImage = new Image (ServiceLocator.getResourceService().getRegion(statusFilePath));
         statusTable = new Table();
         statusTable.add(statusEffectImage);
         statusTable.top().left();
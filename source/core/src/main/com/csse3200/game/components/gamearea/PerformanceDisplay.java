@@ -3,15 +3,21 @@ package com.csse3200.game.components.gamearea;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.csse3200.game.profiling.FrameProfiler;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
 /**
- * Displays performance stats about the game for debugging purposes.
+ * Displays performance stats about the game for debugging purposes. While the frame profiler is
+ * recording, also shows the percentiles of each profiled subsystem.
  */
 public class PerformanceDisplay extends UIComponent {
   private static final float Z_INDEX = 5f;
+  // sorting every metric's frames is too slow to do every frame
+  private static final int PROFILE_REFRESH_FRAMES = 30;
   private Label profileLabel;
+  private String profileSummary = "";
+  private int frame = 0;
 
   @Override
   public void create() {
@@ -26,7 +32,7 @@ public class PerformanceDisplay extends UIComponent {
 
   @Override
   public void draw(SpriteBatch batch) {
-    if (ServiceLocator.getRenderService().getDebug().getActive()) {
+    if (ServiceLocator.getRenderService().getDebug().getActive() || FrameProfiler.isEnabled()) {
       profileLabel.setVisible(true);
       profileLabel.setText(getStats());
 
@@ -45,6 +51,12 @@ public class PerformanceDisplay extends UIComponent {
         message
             .concat(String.format("FPS: %d fps%n", Gdx.graphics.getFramesPerSecond()))
             .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000));
+    if (FrameProfiler.isEnabled()) {
+      if (frame++ % PROFILE_REFRESH_FRAMES == 0) {
+        profileSummary = FrameProfiler.getSummary();
+      }
+      message = message.concat(profileSummary);
+    }
     return message;
   }
 
@@ -22,6 +22,7 @@ import com.csse3200.game.inventory.*;
 import com.csse3200.game.inventory.items.AbstractItem;
 import com.csse3200.game.inventory.items.ItemUsageContext;
 import com.csse3200.game.screens.MainGameScreen;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.ui.UIComponent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,14 +46,18 @@ public abstract class InventoryDisplay extends UIComponent {
     protected final int numRows;
     private final int hotBarCapacity;
     private final ImageButton[] slots; // Each slot corresponding to a position in the inventory
+    private final String[] slotTextures; // Texture path acquired for the item in each slot
 
     // Skins (created by @PratulW5):
     Skin inventorySkin= new Skin(Gdx.files.internal("Inventory/InventorySkin/InventorySkin.json"));
     //Textures (created by @PratulW5)
-    private final Texture hotBarTexture = new Texture("Inventory/hotbar.png");
-    private final Texture descriptionbg= new Texture("Inventory/descp.png");
+    private static final String HOT_BAR_TEXTURE = "Inventory/hotbar.png";
+    private static final String DESCRIPTION_TEXTURE = "Inventory/descp.png";
+    private static final String ALERT_TEXTURE = "Inventory/skinforalert.png";
+    private final Texture hotBarTexture = ResourceService.acquireTexture(HOT_BAR_TEXTURE);
+    private final Texture descriptionbg = ResourceService.acquireTexture(DESCRIPTION_TEXTURE);
     Label descriptionLabel = new Label("", inventorySkin);
-    private final Texture alert = new Texture(Gdx.files.internal("Inventory/skinforalert.png"));
+    private final Texture alert = ResourceService.acquireTexture(ALERT_TEXTURE);
     Drawable backgroundDrawable = new TextureRegionDrawable(new TextureRegion(alert));
     /**
      * Constructs a PlayerInventoryDisplay with the specified capacity and number of columns.
@@ -84,6 +89,7 @@ public abstract class InventoryDisplay extends UIComponent {
         this.game = game;
 
         this.slots = new ImageButton[inventory.getCapacity()];
+        this.slotTextures = new String[inventory.getCapacity()];
     }
     /**
      * Checks if the current screen is an instance of MainGameScreen.
@@ -172,7 +178,7 @@ public abstract class InventoryDisplay extends UIComponent {
                 public DragAndDrop.Payload dragStart(InputEvent event, float x, float y, int pointer) {
                     DragAndDrop.Payload payload = new DragAndDrop.Payload();
                     payload.setObject(targetIndex);
-                    Image draggedImage = new Image(new Texture(item.getTexturePath()));
+                    Image draggedImage = new Image(ResourceService.acquireTexture(item.getTexturePath()));
                     draggedImage.setSize(80, 80);
                     payload.setDragActor(draggedImage);
                     return payload;
@@ -180,6 +186,7 @@ public abstract class InventoryDisplay extends UIComponent {
                 @Override
                 public void dragStop(InputEvent event, float x, float y, int pointer, DragAndDrop.Payload payload, DragAndDrop.Target target) {
                     logger.info("Drag stopped at stage coordinates: ({}, {})", x, y);
+                    ResourceService.releaseTexture(item.getTexturePath());
 
                     // Check if the item was dragged outside the inventory and if we are on the MainGameScreen.
                     if (target == null && isMainGameScreen()) {
@@ -338,10 +345,13 @@ public abstract class InventoryDisplay extends UIComponent {
     private void createSlot(int index) {
         slots[index] = new ImageButton(inventorySkin);
         AbstractItem item = inventory.getAt(index);
+        String previousTexture = slotTextures[index];
+        slotTextures[index] = null;
         if (item != null) {
             // Add event listeners and the image to the slot
             addSlotListeners(slots[index], item, index);
-            Image itemImage = new Image(new Texture(item.getTexturePath()));
+            slotTextures[index] = item.getTexturePath();
+            Image itemImage = new Image(ResourceService.acquireTexture(item.getTexturePath()));
             slots[index].add(itemImage).center().size(70, 70);
 
             // Add a label for item quantity (subscript)
@@ -352,6 +362,10 @@ public abstract class InventoryDisplay extends UIComponent {
         }
 
         setupDragAndDrop(slots[index], index, item); // Setup drag and drop for hotBar and inventory
+        // released after acquiring the new texture, so an item staying in the slot is not reloaded
+        if (previousTexture != null) {
+            ResourceService.releaseTexture(previousTexture);
+        }
     }
 
     /**
@@ -439,6 +453,15 @@ public abstract class InventoryDisplay extends UIComponent {
             InventoryUtils.disposeGroupRecursively(hotBarDisplay);
             hotBarDisplay = null;
         }
+        for (int i = 0; i < slotTextures.length; i++) {
+            if (slotTextures[i] != null) {
+                ResourceService.releaseTexture(slotTextures[i]);
+                slotTextures[i] = null;
+            }
+        }
+        ResourceService.releaseTexture(HOT_BAR_TEXTURE);
+        ResourceService.releaseTexture(DESCRIPTION_TEXTURE);
+        ResourceService.releaseTexture(ALERT_TEXTURE);
 
         super.dispose();
     }
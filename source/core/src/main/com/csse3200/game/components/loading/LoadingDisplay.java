@@ -3,6 +3,7 @@ package com.csse3200.game.components.loading;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.csse3200.game.services.AssetBundle;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
@@ -12,11 +13,15 @@ import java.util.List;
 
 /**
  * A UI component for displaying the loading screen with a moon representing the loading progress.
+ * Given an asset bundle, the moon shows how much of the bundle has loaded and loading finishes
+ * once all of it has. Otherwise loading is shown for a fixed duration.
  */
 public class LoadingDisplay extends UIComponent {
     private static final float Z_INDEX = 2f;
     private static final float LOADING_DURATION = 6f;
     private static final float MESSAGE_INTERVAL = 2f;
+    // shown at least this long when loading a bundle, so the first message can be read
+    private static final float MIN_BUNDLE_DURATION = MESSAGE_INTERVAL;
     private Table table;
     private Label loadingLabel;
 
@@ -50,8 +55,17 @@ public class LoadingDisplay extends UIComponent {
     private int currentMessageIndex;
 
     private MoonActor moonActor;  // Moon actor to represent loading progress
+    private final AssetBundle bundle;  // Assets being loaded, or null to load for a fixed duration
 
     public LoadingDisplay() {
+        this(null);
+    }
+
+    /**
+     * @param bundle the assets being loaded, queued in the registered resource service
+     */
+    public LoadingDisplay(AssetBundle bundle) {
+        this.bundle = bundle;
         elapsedTime = 0;
         shuffleMessages();  // Shuffle the messages at the beginning
         currentMessageIndex = 0;
@@ -110,7 +124,12 @@ public class LoadingDisplay extends UIComponent {
         }
 
         // Update the progress
-        float progress = Math.min(elapsedTime / LOADING_DURATION, ServiceLocator.getResourceService().getProgress() / 100f);
+        float progress;
+        if (bundle != null) {
+            progress = ServiceLocator.getResourceService().getProgress(bundle);
+        } else {
+            progress = Math.min(elapsedTime / LOADING_DURATION, ServiceLocator.getResourceService().getProgress() / 100f);
+        }
         moonActor.setProgress(progress);  // Update moon actor progress
     }
 
@@ -120,6 +139,10 @@ public class LoadingDisplay extends UIComponent {
     }
 
     public boolean isLoadingFinished() {
+        if (bundle != null) {
+            return elapsedTime >= MIN_BUNDLE_DURATION
+                    && ServiceLocator.getResourceService().isLoaded(bundle, false);
+        }
         return elapsedTime >= LOADING_DURATION;
     }
 
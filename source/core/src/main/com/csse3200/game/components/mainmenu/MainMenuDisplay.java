@@ -961,6 +961,9 @@ public class MainMenuDisplay extends UIComponent {
         table.clear();
         dog2Texture.dispose();
         crocTexture.dispose();
+        if (minigameLeaderboard != null) {
+            minigameLeaderboard.dispose();
+        }
         super.dispose();
         clickSound.dispose();
         if (customCursor != null) {
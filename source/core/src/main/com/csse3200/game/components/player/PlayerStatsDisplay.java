@@ -1,6 +1,5 @@
 package com.csse3200.game.components.player;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -139,16 +138,16 @@ public class PlayerStatsDisplay extends UIComponent {
         initBarAnimations();
 
         // Health Dimensions
-        healthImage = new Image(ServiceLocator.getResourceService().getAsset("images/health_bar_x1.png", Texture.class));
-        xpImage = new Image(ServiceLocator.getResourceService().getAsset("images/xp_bar.png", Texture.class));
-        hungerImage = new Image(ServiceLocator.getResourceService().getAsset("images/hunger_bar.png", Texture.class));
+        healthImage = new Image(ServiceLocator.getResourceService().getRegion("images/health_bar_x1.png"));
+        xpImage = new Image(ServiceLocator.getResourceService().getRegion("images/xp_bar.png"));
+        hungerImage = new Image(ServiceLocator.getResourceService().getRegion("images/hunger_bar.png"));
 
         // Get the original width and height of the image
         float barImageWidth = (float) (healthImage.getWidth() * 0.7);
         float barImageHeight = (float) (healthImage.getHeight() * 0.4);
 
         // Vignette image setup
-        vignetteImage = new Image(ServiceLocator.getResourceService().getAsset("images/vignette.png", Texture.class));
+        vignetteImage = new Image(ServiceLocator.getResourceService().getRegion("images/vignette.png"));
         vignetteImage.setFillParent(true); // Cover the entire screen
         vignetteImage.setVisible(false); // Initially invisible
         stage.addActor(vignetteImage);
@@ -94,7 +94,7 @@ public class AchievementDisplay extends UIComponent {
 
         // Add the background to the stage
         stage.addActor(background);
-        Image rootTableBG = new Image(ServiceLocator.getResourceService().getAsset("images/logbook/lb-bg.png",Texture.class));
+        Image rootTableBG = new Image(ServiceLocator.getResourceService().getRegion("images/logbook/lb-bg.png"));
         rootTable.setBackground(rootTableBG.getDrawable());
         rootTable.center();
         float tableWidth = Gdx.graphics.getWidth() * 0.8f;  // 80% of screen width
@@ -183,15 +183,15 @@ public class AchievementDisplay extends UIComponent {
     private Table makeTabs(Table itemsTable, Table enemiesTable, Table achievementsTable) {
         Table tabButtonTable = new Table().padLeft(50);
 
-        Texture itemBG =
+        TextureRegion itemBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/lb-yellow-tab.png", Texture.class);
-        Texture enemyBG =
+                        .getRegion("images/logbook/lb-yellow-tab.png");
+        TextureRegion enemyBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/lb-red-tab.png", Texture.class);
-        Texture achievementBG =
+                        .getRegion("images/logbook/lb-red-tab.png");
+        TextureRegion achievementBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/lb-blue-tab.png", Texture.class);
+                        .getRegion("images/logbook/lb-blue-tab.png");
 
         Sound tabSound = ServiceLocator.getResourceService().getAsset(LOGBOOKSOUND, Sound.class);
 
@@ -263,16 +263,16 @@ public class AchievementDisplay extends UIComponent {
                         Actions.color(Color.GOLD, 0.5f)
                 ));
                 Sound buttonSound = ServiceLocator.getResourceService().getAsset("sounds/logbook/select_004.ogg", Sound.class);
-                Texture button =
+                TextureRegion button =
                         ServiceLocator.getResourceService()
-                                .getAsset("images/logbook/lb-yellow-btn.png", Texture.class);
-                Texture buttonPressed =
+                                .getRegion("images/logbook/lb-yellow-btn.png");
+                TextureRegion buttonPressed =
                         ServiceLocator.getResourceService()
-                                .getAsset("images/logbook/lb-yellow-btn-pressed.png", Texture.class);
+                                .getRegion("images/logbook/lb-yellow-btn-pressed.png");
 
-                ServiceLocator.getResourceService().loadAsset(achievement.getPath(), Texture.class);
+                ServiceLocator.getResourceService().loadTextures(new String[] {achievement.getPath()});
                 ServiceLocator.getResourceService().loadAll();
-                Texture icon = ServiceLocator.getResourceService().getAsset(achievement.getPath(), Texture.class);
+                TextureRegion icon = ServiceLocator.getResourceService().getRegion(achievement.getPath());
 
                 LogButton entry = new LogButton(button, buttonPressed, icon);
                 advancementCounter ++;
@@ -311,7 +311,7 @@ public class AchievementDisplay extends UIComponent {
     private Table makeExitButton() {
         Image exit = new Image(
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/lb-exit.png", Texture.class));
+                        .getRegion("images/logbook/lb-exit.png"));
 
         ImageButton exitBtn = new ImageButton(exit.getDrawable());
         addButtonElevationEffect(exitBtn);
@@ -1,6 +1,5 @@
 package com.csse3200.game.components.quests;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
@@ -18,7 +17,7 @@ public class LogButton extends ImageButton {
      * @param downTexture The texture displayed when the button is pressed.
      * @param iconTexture The texture for the icon displayed at the center of the button.
      */
-    public LogButton(Texture upTexture, Texture downTexture, Texture iconTexture) {
+    public LogButton(TextureRegion upTexture, TextureRegion downTexture, TextureRegion iconTexture) {
         super(createStyle(upTexture, downTexture, iconTexture));
     }
 
@@ -29,16 +28,16 @@ public class LogButton extends ImageButton {
      * @param iconTexture The texture for the icon displayed at the center of the button.
      * @return The constructed {@link ImageButtonStyle}.
      */
-    private static ImageButtonStyle createStyle(Texture upTexture, Texture downTexture, Texture iconTexture) {
+    private static ImageButtonStyle createStyle(TextureRegion upTexture, TextureRegion downTexture,
+                                                TextureRegion iconTexture) {
         ImageButtonStyle style = new ImageButtonStyle();
 
-        style.up = new TextureRegionDrawable(new TextureRegion(upTexture));
-        style.down = new TextureRegionDrawable(new TextureRegion(downTexture));
+        style.up = new TextureRegionDrawable(upTexture);
+        style.down = new TextureRegionDrawable(downTexture);
 
-        TextureRegion iconRegion = new TextureRegion(iconTexture);
-        TextureRegionDrawable iconDrawable = new TextureRegionDrawable(iconRegion);
+        TextureRegionDrawable iconDrawable = new TextureRegionDrawable(iconTexture);
 
-        float iconSize = Math.min(upTexture.getWidth(), upTexture.getHeight()) * 0.5f;
+        float iconSize = Math.min(upTexture.getRegionWidth(), upTexture.getRegionHeight()) * 0.5f;
         iconDrawable.setMinWidth(iconSize);
         iconDrawable.setMinHeight(iconSize);
 
@@ -1,6 +1,6 @@
 package com.csse3200.game.components.quests;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
@@ -65,9 +65,9 @@ public class TabButton extends ImageButton {
      * The same texture is used for both the button's up and down states.
      * @param text             The text to display on the button's label.
      * @param skin             The {@link Skin} used for the button's label.
-     * @param backgroundTexture The {@link Texture} used as the background image for the button.
+     * @param backgroundTexture The {@link TextureRegion} used as the background image for the button.
      */
-    public TabButton(String text, Skin skin, Texture backgroundTexture) {
+    public TabButton(String text, Skin skin, TextureRegion backgroundTexture) {
         this(text, skin, new TextureRegionDrawable(backgroundTexture));
     }
 
@@ -175,6 +175,11 @@ public class UserSettings {
         public float soundScale = 100;
         public DisplaySettings displayMode = null;
         public String selectedMusicTrack = "Track 1";
+        /**
+         * Physics steps per second in the overworld. Lower rates use less CPU, and motion is
+         * interpolated between steps so it stays smooth.
+         */
+        public int physicsTickRate = 60;
 
 
     }
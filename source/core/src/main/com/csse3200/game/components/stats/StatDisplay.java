@@ -3,6 +3,7 @@ package com.csse3200.game.components.stats;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Action;
 import com.badlogic.gdx.scenes.scene2d.Actor;
@@ -94,7 +95,7 @@ public StatDisplay(GdxGame game) {
 
         // Add the background to the stage
         stage.addActor(background);
-        Image rootTableBG = new Image(ServiceLocator.getResourceService().getAsset("images/logbook/lb-bg.png",Texture.class));
+        Image rootTableBG = new Image(ServiceLocator.getResourceService().getRegion("images/logbook/lb-bg.png"));
         rootTable.setBackground(rootTableBG.getDrawable());
         rootTable.center();
         float tableWidth = Gdx.graphics.getWidth() * 0.8f;  // 80% of screen width
@@ -208,15 +209,15 @@ public StatDisplay(GdxGame game) {
         Table tabButtonTable = new Table().padLeft(50);
 
         // Background images for the tabs
-        Texture itemBG =
+        TextureRegion itemBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/lb-yellow-tab.png", Texture.class);
-        Texture enemyBG =
+                        .getRegion("images/logbook/lb-yellow-tab.png");
+        TextureRegion enemyBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/lb-red-tab.png", Texture.class);
-        Texture playerBG =
+                        .getRegion("images/logbook/lb-red-tab.png");
+        TextureRegion playerBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/lb-blue-tab.png", Texture.class);
+                        .getRegion("images/logbook/lb-blue-tab.png");
 
         // Labels for the tab titles
         TabButton itemButton = new TabButton("Items", skin, itemBG);
@@ -275,12 +276,12 @@ public StatDisplay(GdxGame game) {
         Table tabButtonTable = new Table().padLeft(15);
 
         // Background images for the tabs
-        Texture foodBG =
+        TextureRegion foodBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/stats/lb-stats-food-tab.png", Texture.class);
-        Texture potionBG =
+                        .getRegion("images/logbook/stats/lb-stats-food-tab.png");
+        TextureRegion potionBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/stats/lb-stats-potion-tab.png", Texture.class);
+                        .getRegion("images/logbook/stats/lb-stats-potion-tab.png");
 
         // Labels for the tab titles
         TabButton foodTypeButton = new TabButton("Food", skin, foodBG);
@@ -326,15 +327,15 @@ public StatDisplay(GdxGame game) {
         Table tabButtonTable = new Table().padLeft(15);
 
         // Background images for the tabs
-        Texture landBG =
+        TextureRegion landBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/stats/lb-stats-land-tab.png", Texture.class);
-        Texture waterBG =
+                        .getRegion("images/logbook/stats/lb-stats-land-tab.png");
+        TextureRegion waterBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/stats/lb-stats-water-tab.png", Texture.class);
-        Texture airBG =
+                        .getRegion("images/logbook/stats/lb-stats-water-tab.png");
+        TextureRegion airBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/stats/lb-stats-air-tab.png", Texture.class);
+                        .getRegion("images/logbook/stats/lb-stats-air-tab.png");
 
         // Labels for the tab titles
         TabButton landTypeButton = new TabButton("Land", skin, landBG);
@@ -393,12 +394,12 @@ public StatDisplay(GdxGame game) {
         Table tabButtonTable = new Table().padLeft(15);
 
         // Background images for the tabs
-        Texture minigameBG =
+        TextureRegion minigameBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/stats/lb-stats-minigame-tab.png", Texture.class);
-        Texture combatBG =
+                        .getRegion("images/logbook/stats/lb-stats-minigame-tab.png");
+        TextureRegion combatBG =
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/stats/lb-stats-combat-tab.png", Texture.class);
+                        .getRegion("images/logbook/stats/lb-stats-combat-tab.png");
 
         // Labels for the tab titles
         TabButton minigameTypeButton = new TabButton("Minigame", skin, minigameBG);
@@ -513,7 +514,7 @@ public StatDisplay(GdxGame game) {
     private Table makeExitButton() {
         Image exit = new Image(
                 ServiceLocator.getResourceService()
-                        .getAsset("images/logbook/lb-exit.png", Texture.class));
+                        .getRegion("images/logbook/lb-exit.png"));
 
         ImageButton exitBtn = new ImageButton(exit.getDrawable());
         addButtonElevationEffect(exitBtn);
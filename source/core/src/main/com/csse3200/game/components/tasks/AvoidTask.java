@@ -1,6 +1,7 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.tasks.AISnapshot;
 import com.csse3200.game.entities.Entity;
 
 /** Moves away from a target entity until a safe distance is reached or line of sight is lost */
@@ -67,6 +68,14 @@ public class AvoidTask extends ChaseTask {
         return -1;
     }
 
+    @Override
+    public int getPriority(AISnapshot snapshot) {
+        if (getDistanceToTarget(snapshot) >= safeDistance) {
+            return -1;
+        }
+        return PRIORITY_MAIN_THREAD;
+    }
+
     /**
      * Calculates the avoidance target position based on the entity's current position,
      * the target's position, and the minimum avoidance distance.
@@ -1,6 +1,7 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.tasks.AISnapshot;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.components.settingsmenu.UserSettings;
@@ -169,10 +170,28 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
         }
         return -1;
     }
+
+    @Override
+    public int getPriority(AISnapshot snapshot) {
+        // Too far away to see the target, which can be ruled out without a raycast
+        if (getDistanceToTarget(snapshot) >= viewDistance) {
+            return -1;
+        }
+        return PRIORITY_MAIN_THREAD;
+    }
     
     protected float getDistanceToTarget() {
         return owner.getEntity().getPosition().dst(target.getPosition());
     }
+
+    /**
+     * Get the distance from this entity to the entity being chased at the start of the frame
+     * @param snapshot positions of entities at the start of the frame
+     * @return the distance, or a negative value if either entity isn't in the snapshot
+     */
+    protected float getDistanceToTarget(AISnapshot snapshot) {
+        return snapshot.distance(owner.getEntity(), target);
+    }
     
     protected boolean isTargetVisible() {
         Vector2 from = owner.getEntity().getCenterPosition();
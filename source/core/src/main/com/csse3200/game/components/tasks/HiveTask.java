@@ -2,6 +2,7 @@ package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.tasks.AISnapshot;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.entities.Entity;
@@ -41,6 +42,11 @@ public class HiveTask extends DefaultTask implements PriorityTask {
         return 11; // Low priority task
     }
 
+    @Override
+    public int getPriority(AISnapshot snapshot) {
+        return getPriority();
+    }
+
     /**
      * Starts the task by triggering the floating animation and initializing the list of bees.
      */
@@ -60,11 +66,11 @@ public class HiveTask extends DefaultTask implements PriorityTask {
     public void update() {
         elapsedTime += Gdx.graphics.getDeltaTime(); // Increment elapsed time by the frame delta time
 
-        float ownerX = owner.getEntity().getPosition().x;
-        float ownerY = owner.getEntity().getPosition().y;
+        float ownerX = owner.getEntity().getPositionX();
+        float ownerY = owner.getEntity().getPositionY();
 
-        float playerX = target.getPosition().x;
-        float playerY = target.getPosition().y;
+        float playerX = target.getPositionX();
+        float playerY = target.getPositionY();
         
         // If the player is close enough to the hive, dispose of the hive and all bees
         if (Vector2.dst2(ownerX, ownerY, playerX, playerY) < 10f) {
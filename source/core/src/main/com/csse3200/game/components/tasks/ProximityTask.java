@@ -1,5 +1,6 @@
 package com.csse3200.game.components.tasks;
 
+import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.entities.Entity;
@@ -38,11 +39,12 @@ public abstract class ProximityTask extends DefaultTask  implements PriorityTask
     @Override
     public void update() {
         super.update();
-        if(targetInProximity() && !this.hasApproached) {
+        boolean inProximity = targetInProximity();
+        if(inProximity && !this.hasApproached) {
             this.hasApproached = true;
             handleTargetMovedClose();
         }
-        else if (!targetInProximity() && this.hasApproached) {
+        else if (!inProximity && this.hasApproached) {
             this.hasApproached = false;
             handleTargetMovedAway();
         }
@@ -79,12 +81,16 @@ public abstract class ProximityTask extends DefaultTask  implements PriorityTask
 
     /**
      * Checks if the target entity is near the owner entity by calculating the
-     * distance between them and comparing it to the proximity threshold.
+     * distance between them and comparing it to the proximity threshold. The target
+     * is already known, so this is a single distance check without copying either
+     * position; use the entity service's radius queries to find unknown entities nearby.
      *
      * @return true if the target entity is within the proximity threshold,
      *         false otherwise.
      */
     protected boolean targetInProximity() {
-        return target.getPosition().dst(owner.getEntity().getPosition()) <= proximityThreshold;
+        Entity entity = owner.getEntity();
+        return Vector2.dst2(target.getPositionX(), target.getPositionY(),
+                entity.getPositionX(), entity.getPositionY()) <= proximityThreshold * proximityThreshold;
     }
 }
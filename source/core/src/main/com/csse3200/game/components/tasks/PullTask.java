@@ -1,6 +1,7 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.tasks.AISnapshot;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.ai.tasks.Task;
@@ -44,6 +45,15 @@ public class PullTask extends DefaultTask implements PriorityTask {
         return -1;
     }
 
+    @Override
+    public int getPriority(AISnapshot snapshot) {
+        // Too far away to see the target, which can be ruled out without a raycast
+        if (snapshot.distance(owner.getEntity(), target) >= viewDistance) {
+            return -1;
+        }
+        return PRIORITY_MAIN_THREAD;
+    }
+
     /**
      * @param pullDistance Distance within which the player will be pulled
      */
@@ -1,6 +1,7 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.tasks.AISnapshot;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.components.npc.EnemyAnimationController;
@@ -76,6 +77,15 @@ public class RunTask extends DefaultTask implements PriorityTask {
         }
         return -1;
     }
+
+    @Override
+    public int getPriority(AISnapshot snapshot) {
+        // Too far away to see the target, which can be ruled out without a raycast
+        if (snapshot.distance(owner.getEntity(), target) >= viewDistance) {
+            return -1;
+        }
+        return PRIORITY_MAIN_THREAD;
+    }
     
     private float getDistanceToTarget() {
         return owner.getEntity().getPosition().dst(target.getPosition());
@@ -1,6 +1,7 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.tasks.AISnapshot;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 
@@ -60,6 +61,11 @@ public class SpawnTask extends DefaultTask implements PriorityTask {
         return 0; // Highest priority for spawn task
     }
 
+    @Override
+    public int getPriority(AISnapshot snapshot) {
+        return getPriority();
+    }
+
     /**
      * Starts the spawn task, positioning the entity at the spawn location.
      */
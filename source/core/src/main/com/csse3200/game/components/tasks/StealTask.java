@@ -1,6 +1,7 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.tasks.AISnapshot;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.ai.tasks.Task;
@@ -84,6 +85,11 @@ public class StealTask extends DefaultTask implements PriorityTask {
         return 1; // Low priority task
     }
 
+    @Override
+    public int getPriority(AISnapshot snapshot) {
+        return getPriority();
+    }
+
 
 
     /**
@@ -0,0 +1,65 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * The registered entities with one component type, oldest first. Removing an entity leaves a gap
+ * in its slot instead of shifting every later entity down, and gaps are closed up in one pass the
+ * next time the entities are read or once they make up half the list. Removal is O(1) amortised,
+ * so despawning many entities at once stays linear.
+ */
+class ComponentEntities {
+  private final Array<Entity> entities = new Array<>(true, 4);
+  // slot of each entity in entities
+  private final ObjectIntMap<Entity> slots = new ObjectIntMap<>(4);
+  private int gaps = 0;
+
+  void add(Entity entity) {
+    if (slots.containsKey(entity)) {
+      return;
+    }
+    slots.put(entity, entities.size);
+    entities.add(entity);
+  }
+
+  void remove(Entity entity) {
+    int slot = slots.remove(entity, -1);
+    if (slot < 0) {
+      return;
+    }
+    entities.set(slot, null);
+    gaps++;
+    if (gaps * 2 > entities.size) {
+      compact();
+    }
+  }
+
+  /**
+   * @return The entities, oldest first and without gaps
+   */
+  Array<Entity> get() {
+    if (gaps > 0) {
+      compact();
+    }
+    return entities;
+  }
+
+  /** Close up the gaps left by removed entities, keeping the rest in order. */
+  private void compact() {
+    int size = 0;
+    for (int i = 0; i < entities.size; i++) {
+      Entity entity = entities.get(i);
+      if (entity == null) {
+        continue;
+      }
+      if (size != i) {
+        entities.set(size, entity);
+        slots.put(entity, size);
+      }
+      size++;
+    }
+    entities.truncate(size);
+    gaps = 0;
+  }
+}
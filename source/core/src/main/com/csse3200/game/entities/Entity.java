@@ -3,6 +3,7 @@ package com.csse3200.game.entities;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.IntMap;
+import com.csse3200.game.areas.MiniMap.MiniMapCategory;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ComponentType;
 import com.csse3200.game.events.EventHandler;
@@ -31,19 +32,32 @@ import java.util.List;
 public class Entity {
   private static final Logger logger = LoggerFactory.getLogger(Entity.class);
   private static int nextId = 0;
-  private static final String EVT_NAME_POS = "setPosition";
+  private static final int EVT_POS = EventHandler.getEventId("setPosition");
   private final int id;
   private final IntMap<Component> components;
   private final EventHandler eventHandler;
   private boolean enabled = true;
   private boolean created = false;
-  private Vector2 position = Vector2.Zero.cpy();
+  private final Vector2 position = new Vector2();
+  // where the entity is drawn relative to its position, e.g. while interpolating physics
+  private float renderOffsetX = 0f;
+  private float renderOffsetY = 0f;
   private Vector2 scale = new Vector2(1, 1);
   private Array<Component> createdComponents;
   private boolean isPlayer = false;
   private boolean isNormalEnemy = false;
   private EnemyType enemyType;
   private List<Entity> enemies; //used for the hive
+  private MiniMapCategory miniMapCategory;
+  // the spatial index this entity is filed in, the cell it is filed under and its slot in the cell
+  EntitySpatialIndex spatialIndex;
+  long spatialCell;
+  int spatialSlot;
+  // slots in its entity service's lists of entities and awake entities, and whether it is queued
+  // for removal
+  int serviceIndex = -1;
+  int awakeIndex = -1;
+  boolean pendingRemoval = false;
   public enum EnemyType {
     KANGAROO,
     WATER_BOSS,
@@ -117,14 +131,37 @@ public class Entity {
     return position.cpy(); // Cpy gives us pass-by-value to prevent bugs
   }
 
+  /**
+   * Get the entity's game position without allocating a new vector.
+   *
+   * @param out vector to copy the position into
+   * @return out
+   */
+  public Vector2 getPosition(Vector2 out) {
+    return out.set(position);
+  }
+
+  /**
+   * @return The entity's x position, without allocating
+   */
+  public float getPositionX() {
+    return position.x;
+  }
+
+  /**
+   * @return The entity's y position, without allocating
+   */
+  public float getPositionY() {
+    return position.y;
+  }
+
   /**
    * Set the entity's game position.
    *
    * @param position new position.
    */
   public void setPosition(Vector2 position) {
-    this.position = position.cpy();
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    setPosition(position.x, position.y);
   }
 
   /**
@@ -136,7 +173,10 @@ public class Entity {
   public void setPosition(float x, float y) {
     this.position.x = x;
     this.position.y = y;
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    moved();
+    if (getEvents().hasListener(EVT_POS)) {
+      getEvents().trigger(EVT_POS, position.cpy());
+    }
   }
 
   /**
@@ -146,9 +186,53 @@ public class Entity {
    * @param notify true to notify (default), false otherwise
    */
   public void setPosition(Vector2 position, boolean notify) {
-    this.position = position;
+    this.position.set(position);
+    moved();
     if (notify) {
-      getEvents().trigger(EVT_NAME_POS, position);
+      getEvents().trigger(EVT_POS, position);
+    }
+  }
+
+  /**
+   * @return The x position the entity is drawn at, which is its position plus its render offset
+   */
+  public float getRenderX() {
+    return position.x + renderOffsetX;
+  }
+
+  /**
+   * @return The y position the entity is drawn at, which is its position plus its render offset
+   */
+  public float getRenderY() {
+    return position.y + renderOffsetY;
+  }
+
+  /**
+   * Draw the entity away from its game position, without moving it. Used by the physics engine to
+   * draw bodies between their last two steps. Cleared whenever the position is set.
+   *
+   * @param x offset in x
+   * @param y offset in y
+   */
+  public void setRenderOffset(float x, float y) {
+    renderOffsetX = x;
+    renderOffsetY = y;
+  }
+
+  /**
+   * Get the entity's position without copying it. Must not be modified.
+   *
+   * @return position
+   */
+  Vector2 peekPosition() {
+    return position;
+  }
+
+  private void moved() {
+    renderOffsetX = 0f;
+    renderOffsetY = 0f;
+    if (spatialIndex != null) {
+      spatialIndex.move(this, position.x, position.y);
     }
   }
 
@@ -161,6 +245,20 @@ public class Entity {
     return scale.cpy(); // Cpy gives us pass-by-value to prevent bugs
   }
 
+  /**
+   * @return The entity's width in metres, without allocating
+   */
+  public float getScaleX() {
+    return scale.x;
+  }
+
+  /**
+   * @return The entity's height in metres, without allocating
+   */
+  public float getScaleY() {
+    return scale.y;
+  }
+
   /**
    * Set the entity's scale.
    *
@@ -207,7 +305,17 @@ public class Entity {
    * @return center position
    */
   public Vector2 getCenterPosition() {
-    return getPosition().mulAdd(getScale(), 0.5f);
+    return getCenterPosition(new Vector2());
+  }
+
+  /**
+   * Get the entity's center position without allocating a new vector.
+   *
+   * @param out vector to copy the center position into
+   * @return out
+   */
+  public Vector2 getCenterPosition(Vector2 out) {
+    return out.set(position).mulAdd(scale, 0.5f);
   }
 
   /**
@@ -223,6 +331,13 @@ public class Entity {
     return (T) components.get(componentType.getId());
   }
 
+  /**
+   * @return This entity's components, keyed by component type id
+   */
+  IntMap<Component> getComponentMap() {
+    return components;
+  }
+
   /**
    * Add a component to the entity. Can only be called before the entity is registered in the world.
    *
@@ -366,4 +481,20 @@ public class Entity {
     return enemies;
   }
   public void setEnemies(List<Entity> enemies) {this.enemies = enemies;}
+
+  /**
+   * @return what the entity is shown as on the minimap, or null if it is not shown
+   */
+  public MiniMapCategory getMiniMapCategory() {
+    return miniMapCategory;
+  }
+
+  /**
+   * Set what the entity is shown as on the minimap.
+   *
+   * @param miniMapCategory the entity's category, or null to hide it from the minimap
+   */
+  public void setMiniMapCategory(MiniMapCategory miniMapCategory) {
+    this.miniMapCategory = miniMapCategory;
+  }
 }
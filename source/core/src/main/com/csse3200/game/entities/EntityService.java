@@ -1,10 +1,23 @@
 package com.csse3200.game.entities;
 
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.csse3200.game.ai.tasks.AIPlanner;
+import com.csse3200.game.areas.terrain.TerrainFactory;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ComponentType;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.profiling.FrameProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Provides a global access point for entities to register themselves. This allows for iterating
  * over entities to perform updates each loop. All game entities should be registered here.
@@ -15,44 +28,284 @@ import org.slf4j.LoggerFactory;
 public class EntityService {
   private static final Logger logger = LoggerFactory.getLogger(EntityService.class);
   private static final int INITIAL_CAPACITY = 16;
+  private static final Array<Entity> NO_ENTITIES = new Array<>(0);
 
   private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY);
+  // registered entities with each component type, oldest first, keyed by component type id
+  private final IntMap<ComponentEntities> entitiesByComponent = new IntMap<>();
+  // bucketed on the terrain chunk grid
+  private final EntitySpatialIndex spatialIndex = new EntitySpatialIndex(TerrainFactory.CHUNK_SIZE);
+  // registrations (true) and removals (false) queued during a batch, in the order they were made
+  private final Array<Entity> pending = new Array<>();
+  private final BooleanArray pendingIsAdd = new BooleanArray();
+  private int batchDepth = 0;
+
+  // entities which are updated every frame; the rest are asleep outside the active chunks
+  private final Array<Entity> awake = new Array<>(false, INITIAL_CAPACITY);
+  private Set<GridPoint2> activeChunks = null;
+  private final Set<GridPoint2> lastActiveChunks = new HashSet<>();
+  private final GridPoint2 cellPos = new GridPoint2();
+  private int sleepTickInterval = 0;
+  private long frame = 0;
+  private final AIPlanner aiPlanner = new AIPlanner();
 
   /**
    * Register a new entity with the entity service. The entity will be created and start updating.
+   * If this happens during a batch, e.g. from inside an entity's update, the entity starts
+   * updating once the batch ends.
    * @param entity new entity.
    */
   public void register(Entity entity) {
     logger.debug("Registering {} in entity service", entity);
-    entities.add(entity);
+    if (batchDepth > 0) {
+      entity.pendingRemoval = false;
+      pending.add(entity);
+      pendingIsAdd.add(true);
+    } else {
+      add(entity);
+    }
+    spatialIndex.add(entity);
+    IntMap<Component> components = entity.getComponentMap();
+    if (components != null) {
+      for (IntMap.Entry<Component> entry : components.entries()) {
+        ComponentEntities withComponent = entitiesByComponent.get(entry.key);
+        if (withComponent == null) {
+          withComponent = new ComponentEntities();
+          entitiesByComponent.put(entry.key, withComponent);
+        }
+        withComponent.add(entity);
+      }
+    }
     entity.create();
   }
 
   /**
    * Unregister an entity with the entity service. The entity will be removed and stop updating.
+   * If this happens during a batch, the entity stops updating straight away but is only removed
+   * once the batch ends.
    * @param entity entity to be removed.
    */
   public void unregister(Entity entity) {
     logger.debug("Unregistering {} in entity service", entity);
-    entities.removeValue(entity, true);
+    if (batchDepth > 0) {
+      entity.pendingRemoval = true;
+      pending.add(entity);
+      pendingIsAdd.add(false);
+    } else {
+      remove(entity);
+    }
+    spatialIndex.remove(entity);
+    IntMap<Component> components = entity.getComponentMap();
+    if (components != null) {
+      for (IntMap.Entry<Component> entry : components.entries()) {
+        ComponentEntities withComponent = entitiesByComponent.get(entry.key);
+        if (withComponent != null) {
+          withComponent.remove(entity);
+        }
+      }
+    }
+  }
+
+  /**
+   * Start queueing registrations and removals instead of applying them to the list of updating
+   * entities, so that they can be applied together by {@link #endBatch()}. Use this around mass
+   * spawning or despawning, or anything that iterates over entities. Batches can be nested.
+   */
+  public void beginBatch() {
+    batchDepth++;
+  }
+
+  /**
+   * End a batch started by {@link #beginBatch()}. When the outermost batch ends, every queued
+   * registration and removal is applied in the order it was made.
+   */
+  public void endBatch() {
+    if (batchDepth == 0) {
+      logger.error("endBatch() called without a matching beginBatch()");
+      return;
+    }
+    batchDepth--;
+    if (batchDepth > 0) {
+      return;
+    }
+    for (int i = 0; i < pending.size; i++) {
+      if (pendingIsAdd.get(i)) {
+        add(pending.get(i));
+      } else {
+        pending.get(i).pendingRemoval = false;
+        remove(pending.get(i));
+      }
+    }
+    pending.clear();
+    pendingIsAdd.clear();
   }
 
   /**
    * Update all registered entities. Should only be called from the main game loop.
    */
   public void update() {
-    for (Entity entity : entities) {
+    long start = FrameProfiler.start();
+    frame++;
+    boolean tickSleeping = sleepTickInterval > 0 && frame % sleepTickInterval == 0;
+    Array<Entity> updating = tickSleeping ? entities : awake;
+    aiPlanner.think(updating, entities);
+    beginBatch();
+    for (int i = 0; i < updating.size; i++) {
+      Entity entity = updating.get(i);
+      if (entity.pendingRemoval) {
+        continue;
+      }
       entity.earlyUpdate();
       entity.update();
     }
+    endBatch();
+    updateSleeping();
+    FrameProfiler.stop(FrameProfiler.Metric.ENTITIES, start);
+    FrameProfiler.set(FrameProfiler.Metric.ENTITY_COUNT, getEntityCount());
+  }
+
+  /**
+   * Put entities outside the given chunks to sleep, so they are not updated until their chunk is
+   * active again. Only entities in the physics world which are not the player can sleep. The set
+   * is read every frame, so it can be updated in place, e.g. by
+   * {@link com.csse3200.game.areas.terrain.TerrainComponent#getActiveChunks()}.
+   *
+   * @param activeChunks The chunks in which entities stay awake, or null to keep every entity awake
+   */
+  public void setActiveChunks(Set<GridPoint2> activeChunks) {
+    this.activeChunks = activeChunks;
+    lastActiveChunks.clear();
+    for (int i = 0; i < entities.size; i++) {
+      setAwake(entities.get(i), shouldBeAwake(entities.get(i)));
+    }
+    if (activeChunks != null) {
+      lastActiveChunks.addAll(activeChunks);
+    }
+    spatialIndex.getMoved().clear();
+  }
+
+  /**
+   * Let sleeping entities update every few frames instead of not at all.
+   *
+   * @param frames Update sleeping entities once every this many frames, or 0 for never
+   */
+  public void setSleepTickInterval(int frames) {
+    this.sleepTickInterval = frames;
+  }
+
+  /**
+   * @return The planner which runs the AI think phase before entities are updated
+   */
+  public AIPlanner getAIPlanner() {
+    return aiPlanner;
+  }
+
+  /**
+   * @return The number of entities updated every frame
+   */
+  public int getAwakeCount() {
+    return awake.size;
+  }
+
+  /**
+   * @return The number of entities asleep outside the active chunks
+   */
+  public int getSleepingCount() {
+    return entities.size - awake.size;
   }
 
   /**
    * Dispose all entities.
    */
   public void dispose() {
-    for (Entity entity : entities) {
-      entity.dispose();
+    beginBatch();
+    for (int i = 0; i < entities.size; i++) {
+      entities.get(i).dispose();
+    }
+    endBatch();
+    spatialIndex.clear();
+    entitiesByComponent.clear();
+  }
+
+  /**
+   * @return The number of entities being updated
+   */
+  public int getEntityCount() {
+    return entities.size;
+  }
+
+  private void add(Entity entity) {
+    if (entity.serviceIndex >= 0 && entity.serviceIndex < entities.size
+        && entities.get(entity.serviceIndex) == entity) {
+      return;
+    }
+    entity.serviceIndex = entities.size;
+    entities.add(entity);
+    entity.awakeIndex = -1;
+    setAwake(entity, shouldBeAwake(entity));
+  }
+
+  /**
+   * Remove an entity by moving the last entity into its slot.
+   */
+  private void remove(Entity entity) {
+    int index = entity.serviceIndex;
+    if (index < 0 || index >= entities.size || entities.get(index) != entity) {
+      return;
+    }
+    Entity last = entities.pop();
+    if (last != entity) {
+      entities.set(index, last);
+      last.serviceIndex = index;
+    }
+    entity.serviceIndex = -1;
+    setAwake(entity, false);
+  }
+
+  /**
+   * Wake and sleep entities after the active chunks change or entities move between chunks. Only
+   * does work for the entities affected, so it is cheap on most frames.
+   */
+  private void updateSleeping() {
+    Array<Entity> moved = spatialIndex.getMoved();
+    if (activeChunks == null) {
+      moved.clear();
+      return;
+    }
+    if (!lastActiveChunks.equals(activeChunks)) {
+      setActiveChunks(activeChunks);
+      return;
+    }
+    for (int i = 0; i < moved.size; i++) {
+      Entity entity = moved.get(i);
+      if (entity.serviceIndex >= 0) {
+        setAwake(entity, shouldBeAwake(entity));
+      }
+    }
+    moved.clear();
+  }
+
+  private boolean shouldBeAwake(Entity entity) {
+    if (activeChunks == null || entity.spatialIndex != spatialIndex || entity.isPlayer()
+        || entity.getComponent(PhysicsComponent.class) == null) {
+      return true;
+    }
+    cellPos.set(EntitySpatialIndex.cellX(entity.spatialCell), EntitySpatialIndex.cellY(entity.spatialCell));
+    return activeChunks.contains(cellPos);
+  }
+
+  private void setAwake(Entity entity, boolean isAwake) {
+    if (isAwake && entity.awakeIndex < 0) {
+      entity.awakeIndex = awake.size;
+      awake.add(entity);
+    } else if (!isAwake && entity.awakeIndex >= 0) {
+      int index = entity.awakeIndex;
+      Entity last = awake.pop();
+      if (last != entity) {
+        awake.set(index, last);
+        last.awakeIndex = index;
+      }
+      entity.awakeIndex = -1;
     }
   }
 
@@ -78,25 +331,20 @@ public class EntityService {
 
 
   /**
-   * Get the oldest (lowest index entity in entities) entity that contains the given component.
+   * Get the oldest (first registered) entity that contains the given component.
    * This is used to search for very specific entities. e.g. Player
    *
    * @param componentType The component class, e.g. RenderComponent.class
    * @param <T> The component type, e.g. RenderComponent
    * @return The entity holding the component or null if nonexistent.
    */
-
   public <T extends Component> Entity getEntity(Class<T> componentType) {
-    for (Entity entity : entities) {
-      if (entity.getComponent(componentType) != null) {
-        return entity;
-      }
-    }
-    return null;
+    Array<Entity> withComponent = getEntitiesWith(componentType);
+    return withComponent.size == 0 ? null : withComponent.first();
   }
 
   /**
-   * Get the oldest (lowest index entity in entities) entity's component of a given component type.
+   * Get the oldest (first registered) entity's component of a given component type.
    * This is used to search for very specific components. e.g. QuestManager
    *
    * @param componentType The component class, e.g. RenderComponent.class
@@ -104,12 +352,56 @@ public class EntityService {
    * @return The oldest entity's component or null if nonexistent.
    */
   public <T extends Component> Component getSpecificComponent(Class<T> componentType) {
-    for (Entity entity : entities) {
-      Component component = entity.getComponent(componentType);
-      if (component != null) {
-        return component;
-      }
-    }
-    return null;
+    Entity entity = getEntity(componentType);
+    return entity == null ? null : entity.getComponent(componentType);
+  }
+
+  /**
+   * Get every registered entity that contains the given component, oldest first. The array is
+   * kept up to date by the entity service and must not be modified, or held on to while entities
+   * are unregistered.
+   *
+   * @param componentType The component class, e.g. RenderComponent.class
+   * @return The entities holding the component
+   */
+  public Array<Entity> getEntitiesWith(Class<? extends Component> componentType) {
+    ComponentEntities withComponent =
+        entitiesByComponent.get(ComponentType.getFrom(componentType).getId());
+    return withComponent == null ? NO_ENTITIES : withComponent.get();
+  }
+
+  /**
+   * Find the registered entities within a radius of a point. Only the terrain chunks overlapping
+   * the search are looked at, so this is cheap for small radii however many entities there are.
+   *
+   * @param centre        Centre of the search
+   * @param radius        Search radius in world units
+   * @param componentType Only include entities with this component, or null for all entities
+   * @param out           Cleared and filled with the entities found
+   * @return The number of entities found
+   */
+  public int getEntitiesInRadius(Vector2 centre, float radius,
+      Class<? extends Component> componentType, Array<Entity> out) {
+    return spatialIndex.query(centre, radius, componentType, out);
+  }
+
+  /**
+   * Find the registered entities whose position lies inside an area.
+   *
+   * @param area          Area to search, in world units
+   * @param componentType Only include entities with this component, or null for all entities
+   * @param out           Cleared and filled with the entities found
+   * @return The number of entities found
+   */
+  public int getEntitiesInArea(Rectangle area, Class<? extends Component> componentType,
+      Array<Entity> out) {
+    return spatialIndex.query(area, componentType, out);
+  }
+
+  /**
+   * @return The spatial index of registered entities
+   */
+  public EntitySpatialIndex getSpatialIndex() {
+    return spatialIndex;
   }
 }
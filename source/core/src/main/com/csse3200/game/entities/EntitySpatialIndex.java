@@ -0,0 +1,239 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.csse3200.game.components.Component;
+
+/**
+ * Uniform grid of the registered entities, bucketed by their position. Entities are moved between
+ * cells as their position is set, so queries only have to look at the cells overlapping the area
+ * being searched instead of every entity in the game.
+ *
+ * <p>Entities are filed under their position (bottom left corner), not their full bounds.
+ */
+public class EntitySpatialIndex {
+  private final float cellSize;
+  private final LongMap<Array<Entity>> cells = new LongMap<>();
+  // entities which have changed cell since the entity service last checked
+  private final Array<Entity> moved = new Array<>(false, 16);
+  private int size = 0;
+
+  /**
+   * @param cellSize Width and height of a grid cell in world units
+   */
+  public EntitySpatialIndex(float cellSize) {
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Start tracking an entity.
+   *
+   * @param entity The entity
+   */
+  void add(Entity entity) {
+    Vector2 position = entity.peekPosition();
+    if (position == null || entity.spatialIndex == this) {
+      return;
+    }
+    entity.spatialIndex = this;
+    entity.spatialCell = cellOf(position.x, position.y);
+    addToBucket(entity);
+    size++;
+  }
+
+  /**
+   * Stop tracking an entity.
+   *
+   * @param entity The entity
+   */
+  void remove(Entity entity) {
+    if (entity.spatialIndex != this) {
+      return;
+    }
+    removeFromBucket(entity);
+    size--;
+    entity.spatialIndex = null;
+  }
+
+  /**
+   * Move an entity to the cell containing its new position. Called whenever an entity's position
+   * is set.
+   *
+   * @param entity The entity
+   * @param x      New x position
+   * @param y      New y position
+   */
+  void move(Entity entity, float x, float y) {
+    long cell = cellOf(x, y);
+    if (cell == entity.spatialCell) {
+      return;
+    }
+    removeFromBucket(entity);
+    entity.spatialCell = cell;
+    addToBucket(entity);
+    moved.add(entity);
+  }
+
+  /** Stop tracking every entity. */
+  void clear() {
+    for (Array<Entity> bucket : cells.values()) {
+      for (Entity entity : bucket) {
+        entity.spatialIndex = null;
+      }
+    }
+    cells.clear();
+    moved.clear();
+    size = 0;
+  }
+
+  /**
+   * @return Entities which have changed cell since this was last cleared
+   */
+  Array<Entity> getMoved() {
+    return moved;
+  }
+
+  /**
+   * Find the entities within a radius of a point.
+   *
+   * @param centre        Centre of the search
+   * @param radius        Search radius in world units
+   * @param componentType Only include entities with this component, or null for all entities
+   * @param out           Cleared and filled with the entities found
+   * @return The number of entities found
+   */
+  public int query(Vector2 centre, float radius, Class<? extends Component> componentType,
+      Array<Entity> out) {
+    out.clear();
+    float radius2 = radius * radius;
+    int minX = cellCoord(centre.x - radius);
+    int maxX = cellCoord(centre.x + radius);
+    int minY = cellCoord(centre.y - radius);
+    int maxY = cellCoord(centre.y + radius);
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        Array<Entity> bucket = cells.get(key(x, y));
+        if (bucket == null)
+          continue;
+
+        for (int i = 0; i < bucket.size; i++) {
+          Entity entity = bucket.get(i);
+          Vector2 position = entity.peekPosition();
+          if (position.dst2(centre) <= radius2 && hasComponent(entity, componentType)) {
+            out.add(entity);
+          }
+        }
+      }
+    }
+    return out.size;
+  }
+
+  /**
+   * Find the entities whose position lies inside an area.
+   *
+   * @param area          Area to search, in world units
+   * @param componentType Only include entities with this component, or null for all entities
+   * @param out           Cleared and filled with the entities found
+   * @return The number of entities found
+   */
+  public int query(Rectangle area, Class<? extends Component> componentType, Array<Entity> out) {
+    out.clear();
+    int minX = cellCoord(area.x);
+    int maxX = cellCoord(area.x + area.width);
+    int minY = cellCoord(area.y);
+    int maxY = cellCoord(area.y + area.height);
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        Array<Entity> bucket = cells.get(key(x, y));
+        if (bucket == null)
+          continue;
+
+        for (int i = 0; i < bucket.size; i++) {
+          Entity entity = bucket.get(i);
+          Vector2 position = entity.peekPosition();
+          if (area.contains(position) && hasComponent(entity, componentType)) {
+            out.add(entity);
+          }
+        }
+      }
+    }
+    return out.size;
+  }
+
+  /**
+   * @param entity The entity
+   * @return true if the entity is being tracked by this index
+   */
+  public boolean contains(Entity entity) {
+    return entity.spatialIndex == this;
+  }
+
+  /**
+   * @return The number of entities being tracked
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return Width and height of a grid cell in world units
+   */
+  public float getCellSize() {
+    return cellSize;
+  }
+
+  private void addToBucket(Entity entity) {
+    Array<Entity> bucket = cells.get(entity.spatialCell);
+    if (bucket == null) {
+      bucket = new Array<>(false, 8);
+      cells.put(entity.spatialCell, bucket);
+    }
+    entity.spatialSlot = bucket.size;
+    bucket.add(entity);
+  }
+
+  /** Remove an entity from its cell by moving the cell's last entity into its slot. */
+  private void removeFromBucket(Entity entity) {
+    Array<Entity> bucket = cells.get(entity.spatialCell);
+    Entity last = bucket.pop();
+    if (last != entity) {
+      bucket.set(entity.spatialSlot, last);
+      last.spatialSlot = entity.spatialSlot;
+    }
+  }
+
+  private static boolean hasComponent(Entity entity, Class<? extends Component> componentType) {
+    return componentType == null || entity.getComponent(componentType) != null;
+  }
+
+  private int cellCoord(float coord) {
+    return MathUtils.floor(coord / cellSize);
+  }
+
+  private long cellOf(float x, float y) {
+    return key(cellCoord(x), cellCoord(y));
+  }
+
+  private static long key(int x, int y) {
+    return ((long) x << 32) | (y & 0xFFFFFFFFL);
+  }
+
+  /**
+   * @param cell A cell key, as stored in {@link Entity#spatialCell}
+   * @return The cell's x coordinate
+   */
+  static int cellX(long cell) {
+    return (int) (cell >> 32);
+  }
+
+  /**
+   * @param cell A cell key, as stored in {@link Entity#spatialCell}
+   * @return The cell's y coordinate
+   */
+  static int cellY(long cell) {
+    return (int) cell;
+  }
+}
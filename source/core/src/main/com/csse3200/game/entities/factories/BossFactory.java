@@ -140,7 +140,7 @@ public class BossFactory {
         animator.addAnimation("chase", 0.1f, Animation.PlayMode.LOOP);
 
         Entity npc = new Entity()
-                .addComponent(new PhysicsComponent())
+                .addComponent(new PhysicsComponent().setContactLayers(PhysicsLayer.PLAYER))
                 .addComponent(new PhysicsMovementComponent())
                 .addComponent(new ColliderComponent())
                 .addComponent(new HitboxComponent().setLayer(PhysicsLayer.NPC))
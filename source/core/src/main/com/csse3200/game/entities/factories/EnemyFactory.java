@@ -466,7 +466,7 @@ public class EnemyFactory {
 
         Entity npc =
                 new Entity()
-                        .addComponent(new PhysicsComponent())
+                        .addComponent(new PhysicsComponent().setContactLayers(PhysicsLayer.PLAYER))
                         .addComponent(new PhysicsMovementComponent())
                         .addComponent(new ColliderComponent())
                         .addComponent(new HitboxComponent().setLayer(PhysicsLayer.NPC))
@@ -1,13 +1,15 @@
 package com.csse3200.game.events;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
 import com.csse3200.game.events.listeners.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Consumer;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -18,18 +20,66 @@ import java.util.function.Consumer;
  * <p>Currently supports up to 3 arguments for an event. More can be added, but consider instead
  * passing a class with required fields.
  *
+ * <p>Every event name is interned to an integer id. Code which triggers an event every frame
+ * should look the id up once with {@link #getEventId(String)} and use the id overloads, which
+ * skip the name lookup. Both kinds of overload can be mixed freely for the same event.
+ *
  * <p>If you get a ClassCastException from an event, trigger is being called with different
  * arguments than the listeners expect.
  */
 public class EventHandler {
   private static final Logger logger = LoggerFactory.getLogger(EventHandler.class);
+  // read without locking, since names are looked up on every trigger from any thread
+  private static final Map<String, Integer> eventIds = new ConcurrentHashMap<>();
+  // replaced rather than modified when a name is added, so readers see a complete array
+  private static volatile String[] eventNames = new String[0];
+  private static final Object eventIdLock = new Object();
+  private static final int NO_EVENT = -1;
+
   Map<String, Array<EventListener>> listeners;
-  private String lastTriggeredEvent;
+  // the same listener arrays as listeners, keyed by event id
+  private final IntMap<Array<EventListener>> listenersById;
+  private int lastTriggeredEvent;
 
   public EventHandler() {
     // Assume no events by default, which will be the case for most entities
     listeners = HashMap.newHashMap(0);
-    lastTriggeredEvent = null;
+    listenersById = new IntMap<>(0);
+    lastTriggeredEvent = NO_EVENT;
+  }
+
+  /**
+   * Get the id of an event, to trigger it or listen to it without looking up its name each time.
+   * Ids are the same for every event handler.
+   *
+   * @param eventName name of the event
+   * @return id of the event
+   */
+  public static int getEventId(String eventName) {
+    Integer id = eventIds.get(eventName);
+    if (id != null) {
+      return id;
+    }
+    synchronized (eventIdLock) {
+      id = eventIds.get(eventName);
+      if (id == null) {
+        // the name must be readable before its id is handed out
+        String[] names = Arrays.copyOf(eventNames, eventNames.length + 1);
+        id = eventNames.length;
+        names[id] = eventName;
+        eventNames = names;
+        eventIds.put(eventName, id);
+      }
+      return id;
+    }
+  }
+
+  /**
+   * @param eventId id of an event
+   * @return name of the event
+   */
+  public static String getEventName(int eventId) {
+    return eventNames[eventId];
   }
 
   public Map<String, Array<EventListener>> getListeners() {
@@ -43,7 +93,7 @@ public class EventHandler {
    * @param listener function to call when event fires
    */
   public void addListener(String eventName, EventListener0 listener) {
-    registerListener(eventName, listener);
+    registerListener(getEventId(eventName), listener);
   }
 
   /**
@@ -54,7 +104,7 @@ public class EventHandler {
    * @param <T> argument type
    */
   public <T> void addListener(String eventName, EventListener1<T> listener) {
-    registerListener(eventName, listener);
+    registerListener(getEventId(eventName), listener);
   }
 
   /**
@@ -66,7 +116,7 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    */
   public <T0, T1> void addListener(String eventName, EventListener2<T0, T1> listener) {
-    registerListener(eventName, listener);
+    registerListener(getEventId(eventName), listener);
   }
 
   /**
@@ -79,7 +129,53 @@ public class EventHandler {
    * @param <T2> Type of arg 2
    */
   public <T0, T1, T2> void addListener(String eventName, EventListener3<T0, T1, T2> listener) {
-    registerListener(eventName, listener);
+    registerListener(getEventId(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with zero arguments
+   *
+   * @param eventId id of the event, from {@link #getEventId(String)}
+   * @param listener function to call when event fires
+   */
+  public void addListener(int eventId, EventListener0 listener) {
+    registerListener(eventId, listener);
+  }
+
+  /**
+   * Add a listener to an event with one argument
+   *
+   * @param eventId id of the event, from {@link #getEventId(String)}
+   * @param listener function to call when event fires
+   * @param <T> argument type
+   */
+  public <T> void addListener(int eventId, EventListener1<T> listener) {
+    registerListener(eventId, listener);
+  }
+
+  /**
+   * Add a listener to an event with two arguments
+   *
+   * @param eventId id of the event, from {@link #getEventId(String)}
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  public <T0, T1> void addListener(int eventId, EventListener2<T0, T1> listener) {
+    registerListener(eventId, listener);
+  }
+
+  /**
+   * Add a listener to an event with three arguments
+   *
+   * @param eventId id of the event, from {@link #getEventId(String)}
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  public <T0, T1, T2> void addListener(int eventId, EventListener3<T0, T1, T2> listener) {
+    registerListener(eventId, listener);
   }
 
   /**
@@ -88,9 +184,7 @@ public class EventHandler {
    * @param eventName name of the event
    */
   public void trigger(String eventName) {
-    logTrigger(eventName);
-    lastTriggeredEvent = eventName;
-    forEachListener(eventName, (EventListener listener) -> ((EventListener0) listener).handle());
+    trigger(getEventId(eventName));
   }
 
   /**
@@ -100,16 +194,12 @@ public class EventHandler {
    * @param arg0 arg to pass to event
    * @param <T> argument type
    */
-  @SuppressWarnings("unchecked")
   public <T> void trigger(String eventName, T arg0) {
-    logTrigger(eventName);
-    lastTriggeredEvent = eventName;
-    forEachListener(
-        eventName, (EventListener listener) -> ((EventListener1<T>) listener).handle(arg0));
+    trigger(getEventId(eventName), arg0);
   }
 
   /**
-   * Trigger an event with one argument
+   * Trigger an event with two arguments
    *
    * @param eventName name of the event
    * @param arg0 arg 0 to pass to event
@@ -117,24 +207,85 @@ public class EventHandler {
    * @param <T0> Type of arg 0
    * @param <T1> Type of arg 1
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
-    logTrigger(eventName);
-    lastTriggeredEvent = eventName;
-    forEachListener(
-        eventName,
-        (EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+    trigger(getEventId(eventName), arg0, arg1);
   }
 
-  public boolean hasListener(String eventName) {
-    Array<EventListener> eventListeners =  listeners.get(eventName);
-    return eventListeners != null && !eventListeners.isEmpty();
+  /**
+   * Trigger an event with three arguments
+   *
+   * @param eventName name of the event
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param arg2 arg 2 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  public <T0, T1, T2> void trigger(String eventName, T0 arg0, T1 arg1, T2 arg2) {
+    trigger(getEventId(eventName), arg0, arg1, arg2);
+  }
+
+  /**
+   * Trigger an event with no arguments
+   *
+   * @param eventId id of the event, from {@link #getEventId(String)}
+   */
+  public void trigger(int eventId) {
+    lastTriggeredEvent = eventId;
+    Array<EventListener> eventListeners = listenersById.get(eventId);
+    if (eventListeners == null) {
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener0) eventListeners.get(i)).handle();
+    }
   }
 
   /**
    * Trigger an event with one argument
    *
-   * @param eventName name of the event
+   * @param eventId id of the event, from {@link #getEventId(String)}
+   * @param arg0 arg to pass to event
+   * @param <T> argument type
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void trigger(int eventId, T arg0) {
+    lastTriggeredEvent = eventId;
+    Array<EventListener> eventListeners = listenersById.get(eventId);
+    if (eventListeners == null) {
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener1<T>) eventListeners.get(i)).handle(arg0);
+    }
+  }
+
+  /**
+   * Trigger an event with two arguments
+   *
+   * @param eventId id of the event, from {@link #getEventId(String)}
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  @SuppressWarnings("unchecked")
+  public <T0, T1> void trigger(int eventId, T0 arg0, T1 arg1) {
+    lastTriggeredEvent = eventId;
+    Array<EventListener> eventListeners = listenersById.get(eventId);
+    if (eventListeners == null) {
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener2<T0, T1>) eventListeners.get(i)).handle(arg0, arg1);
+    }
+  }
+
+  /**
+   * Trigger an event with three arguments
+   *
+   * @param eventId id of the event, from {@link #getEventId(String)}
    * @param arg0 arg 0 to pass to event
    * @param arg1 arg 1 to pass to event
    * @param arg2 arg 2 to pass to event
@@ -143,13 +294,24 @@ public class EventHandler {
    * @param <T2> Type of arg 2
    */
   @SuppressWarnings("unchecked")
-  public <T0, T1, T2> void trigger(String eventName, T0 arg0, T1 arg1, T2 arg2) {
-    logTrigger(eventName);
-    lastTriggeredEvent = eventName;
-    forEachListener(
-        eventName,
-        (EventListener listener) ->
-            ((EventListener3<T0, T1, T2>) listener).handle(arg0, arg1, arg2));
+  public <T0, T1, T2> void trigger(int eventId, T0 arg0, T1 arg1, T2 arg2) {
+    lastTriggeredEvent = eventId;
+    Array<EventListener> eventListeners = listenersById.get(eventId);
+    if (eventListeners == null) {
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener3<T0, T1, T2>) eventListeners.get(i)).handle(arg0, arg1, arg2);
+    }
+  }
+
+  public boolean hasListener(String eventName) {
+    return hasListener(getEventId(eventName));
+  }
+
+  public boolean hasListener(int eventId) {
+    Array<EventListener> eventListeners = listenersById.get(eventId);
+    return eventListeners != null && !eventListeners.isEmpty();
   }
 
   /**
@@ -158,32 +320,23 @@ public class EventHandler {
    * @return the most recent triggered event
    */
   public String getLastTriggeredEvent() {
-    return lastTriggeredEvent;
+    return lastTriggeredEvent == NO_EVENT ? null : getEventName(lastTriggeredEvent);
   }
 
-  private void registerListener(String eventName, EventListener listener) {
+  private void registerListener(int eventId, EventListener listener) {
+    String eventName = getEventName(eventId);
     logger.debug("Adding listener {} to event {}", listener, eventName);
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+    Array<EventListener> eventListeners = listenersById.get(eventId);
     if (eventListeners == null) {
       eventListeners = new Array<>(1);
+      listenersById.put(eventId, eventListeners);
       listeners.put(eventName, eventListeners);
     }
     eventListeners.add(listener);
   }
 
-  private void forEachListener(String eventName, Consumer<EventListener> func) {
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
-    if (eventListeners != null) {
-      eventListeners.forEach(func);
-    }
-  }
-
-  private static void logTrigger(String eventName) {
-    logger.debug("Triggering event {}", eventName);
-  }
-
-
   public void dispose() {
     listeners.clear();
+    listenersById.clear();
   }
 }
@@ -2,6 +2,7 @@ package com.csse3200.game.lighting;
 
 import box2dLight.RayHandler;
 import com.badlogic.gdx.graphics.Color;
+import com.csse3200.game.profiling.FrameProfiler;
 import com.csse3200.game.services.InGameTime;
 import com.csse3200.game.services.ServiceLocator;
 
@@ -64,8 +65,10 @@ public class DayNightCycle {
      * Updates the day/night cycle ambient lighting effect.
      */
     public void update() {
+        long start = FrameProfiler.start();
         float timeOfDay = getTimeOfDay();
         setEffects(LightingUtils.interpolateColorCycle(keyTimes, timeOfDay));
+        FrameProfiler.stop(FrameProfiler.Metric.DAY_NIGHT, start);
     }
 
 
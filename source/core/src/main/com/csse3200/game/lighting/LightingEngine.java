@@ -8,6 +8,7 @@ import com.badlogic.gdx.utils.Disposable;
 
 import box2dLight.*;
 import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.profiling.FrameProfiler;
 import com.csse3200.game.rendering.Renderable;
 
 public class LightingEngine implements Disposable, Renderable {
@@ -38,8 +39,11 @@ public class LightingEngine implements Disposable, Renderable {
      * Render the lighting effects.
      */
     public void render(){
+        long start = FrameProfiler.start();
         rayHandler.setCombinedMatrix(camera);
         rayHandler.updateAndRender();
+        FrameProfiler.stop(FrameProfiler.Metric.LIGHTING, start);
+        FrameProfiler.set(FrameProfiler.Metric.LIGHT_COUNT, rayHandler.lightRenderedLastFrame);
     }
 
     /**
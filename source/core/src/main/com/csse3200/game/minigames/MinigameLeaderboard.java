@@ -10,6 +10,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.csse3200.game.components.login.PlayFab;
 import com.csse3200.game.components.mainmenu.MainMenuDisplay;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.ui.CustomButton;
 import com.csse3200.game.ui.UIComponent;
 import org.slf4j.Logger;
@@ -27,6 +28,8 @@ import java.util.ArrayList;
 public class MinigameLeaderboard extends UIComponent {
     private static final Logger logger = LoggerFactory.getLogger(MinigameLeaderboard.class);
     private static final float Z_INDEX = 2f;
+    private static final String BACKGROUND_TEXTURE = "images/backgrounds/LeaderboardBackground.png";
+    private static final String CLOSE_BUTTON_TEXTURE = "images/CloseButton.png";
     private Table table;
     private Table topTable;
     private Table contentTable;
@@ -89,8 +92,10 @@ public class MinigameLeaderboard extends UIComponent {
      * Loads the necessary textures for the UI components.
      */
     void loadTextures() {
-        backgroundTexture = new Texture("images/backgrounds/LeaderboardBackground.png");
-        closeButtonTexture = new Texture("images/CloseButton.png");
+        if (backgroundTexture == null) {
+            backgroundTexture = ResourceService.acquireTexture(BACKGROUND_TEXTURE);
+            closeButtonTexture = ResourceService.acquireTexture(CLOSE_BUTTON_TEXTURE);
+        }
     }
 
     /**
@@ -274,7 +279,15 @@ public class MinigameLeaderboard extends UIComponent {
      */
     @Override
     public void dispose() {
-        table.clear();
+        if (table != null) {
+            table.clear();
+        }
+        if (backgroundTexture != null) {
+            ResourceService.releaseTexture(BACKGROUND_TEXTURE);
+            ResourceService.releaseTexture(CLOSE_BUTTON_TEXTURE);
+            backgroundTexture = null;
+            closeButtonTexture = null;
+        }
         super.dispose();
     }
 }
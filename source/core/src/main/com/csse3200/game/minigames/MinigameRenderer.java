@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.csse3200.game.services.ResourceService;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +16,7 @@ import java.util.List;
 public class MinigameRenderer {
     private static final float DEFAULT_WIDTH = 1920;
     private static final float DEFAULT_HEIGHT = 1200;
+    private static final String BACKGROUND = "images/minigames/Background.png";
     private final SpriteBatch sb;
     private final OrthographicCamera cam;
     private final List<MinigameRenderable> renderables = new ArrayList<>();
@@ -25,7 +27,7 @@ public class MinigameRenderer {
         this.cam = new OrthographicCamera(DEFAULT_WIDTH,DEFAULT_HEIGHT);
         cam.position.set(DEFAULT_WIDTH / 2, DEFAULT_HEIGHT / 2, 0);
         cam.update();
-        this.background = new Texture("images/minigames/Background.png");
+        this.background = ResourceService.acquireTexture(BACKGROUND);
     }
 
     /**
@@ -91,9 +93,10 @@ public class MinigameRenderer {
     }
 
     /**
-     * Dispose of the sprite batch
+     * Dispose of the sprite batch and release the background
      */
     public void dispose() {
         sb.dispose();
+        ResourceService.releaseTexture(BACKGROUND);
     }
 }
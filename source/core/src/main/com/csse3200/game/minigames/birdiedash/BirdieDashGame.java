@@ -58,7 +58,7 @@ public class BirdieDashGame {
                 "images/PauseOverlay/Button2.png",
                 "images/QuestsOverlay/Quest_BG.png",
                 "images/QuestsOverlay/Quest_SBG.png"});
-        ServiceLocator.getResourceService().loadAll();
+        // only used by the pause overlay, so left to stream in while the game runs
     }
 
     /**
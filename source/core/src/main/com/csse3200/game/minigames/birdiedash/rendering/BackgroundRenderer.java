@@ -1,6 +1,5 @@
 package com.csse3200.game.minigames.birdiedash.rendering;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.minigames.MinigameRenderable;
 import com.csse3200.game.minigames.MinigameRenderer;
@@ -14,7 +13,7 @@ import com.csse3200.game.services.ServiceLocator;
  */
 public class BackgroundRenderer implements MinigameRenderable {
 
-    private Texture backGroundTexture;
+    private TextureRegion backGroundTexture;
     private TextureRegion backgroundRegion;
     private final MinigameRenderer renderer;
     private final static float gameWidth = 1920;
@@ -50,7 +49,7 @@ public class BackgroundRenderer implements MinigameRenderable {
         ResourceService rs = ServiceLocator.getResourceService();
         rs.loadTextures(new String[]{AssetPaths.BACKGROUND});
         ServiceLocator.getResourceService().loadAll();
-        backGroundTexture = rs.getAsset(AssetPaths.BACKGROUND, Texture.class);
+        backGroundTexture = rs.getRegion(AssetPaths.BACKGROUND);
         // Region is used to get the particular part of the background desired
         // The last two numbers, e.g. 900 and 430 mean i only want the parts of the image in
         // 900x430 from the background image.
@@ -74,6 +73,5 @@ public class BackgroundRenderer implements MinigameRenderable {
      */
     public void dispose() {
         unloadAssets();
-        backGroundTexture.dispose();
     }
 }
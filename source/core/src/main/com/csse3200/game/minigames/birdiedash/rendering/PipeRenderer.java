@@ -1,6 +1,5 @@
 package com.csse3200.game.minigames.birdiedash.rendering;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.minigames.MinigameRenderable;
 import com.csse3200.game.minigames.MinigameRenderer;
@@ -16,7 +15,7 @@ import java.util.List;
  */
 public class PipeRenderer implements MinigameRenderable {
 
-    private Texture obstacleTexture;
+    private TextureRegion obstacleTexture;
     private TextureRegion pipeHead;
     private TextureRegion pipeBody;
     private final List<Pipe> pipes;
@@ -74,7 +73,7 @@ public class PipeRenderer implements MinigameRenderable {
         ResourceService rs = ServiceLocator.getResourceService();
         rs.loadTextures(new String[]{AssetPaths.PIPE});
         ServiceLocator.getResourceService().loadAll();
-        obstacleTexture = rs.getAsset(AssetPaths.PIPE, Texture.class);
+        obstacleTexture = rs.getRegion(AssetPaths.PIPE);
         pipeHead = new TextureRegion(obstacleTexture, 0, 0, 32,40);
         pipeBody = new TextureRegion(obstacleTexture, 0, 20, 32,30);
     }
@@ -92,8 +91,5 @@ public class PipeRenderer implements MinigameRenderable {
      */
     public void dispose() {
         unloadAssets();
-        obstacleTexture.dispose();
-        pipeBody.getTexture().dispose();
-        pipeHead.getTexture().dispose();
     }
 }
@@ -1,6 +1,5 @@
 package com.csse3200.game.minigames.birdiedash.rendering;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.minigames.MinigameRenderable;
 import com.csse3200.game.minigames.MinigameRenderer;
@@ -15,7 +14,7 @@ import com.csse3200.game.services.ServiceLocator;
 public class SpikeRenderer implements MinigameRenderable {
     private final Spike spike;
     private final MinigameRenderer renderer;
-    private Texture spikeTexture;
+    private TextureRegion spikeTexture;
     private TextureRegion spikeRegion;
 
     public SpikeRenderer(Spike spike, MinigameRenderer renderer) {
@@ -55,7 +54,7 @@ public class SpikeRenderer implements MinigameRenderable {
         ResourceService rs = ServiceLocator.getResourceService();
         rs.loadTextures(new String[]{AssetPaths.SPIKE});
         ServiceLocator.getResourceService().loadAll();
-        spikeTexture = rs.getAsset(AssetPaths.SPIKE, Texture.class);
+        spikeTexture = rs.getRegion(AssetPaths.SPIKE);
         spikeRegion = new TextureRegion(spikeTexture, 0, 2, 16, 14);
     }
 
@@ -72,6 +71,5 @@ public class SpikeRenderer implements MinigameRenderable {
      */
     public void dispose() {
         unloadAssets();
-        spikeTexture.dispose();
     }
 }
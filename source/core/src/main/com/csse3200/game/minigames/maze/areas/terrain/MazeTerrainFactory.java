@@ -1,6 +1,5 @@
 package com.csse3200.game.minigames.maze.areas.terrain;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
@@ -41,7 +40,7 @@ public class MazeTerrainFactory extends TerrainFactory {
     public TerrainComponent createTerrain() {
         ResourceService resourceService = ServiceLocator.getResourceService();
         TextureRegion water =
-                new TextureRegion(resourceService.getAsset("images/minigames/water.png", Texture.class));
+                new TextureRegion(resourceService.getRegion("images/minigames/water.png"));
         return createMazeTerrain(water);
     }
 
@@ -84,10 +83,11 @@ public class MazeTerrainFactory extends TerrainFactory {
      * @param tile the tiles to put in the layer
      */
     private static void fillTiles(TiledMapTileLayer layer, TerrainTile tile) {
+        // every position shows the same tile, so they can all share one cell
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        cell.setTile(tile);
         for (int x = 0; x < MazeTerrainFactory.MAP_SIZE.x; x++) {
             for (int y = 0; y < MazeTerrainFactory.MAP_SIZE.y; y++) {
-                TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
-                cell.setTile(tile);
                 layer.setCell(x, y, cell);
             }
         }
@@ -1,6 +1,5 @@
 package com.csse3200.game.minigames.maze.components.player;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -43,7 +42,7 @@ public class MazePlayerStatsDisplay extends UIComponent {
 
         // Heart image
         float heartSideLength = 20f;
-        heartImage = new Image(ServiceLocator.getResourceService().getAsset("images/heart.png", Texture.class));
+        heartImage = new Image(ServiceLocator.getResourceService().getRegion("images/heart.png"));
 
         // Health text
         int health = entity.getComponent(MazeCombatStatsComponent.class).getHealth();
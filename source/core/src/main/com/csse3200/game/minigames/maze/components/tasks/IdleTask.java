@@ -1,5 +1,6 @@
 package com.csse3200.game.minigames.maze.components.tasks;
 
+import com.csse3200.game.ai.tasks.AISnapshot;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 
@@ -48,4 +49,9 @@ public class IdleTask extends DefaultTask implements PriorityTask {
     public int getPriority() {
         return status == Status.ACTIVE ? priority : 0;
     }
+
+    @Override
+    public int getPriority(AISnapshot snapshot) {
+        return getPriority();
+    }
 }
@@ -1,6 +1,7 @@
 package com.csse3200.game.minigames.maze.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.tasks.AISnapshot;
 import com.csse3200.game.components.tasks.ChaseTask;
 import com.csse3200.game.components.tasks.MovementTask;
 import com.csse3200.game.entities.Entity;
@@ -15,6 +16,8 @@ import static com.csse3200.game.minigames.maze.components.tasks.MazeMovementUtil
  */
 public class MazeChaseTask extends ChaseTask {
     private Vector2 bestTargetPoint;
+    private final Vector2 snapshotCenter = new Vector2();
+    private final Vector2 snapshotTargetCenter = new Vector2();
 
     /**
      * @param target           The entity to chase.
@@ -66,6 +69,15 @@ public class MazeChaseTask extends ChaseTask {
         return owner.getEntity().getCenterPosition().dst(target.getCenterPosition());
     }
 
+    @Override
+    protected float getDistanceToTarget(AISnapshot snapshot) {
+        if (!snapshot.contains(owner.getEntity()) || !snapshot.contains(target)) {
+            return -1f;
+        }
+        return snapshot.getCenterPosition(owner.getEntity(), snapshotCenter)
+                .dst(snapshot.getCenterPosition(target, snapshotTargetCenter));
+    }
+
     /**
      * Determines if the target is visible for the current entity (around walls etc.)
      * @return true if visible, else false
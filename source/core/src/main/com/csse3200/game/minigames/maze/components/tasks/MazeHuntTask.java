@@ -1,6 +1,7 @@
 package com.csse3200.game.minigames.maze.components.tasks;
 
 import com.badlogic.gdx.math.GridPoint2;
+import com.csse3200.game.ai.tasks.AISnapshot;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.entities.Entity;
@@ -83,4 +84,9 @@ public class MazeHuntTask extends DefaultTask implements PriorityTask {
     public int getPriority() {
         return priority;
     }
+
+    @Override
+    public int getPriority(AISnapshot snapshot) {
+        return getPriority();
+    }
 }
@@ -17,6 +17,8 @@ import com.csse3200.game.services.ServiceLocator;
 public class MazeMovementUtils {
     public static final float PADDING = 0.03f;
     private static final float MIN_LENGTH_FACE = MazeGameArea.WALL_THICKNESS;
+    // reused by every ray test, which only happen on the render thread
+    private static final RaycastHit hit = new RaycastHit();
 
     private MazeMovementUtils() {
         throw new IllegalArgumentException("Do not instantiate static util class!");
@@ -44,7 +46,6 @@ public class MazeMovementUtils {
     private static boolean testRay(Vector2 from, Vector2 to) {
         PhysicsEngine physics = ServiceLocator.getPhysicsService().getPhysics();
         DebugRenderer debugRenderer = ServiceLocator.getRenderService().getDebug();
-        RaycastHit hit = new RaycastHit();
         if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
             debugRenderer.drawLine(from, hit.getPoint().cpy());
             return true;
@@ -9,7 +9,7 @@ import com.csse3200.game.minigames.maze.Maze;
 import com.csse3200.game.minigames.maze.areas.terrain.MazeTerrainFactory;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsLayer;
-import com.csse3200.game.physics.raycast.RaycastHit;
+import com.csse3200.game.physics.raycast.RaycastBatch;
 import com.csse3200.game.rendering.DebugRenderer;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
@@ -31,7 +31,9 @@ public class MazePathFindingTask extends DefaultTask {
     List<GridPoint2> path;
     private final PhysicsEngine physics;
     private final DebugRenderer debugRenderer;
-    private final RaycastHit hit = new RaycastHit();
+    // reused every frame for the rays from each corner of the hitbox
+    private final RaycastBatch rays = new RaycastBatch();
+    private final Vector2[] rayEnds = new Vector2[4];
 
     public MazePathFindingTask(GridPoint2 target, Maze maze) {
         this.target = target;
@@ -61,15 +63,19 @@ public class MazePathFindingTask extends DefaultTask {
             Vector2 centerTo = new Vector2(path.get(path.size() - 2).x + .5f, path.get(path.size() - 2).y + .5f);
             int success = 0;
             Vector2[] corners = getHitBoxCorners(e, 0);
-            for (Vector2 from : corners) {
-                Vector2 to = centerTo.cpy().sub(e.getCenterPosition().sub(from));
-
+            rays.clear();
+            for (int i = 0; i < corners.length; i++) {
+                rayEnds[i] = centerTo.cpy().sub(e.getCenterPosition().sub(corners[i]));
+                rays.add(corners[i], rayEnds[i], PhysicsLayer.OBSTACLE);
+            }
+            physics.getRaycastService().raycast(rays);
+            for (int i = 0; i < corners.length; i++) {
                 // If there is an obstacle in the path to the player, not visible.
-                if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
-                    debugRenderer.drawLine(from, hit.getPoint());
+                if (rays.didHit(i)) {
+                    debugRenderer.drawLine(corners[i], rays.getHit(i).getPoint().cpy());
                     break;
                 }
-                debugRenderer.drawLine(from, to);
+                debugRenderer.drawLine(corners[i], rayEnds[i]);
                 success++;
             }
             if (success == 4) {
@@ -1,6 +1,7 @@
 package com.csse3200.game.minigames.maze.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.tasks.AISnapshot;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.components.tasks.MovementTask;
@@ -78,4 +79,9 @@ public class PatrolTask extends DefaultTask implements PriorityTask {
     public int getPriority() {
         return priority;
     }
+
+    @Override
+    public int getPriority(AISnapshot snapshot) {
+        return getPriority();
+    }
 }
@@ -1,6 +1,6 @@
 package com.csse3200.game.minigames.snake.rendering;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.minigames.MinigameRenderable;
 import com.csse3200.game.minigames.MinigameRenderer;
 import com.csse3200.game.minigames.snake.Apple;
@@ -14,7 +14,7 @@ public class AppleRenderer implements MinigameRenderable {
     private static final int CELL_SIZE = 20;
     private final Apple apple;
     private final SnakeGrid grid;
-    private final Texture appleTexture;
+    private final TextureRegion appleTexture;
     private final MinigameRenderer renderer;
 
     /**
@@ -25,7 +25,7 @@ public class AppleRenderer implements MinigameRenderable {
      * @param appleTexture The texture to use for rendering the apple.
      * @param renderer The renderer used for drawing.
      */
-    public AppleRenderer(Apple apple, SnakeGrid grid, Texture appleTexture,
+    public AppleRenderer(Apple apple, SnakeGrid grid, TextureRegion appleTexture,
                          MinigameRenderer renderer) {
         this.apple = apple;
         this.grid = grid;
@@ -1,6 +1,6 @@
 package com.csse3200.game.minigames.snake.rendering;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.minigames.MinigameRenderable;
 import com.csse3200.game.minigames.MinigameRenderer;
 import com.csse3200.game.minigames.snake.SnakeGrid;
@@ -12,8 +12,8 @@ public class GridRenderer implements MinigameRenderable {
 
     private static final int CELL_SIZE = 20;
     private final SnakeGrid grid;
-    private final Texture grassLightTexture;
-    private final Texture grassDarkTexture;
+    private final TextureRegion grassLightTexture;
+    private final TextureRegion grassDarkTexture;
     private final MinigameRenderer renderer;
 
     /**
@@ -22,7 +22,7 @@ public class GridRenderer implements MinigameRenderable {
      * @param grid The grid to render.
      * @param renderer The renderer used for drawing.
      */
-    public GridRenderer(SnakeGrid grid, Texture grassLightTexture, Texture grassDarkTexture, MinigameRenderer renderer) {
+    public GridRenderer(SnakeGrid grid, TextureRegion grassLightTexture, TextureRegion grassDarkTexture, MinigameRenderer renderer) {
         this.grid = grid;
         this.grassDarkTexture = grassDarkTexture;
         this.grassLightTexture = grassLightTexture;
@@ -1,6 +1,6 @@
 package com.csse3200.game.minigames.snake.rendering;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.minigames.MinigameRenderer;
 import com.csse3200.game.minigames.snake.AssetPaths;
 import com.csse3200.game.minigames.snake.SnakeGame;
@@ -17,15 +17,15 @@ import static com.csse3200.game.minigames.snake.AssetPaths.IMAGES;
 public class SnakeGameRenderer {
 
     private final ScoreBoard scoreBoard;
-    private Texture appleTexture ;
-    private Texture snakeBodyHorizontalTexture;
-    private Texture snakeBodyBentTexture;
-    private Texture snakeTailTexture;
-    private Texture grassTexture;
-    private Texture grassLightTexture;
-    private Texture grassDarkTexture;
-    private Texture snakeTexture;
-    private Texture snakeBodyVerticalTexture;
+    private TextureRegion appleTexture;
+    private TextureRegion snakeBodyHorizontalTexture;
+    private TextureRegion snakeBodyBentTexture;
+    private TextureRegion snakeTailTexture;
+    private TextureRegion grassTexture;
+    private TextureRegion grassLightTexture;
+    private TextureRegion grassDarkTexture;
+    private TextureRegion snakeTexture;
+    private TextureRegion snakeBodyVerticalTexture;
     private final MinigameRenderer renderer;
 
     /**
@@ -75,16 +75,15 @@ public class SnakeGameRenderer {
         ResourceService resourceService = ServiceLocator.getResourceService();
         resourceService.loadTextures(AssetPaths.IMAGES);
         ServiceLocator.getResourceService().loadAll();
-        grassTexture = resourceService.getAsset(AssetPaths.GRASS_IMAGE, Texture.class);
-        grassLightTexture = resourceService.getAsset(AssetPaths.GRASS_LIGHT_IMAGE, Texture.class);
-        grassDarkTexture = resourceService.getAsset(AssetPaths.GRASS_DARK_IMAGE, Texture.class);
-        appleTexture = resourceService.getAsset(AssetPaths.APPLE_IMAGE, Texture.class);
-        snakeTexture = resourceService.getAsset(AssetPaths.SNAKE_HEAD_IMAGE, Texture.class);
-        snakeBodyHorizontalTexture = resourceService.getAsset(AssetPaths.SNAKE_BODY_HORIZONTAL_IMAGE, Texture.class);
-        snakeBodyVerticalTexture = resourceService.getAsset(AssetPaths.SNAKE_BODY_VERTICAL_IMAGE, Texture.class);
-        snakeBodyBentTexture = resourceService.getAsset(AssetPaths.SNAKE_BODY_BENT_IMAGE, Texture.class);
-        snakeTailTexture = resourceService.getAsset(AssetPaths.SNAKE_TAIL_IMAGE,
-                Texture.class);
+        grassTexture = resourceService.getRegion(AssetPaths.GRASS_IMAGE);
+        grassLightTexture = resourceService.getRegion(AssetPaths.GRASS_LIGHT_IMAGE);
+        grassDarkTexture = resourceService.getRegion(AssetPaths.GRASS_DARK_IMAGE);
+        appleTexture = resourceService.getRegion(AssetPaths.APPLE_IMAGE);
+        snakeTexture = resourceService.getRegion(AssetPaths.SNAKE_HEAD_IMAGE);
+        snakeBodyHorizontalTexture = resourceService.getRegion(AssetPaths.SNAKE_BODY_HORIZONTAL_IMAGE);
+        snakeBodyVerticalTexture = resourceService.getRegion(AssetPaths.SNAKE_BODY_VERTICAL_IMAGE);
+        snakeBodyBentTexture = resourceService.getRegion(AssetPaths.SNAKE_BODY_BENT_IMAGE);
+        snakeTailTexture = resourceService.getRegion(AssetPaths.SNAKE_TAIL_IMAGE);
 
     }
 
@@ -98,19 +97,10 @@ public class SnakeGameRenderer {
     }
 
     /**
-     * Disposes of resources used by the renderer, including textures and the SpriteBatch.
+     * Disposes of resources used by the renderer, including the SpriteBatch, and unloads its textures.
      */
     public void dispose() {
         renderer.dispose();
-        appleTexture.dispose();
-        snakeTexture.dispose();
-        snakeBodyHorizontalTexture.dispose();
-        snakeBodyVerticalTexture.dispose();
-        snakeBodyBentTexture.dispose();
-        snakeTailTexture.dispose();
-        grassTexture.dispose();
-        grassLightTexture.dispose();
-        grassDarkTexture.dispose();
         unloadAssets();
         ServiceLocator.getResourceService().dispose();
     }
@@ -1,6 +1,6 @@
 package com.csse3200.game.minigames.snake.rendering;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.minigames.Direction;
 import com.csse3200.game.minigames.MinigameRenderable;
 import com.csse3200.game.minigames.MinigameRenderer;
@@ -15,10 +15,10 @@ public class SnakeRenderer implements MinigameRenderable {
     private static final int CELL_SIZE = 20;
     private final Snake snake;
     private final SnakeGrid grid;
-    private final Texture snakeTexture;
-    private final Texture snakeBodyVerticalTexture;
-    private final Texture snakeBodyBentTexture;
-    private final Texture snakeTailTexture;
+    private final TextureRegion snakeTexture;
+    private final TextureRegion snakeBodyVerticalTexture;
+    private final TextureRegion snakeBodyBentTexture;
+    private final TextureRegion snakeTailTexture;
     private final MinigameRenderer renderer;
 
     /**
@@ -31,10 +31,10 @@ public class SnakeRenderer implements MinigameRenderable {
      * @param snakeBodyBentTexture The texture for the snake's bent body segments.
      * @param renderer The renderer used for drawing.
      */
-    public SnakeRenderer(Snake snake, SnakeGrid grid, Texture snakeTexture,
-                         Texture snakeBodyVerticalTexture,
-                         Texture snakeBodyBentTexture,
-                         Texture snakeTailTexture, MinigameRenderer renderer) {
+    public SnakeRenderer(Snake snake, SnakeGrid grid, TextureRegion snakeTexture,
+                         TextureRegion snakeBodyVerticalTexture,
+                         TextureRegion snakeBodyBentTexture,
+                         TextureRegion snakeTailTexture, MinigameRenderer renderer) {
         this.snake = snake;
         this.grid = grid;
         this.snakeTexture = snakeTexture;
@@ -79,13 +79,7 @@ public class SnakeRenderer implements MinigameRenderable {
                 CELL_SIZE,
                 1f,
                 1f,
-                rotation,
-                0,
-                0,
-                snakeTexture.getWidth(),
-                snakeTexture.getHeight(),
-                false,
-                false
+                rotation
         );
     }
 
@@ -101,7 +95,7 @@ public class SnakeRenderer implements MinigameRenderable {
 
         for (Snake.Segment segment : snake.getBodySegments()) {
             Direction currentDirection = segment.direction();
-            Texture bodyTexture;
+            TextureRegion bodyTexture;
             float rotation;
 
             segmentX = startX + segment.x() * CELL_SIZE;
@@ -141,13 +135,7 @@ public class SnakeRenderer implements MinigameRenderable {
                     CELL_SIZE,
                     1f,
                     1f,
-                    rotation,
-                    0,
-                    0,
-                    bodyTexture.getWidth(),
-                    bodyTexture.getHeight(),
-                    false,
-                    false
+                    rotation
             );
             prevDirection = currentDirection;
         }
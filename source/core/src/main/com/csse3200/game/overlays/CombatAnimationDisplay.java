@@ -1,6 +1,6 @@
 package com.csse3200.game.overlays;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -130,8 +130,8 @@ public class CombatAnimationDisplay extends UIComponent {
      * player
      */
     public void sleepAnimation(){
-        Texture sleepTexture = ServiceLocator.getResourceService()
-                .getAsset("images/zzz.png", Texture.class);
+        TextureRegion sleepTexture = ServiceLocator.getResourceService()
+                .getRegion("images/zzz.png");
         sleepImage = new Image(sleepTexture);
 
         float xZ = stage.getWidth() * 0.21f;
@@ -180,8 +180,8 @@ public class CombatAnimationDisplay extends UIComponent {
      * Triggers identical sleep animation for enemy
      */
     public void enemySleepAnimation(){
-        Texture sleepTexture2 = ServiceLocator.getResourceService()
-                .getAsset("images/zzz.png", Texture.class);
+        TextureRegion sleepTexture2 = ServiceLocator.getResourceService()
+                .getRegion("images/zzz.png");
         enemySleepImage = new Image(sleepTexture2);
 
         float xZ = stage.getWidth() * 0.6f;
@@ -232,8 +232,8 @@ public class CombatAnimationDisplay extends UIComponent {
 
     public void guardAnimation(){
 
-        Texture guardTexture = ServiceLocator.getResourceService()
-                .getAsset("images/shield_flipped.png", Texture.class);
+        TextureRegion guardTexture = ServiceLocator.getResourceService()
+                .getRegion("images/shield_flipped.png");
         guardImage = new Image(guardTexture);
 
         float xZ = stage.getWidth() * 0.370f;
@@ -268,8 +268,8 @@ public class CombatAnimationDisplay extends UIComponent {
 
     public void enemyGuardAnimation(){
 
-        Texture guardTexture = ServiceLocator.getResourceService()
-                .getAsset("images/shield.png", Texture.class);
+        TextureRegion guardTexture = ServiceLocator.getResourceService()
+                .getRegion("images/shield.png");
         enemyGuardImage = new Image(guardTexture);
 
         float xZ = stage.getWidth() * 0.6f;
@@ -306,8 +306,8 @@ public class CombatAnimationDisplay extends UIComponent {
      * Triggers fireball to be thrown at enemy entity's position
      */
     public void playerAttackAnimation() {
-        Texture combatTexture = ServiceLocator.getResourceService()
-                .getAsset("images/rock.png", Texture.class); // Replaced with single_fireball
+        TextureRegion combatTexture = ServiceLocator.getResourceService()
+                .getRegion("images/rock.png"); // Replaced with single_fireball
 
         combatImage = new Image(combatTexture);
         combatImage.setAlign(Align.center);
@@ -345,8 +345,8 @@ public class CombatAnimationDisplay extends UIComponent {
      * player position
      */
     public void enemyAttackAnimation() {
-        Texture combatTexture = ServiceLocator.getResourceService()
-                .getAsset("images/rock.png", Texture.class); // Replaced with single_fireball
+        TextureRegion combatTexture = ServiceLocator.getResourceService()
+                .getRegion("images/rock.png"); // Replaced with single_fireball
 
         enemyCombatImage = new Image(combatTexture);
         enemyCombatImage.setAlign(Align.center);
@@ -2,7 +2,6 @@ package com.csse3200.game.overlays;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -55,7 +54,7 @@ public class PauseDisplay extends UIComponent {
     private void addActors() {
         // Title label
         Label title = new Label("Attack On Animals", skin, "title");
-        Image titleBackGround = new Image(ServiceLocator.getResourceService().getAsset("images/PauseOverlay/TitleBG.png", Texture.class));
+        Image titleBackGround = new Image(ServiceLocator.getResourceService().getRegion("images/PauseOverlay/TitleBG.png"));
         title.setColor(Color.RED);
         // Create tables
         Table menuBtns = makeMenuBtns();
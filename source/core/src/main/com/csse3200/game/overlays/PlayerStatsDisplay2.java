@@ -5,7 +5,6 @@ import com.csse3200.game.ui.UIComponent;
 import com.csse3200.game.screens.PausableScreen;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.services.ServiceLocator;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -88,14 +87,14 @@ public class PlayerStatsDisplay2 extends UIComponent {
         // Load the background image
         Image statsBackground = new Image(
                 ServiceLocator.getResourceService()
-                        .getAsset("images/QuestsOverlay/Quest_SBG.png", Texture.class));
+                        .getRegion("images/QuestsOverlay/Quest_SBG.png"));
 
         // Create the title and description labels
         Label title = new Label("PLAYER STATS", skin, "title");
         title.setColor(Color.RED);
         title.setFontScale(1.2f);
 
-        Image playerSprite = new Image(ServiceLocator.getResourceService().getAsset(spritePath, Texture.class));
+        Image playerSprite = new Image(ServiceLocator.getResourceService().getRegion(spritePath));
         Label description = new Label(playerDescription, skin, DEFAULT_TEXT);
 
         // Create the background table and set the background image
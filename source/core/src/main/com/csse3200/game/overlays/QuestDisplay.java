@@ -1,7 +1,6 @@
 package com.csse3200.game.overlays;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -323,7 +322,7 @@ public class QuestDisplay extends UIComponent {
 
         Image questsBackGround = new Image(
                 ServiceLocator.getResourceService()
-                        .getAsset("images/QuestsOverlay/Quest_SBG.png", Texture.class));
+                        .getRegion("images/QuestsOverlay/Quest_SBG.png"));
         background = new Table();
         background.setFillParent(true);
         background.add(questsBackGround).center();
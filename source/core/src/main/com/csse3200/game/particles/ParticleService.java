@@ -5,10 +5,11 @@ import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.minigames.maze.areas.MazeGameArea;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
@@ -17,30 +18,36 @@ import java.util.Map;
 public class ParticleService {
     // use pools to optimise using garbage collector usage
     private final Map<ParticleType, ParticleEffectPool> pools;
+    // the effects are loaded into the resource service of the screen which made this service
+    private final ResourceService resourceService;
     // directory path where images used by particle effects are stored
     private static final String IMAGES_DIR = "particles/images";
 
     /**
-     * Initialise the particle service and load particle effect assets. Requires
-     * the resource service to be registered in the service locator.
+     * Initialise the particle service and queue the particle effect assets. Requires
+     * the resource service to be registered in the service locator. The effects stream in
+     * with the screen's other optional assets, and each pool is made the first time its
+     * effect is used.
      * All particle effects are scaled by 0.02f so they can be a reasonable size in the
      * particle effect editor.
      */
     public ParticleService() {
-        pools = new HashMap<>();
+        pools = new EnumMap<>(ParticleType.class);
+        resourceService = ServiceLocator.getResourceService();
         String[] paths = Arrays.stream(ParticleType.values()).map(type -> type.path).toArray(String[]::new);
-        ServiceLocator.getResourceService().loadParticleEffects(paths, IMAGES_DIR);
-        ServiceLocator.getResourceService().loadAll();
-        for (ParticleType type : ParticleType.values()) {
-            ServiceLocator.getResourceService().getAsset(type.path, ParticleEffect.class);
-            ParticleEffect effect = ServiceLocator.getResourceService().getAsset(type.path, ParticleEffect.class);
+        resourceService.loadParticleEffects(paths, IMAGES_DIR);
+    }
+
+    private ParticleEffectPool getPool(ParticleType type) {
+        ParticleEffectPool pool = pools.get(type);
+        if (pool == null) {
+            // waits for the effect if it has not streamed in yet
+            ParticleEffect effect = resourceService.getAsset(type.path, ParticleEffect.class);
             effect.scaleEffect(0.02f);
-            pools.put(type, new ParticleEffectPool(
-                    effect,
-                    type.initialCapacity,
-                    type.max
-            ));
+            pool = new ParticleEffectPool(effect, type.initialCapacity, type.max);
+            pools.put(type, pool);
         }
+        return pool;
     }
 
     /**
@@ -51,7 +58,7 @@ public class ParticleService {
      * @return reference to the created particle effect.
      */
     public ParticleEffectRenderer makeEffect(ParticleType type, int layer) {
-        ParticleEffectPool.PooledEffect effect = pools.get(type).obtain();
+        ParticleEffectPool.PooledEffect effect = getPool(type).obtain();
         effect.reset(false);
         effect.start();
         return new ParticleEffectRenderer(effect, layer);
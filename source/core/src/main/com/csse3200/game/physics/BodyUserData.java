@@ -13,6 +13,21 @@ public class BodyUserData {
    */
   private Entity entity;
 
+  /**
+   * Layers of the fixtures the entity is told about contacts with
+   */
+  private short contactLayers = PhysicsLayer.ALL;
+
   public Entity getEntity() {return entity;}
   public void setEntity(Entity entity) {this.entity = entity;}
+
+  public short getContactLayers() {return contactLayers;}
+
+  /**
+   * Only trigger collision events on the entity for contacts with fixtures in these layers, so
+   * contacts its listeners would ignore never reach its event handler.
+   *
+   * @param contactLayers Physics layer mask, default {@link PhysicsLayer#ALL}
+   */
+  public void setContactLayers(short contactLayers) {this.contactLayers = contactLayers;}
 }
@@ -1,9 +1,13 @@
 package com.csse3200.game.physics;
 
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.csse3200.game.events.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+
 /**
  * Box2D collision events fire globally on the physics world, not per-object. The contact listener
  * receives these events, finds the entities involved in the collision, and triggers events on them.
@@ -13,20 +17,42 @@ import org.slf4j.LoggerFactory;
  *
  * <p>On contact end: evt = "collisionEnd", params = ({@link Fixture} thisFixture, {@link Fixture}
  * otherFixture)
+ *
+ * <p>Contacts reported while the world steps are not triggered straight away, since listeners
+ * would run inside the Box2D solver where the world can't be modified. Instead they are buffered
+ * between {@link #deferEvents()} and {@link #dispatchEvents()}, which the physics engine calls
+ * around its steps. A pair of fixtures which starts and ends contact several times over those
+ * steps triggers at most one start and one end.
+ *
+ * <p>An entity is only told about contacts with fixtures in its body's contact layers, see
+ * {@link BodyUserData#setContactLayers(short)}. Contacts no entity is told about are dropped
+ * without being buffered.
  */
 public class PhysicsContactListener implements ContactListener {
   private static final Logger logger = LoggerFactory.getLogger(PhysicsContactListener.class);
+  private static final int EVT_COLLISION_START = EventHandler.getEventId("collisionStart");
+  private static final int EVT_COLLISION_END = EventHandler.getEventId("collisionEnd");
+  private static final int INITIAL_CAPACITY = 32;
+
+  // Buffered contacts, one per pair of fixtures, in the order each pair was first reported
+  private Fixture[] fixturesA = new Fixture[INITIAL_CAPACITY];
+  private Fixture[] fixturesB = new Fixture[INITIAL_CAPACITY];
+  private boolean[] startedFirst = new boolean[INITIAL_CAPACITY];
+  private int[] eventCounts = new int[INITIAL_CAPACITY];
+  // Pairs are found by one of their fixtures, with pairs sharing that fixture chained together
+  private int[] nextWithKey = new int[INITIAL_CAPACITY];
+  private final ObjectIntMap<Fixture> firstWithKey = new ObjectIntMap<>();
+  private int size = 0;
+  private boolean deferring = false;
 
   @Override
   public void beginContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionStart", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionStart", contact.getFixtureA());
+    onContact(contact.getFixtureA(), contact.getFixtureB(), true);
   }
 
   @Override
   public void endContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionEnd", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionEnd", contact.getFixtureA());
+    onContact(contact.getFixtureA(), contact.getFixtureB(), false);
   }
 
   @Override
@@ -39,10 +65,112 @@ public class PhysicsContactListener implements ContactListener {
     // Nothing to do after resolving contact
   }
 
-  private void triggerEventOn(Fixture fixture, String evt, Fixture otherFixture) {
+  /** Buffer contacts from now until {@link #dispatchEvents()}. Called before stepping the world. */
+  public void deferEvents() {
+    deferring = true;
+  }
+
+  /**
+   * Trigger the events of every buffered contact, and trigger contacts immediately again from now
+   * on. Called once the world has finished stepping.
+   */
+  public void dispatchEvents() {
+    deferring = false;
+    int count = size;
+    for (int i = 0; i < count; i++) {
+      int firstEvt = startedFirst[i] ? EVT_COLLISION_START : EVT_COLLISION_END;
+      triggerEventOn(fixturesA[i], firstEvt, fixturesB[i]);
+      triggerEventOn(fixturesB[i], firstEvt, fixturesA[i]);
+      // Contacts alternate between starting and ending, so an even count also ended up back where
+      // it began and listeners need to see both
+      if (eventCounts[i] % 2 == 0) {
+        int secondEvt = startedFirst[i] ? EVT_COLLISION_END : EVT_COLLISION_START;
+        triggerEventOn(fixturesA[i], secondEvt, fixturesB[i]);
+        triggerEventOn(fixturesB[i], secondEvt, fixturesA[i]);
+      }
+    }
+
+    // Don't keep fixtures alive until they're overwritten
+    Arrays.fill(fixturesA, 0, count, null);
+    Arrays.fill(fixturesB, 0, count, null);
+    firstWithKey.clear();
+    size = 0;
+  }
+
+  /**
+   * @return The number of fixture pairs waiting to be dispatched
+   */
+  public int getBufferedCount() {
+    return size;
+  }
+
+  private void onContact(Fixture fixtureA, Fixture fixtureB, boolean start) {
+    if (!isListening(fixtureA, fixtureB) && !isListening(fixtureB, fixtureA)) {
+      return;
+    }
+    if (!deferring) {
+      // e.g. contacts ending because a body was destroyed, whose fixtures are freed straight after
+      int evt = start ? EVT_COLLISION_START : EVT_COLLISION_END;
+      triggerEventOn(fixtureA, evt, fixtureB);
+      triggerEventOn(fixtureB, evt, fixtureA);
+      return;
+    }
+
+    Fixture key =
+        System.identityHashCode(fixtureA) <= System.identityHashCode(fixtureB) ? fixtureA : fixtureB;
+    int index = firstWithKey.get(key, -1);
+    while (index != -1) {
+      if ((fixturesA[index] == fixtureA && fixturesB[index] == fixtureB)
+          || (fixturesA[index] == fixtureB && fixturesB[index] == fixtureA)) {
+        eventCounts[index]++;
+        return;
+      }
+      index = nextWithKey[index];
+    }
+
+    if (size == fixturesA.length) {
+      grow();
+    }
+    fixturesA[size] = fixtureA;
+    fixturesB[size] = fixtureB;
+    startedFirst[size] = start;
+    eventCounts[size] = 1;
+    nextWithKey[size] = firstWithKey.get(key, -1);
+    firstWithKey.put(key, size);
+    size++;
+  }
+
+  private void grow() {
+    int capacity = fixturesA.length * 2;
+    fixturesA = Arrays.copyOf(fixturesA, capacity);
+    fixturesB = Arrays.copyOf(fixturesB, capacity);
+    startedFirst = Arrays.copyOf(startedFirst, capacity);
+    eventCounts = Arrays.copyOf(eventCounts, capacity);
+    nextWithKey = Arrays.copyOf(nextWithKey, capacity);
+  }
+
+  /** Whether the entity owning a fixture wants to know about contacts with another fixture */
+  private static boolean isListening(Fixture fixture, Fixture otherFixture) {
     BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
-    if (userData != null && userData.getEntity() != null) {
-      logger.debug("{} on entity {}", evt, userData.getEntity());
+    if (userData == null || userData.getEntity() == null) {
+      return false;
+    }
+    if (otherFixture.getBody().getUserData() == null) {
+      // destroyed since the contact was buffered, and already told the contact ended
+      return false;
+    }
+    short contactLayers = userData.getContactLayers();
+    return contactLayers == PhysicsLayer.ALL
+        || PhysicsLayer.contains(contactLayers, otherFixture.getFilterData().categoryBits);
+  }
+
+  private void triggerEventOn(Fixture fixture, int evt, Fixture otherFixture) {
+    // the entity may have been disposed by an earlier event in the batch
+    if (isListening(fixture, otherFixture)) {
+      BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
+      if (logger.isDebugEnabled()) {
+        logger.debug("{} on entity {}", EventHandler.getEventName(evt), userData.getEntity());
+      }
       userData.getEntity().getEvents().trigger(evt, fixture, otherFixture);
     }
   }
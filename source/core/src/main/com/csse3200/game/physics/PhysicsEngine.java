@@ -1,16 +1,27 @@
 package com.csse3200.game.physics;
 
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.csse3200.game.areas.terrain.TerrainFactory;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.raycast.AllHitCallback;
 import com.csse3200.game.physics.raycast.RaycastHit;
-import com.csse3200.game.physics.raycast.SingleHitCallback;
+import com.csse3200.game.physics.raycast.RaycastService;
+import com.csse3200.game.profiling.FrameProfiler;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Process game physics using the Box2D library. See the Box2D documentation for examples or use
  * cases.
@@ -22,12 +33,33 @@ public class PhysicsEngine implements Disposable {
   private static final Vector2 GRAVITY = new Vector2(0f, -0f);
   private static final int VELOCITY_ITERATIONS = 6;
   private static final int POSITION_ITERATIONS = 2;
+  private static final int MAX_STEPS_PER_FRAME = 5;
+  // how often moving bodies are checked for leaving the active chunks
+  private static final int CHUNK_CHECK_INTERVAL = 30;
 
   private final World world;
   private final GameTime timeSource;
-  private final SingleHitCallback singleHitCallback = new SingleHitCallback();
   private final AllHitCallback allHitCallback = new AllHitCallback();
+  private final RaycastService raycastService;
+  private final PhysicsContactListener contactListener = new PhysicsContactListener();
+  private final Array<PhysicsComponent> syncedComponents = new Array<>(false, 64);
   private float accumulator;
+  private float timestep = PHYSICS_TIMESTEP;
+  private int velocityIterations = VELOCITY_ITERATIONS;
+  private int positionIterations = POSITION_ITERATIONS;
+  private int maxStepsPerFrame = MAX_STEPS_PER_FRAME;
+  private boolean interpolating = false;
+  private int stepsLastFrame = 0;
+  private float droppedTime = 0f;
+  private long stepNanos = 0;
+
+  // bodies deactivated by the engine for being outside the active chunks, to reactivate later
+  private final ObjectSet<Body> restingBodies = new ObjectSet<>();
+  private Set<GridPoint2> activeChunks = null;
+  private final Set<GridPoint2> lastActiveChunks = new HashSet<>();
+  private final Array<Body> bodies = new Array<>(false, 64);
+  private final GridPoint2 chunkPos = new GridPoint2();
+  private long updates = 0;
 
   public PhysicsEngine() {
     this(new World(GRAVITY, true), ServiceLocator.getTimeSource());
@@ -35,23 +67,305 @@ public class PhysicsEngine implements Disposable {
 
   public PhysicsEngine(World world, GameTime timeSource) {
     this.world = world;
-    world.setContactListener(new PhysicsContactListener());
+    world.setContactListener(contactListener);
     this.timeSource = timeSource;
+    raycastService = new RaycastService(world);
   }
 
   public void update() {
     // Updating physics isn't as easy as triggering an update every frame. Each frame could take a
     // different amount of time to run, but physics simulations are only stable if computed at a
     // consistent frame rate! See: https://gafferongames.com/post/fix_your_timestep/
+    long start = FrameProfiler.start();
+    // bodies are about to move, so last frame's raycasts are out of date
+    raycastService.newFrame();
     float deltaTime = timeSource.getDeltaTime();
     float maxTime = Math.min(deltaTime, MAX_UPDATE_TIME);
     accumulator += maxTime;
 
     // Depending on how much time has passed, we may compute 0 or more physics steps in one go. If
     // we need to catch up, we'll compute multiple in a row before getting to rendering.
-    while (accumulator >= PHYSICS_TIMESTEP) {
-      world.step(PHYSICS_TIMESTEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
-      accumulator -= PHYSICS_TIMESTEP;
+    // Collision events are triggered together once every step is done, rather than mid step
+    updateResting();
+    contactListener.deferEvents();
+    int steps = 0;
+    long stepsStart = System.nanoTime();
+    while (accumulator >= timestep && steps < maxStepsPerFrame) {
+      if (interpolating && (accumulator < 2 * timestep || steps == maxStepsPerFrame - 1)) {
+        // the last step this frame, which is interpolated from
+        savePreviousPositions();
+      }
+      world.step(timestep, velocityIterations, positionIterations);
+      accumulator -= timestep;
+      steps++;
+    }
+    if (accumulator >= timestep) {
+      // Too far behind to catch up. Dropping the time keeps the next frames from taking even
+      // longer to step, which would put us further behind every frame.
+      float dropped = accumulator - accumulator % timestep;
+      logger.debug("Physics fell behind, dropping {}s", dropped);
+      droppedTime += dropped;
+      accumulator -= dropped;
+    }
+    stepsLastFrame = steps;
+    if (steps > 0) {
+      stepNanos = (System.nanoTime() - stepsStart) / steps;
+      FrameProfiler.set(FrameProfiler.Metric.PHYSICS_STEP, stepNanos);
+    }
+    FrameProfiler.set(FrameProfiler.Metric.ACTIVE_BODIES, getActiveBodyCount());
+    if (steps > 0) {
+      syncTransforms();
+    }
+    if (interpolating) {
+      interpolateTransforms(accumulator / timestep);
+    }
+    contactListener.dispatchEvents();
+    FrameProfiler.stop(FrameProfiler.Metric.PHYSICS, start);
+  }
+
+  /**
+   * Move every synced entity to its body in one pass, skipping bodies which are asleep and so
+   * haven't moved. Called after stepping the world.
+   */
+  public void syncTransforms() {
+    for (int i = 0; i < syncedComponents.size; i++) {
+      PhysicsComponent component = syncedComponents.get(i);
+      if (component.getBody().isAwake()) {
+        component.syncTransform();
+      }
+    }
+  }
+
+  /**
+   * Set how often the world is stepped. Lower rates cost less but respond more slowly, so turn on
+   * interpolation to keep motion smooth.
+   *
+   * @param stepsPerSecond Steps per second of game time, e.g. 30 on weak hardware
+   */
+  public void setTickRate(float stepsPerSecond) {
+    timestep = 1f / stepsPerSecond;
+  }
+
+  /**
+   * @return Game time simulated by each step, in seconds
+   */
+  public float getTimestep() {
+    return timestep;
+  }
+
+  /**
+   * Set how many solver iterations each step runs. More iterations are more accurate but slower.
+   *
+   * @param velocityIterations Velocity constraint iterations, default 6
+   * @param positionIterations Position constraint iterations, default 2
+   */
+  public void setIterations(int velocityIterations, int positionIterations) {
+    this.velocityIterations = velocityIterations;
+    this.positionIterations = positionIterations;
+  }
+
+  /**
+   * Set the most steps taken in one frame. If the game falls further behind than this, e.g. after
+   * a hitch, the rest of the time is dropped rather than stepped.
+   *
+   * @param maxStepsPerFrame Most steps per frame, at least 1
+   */
+  public void setMaxStepsPerFrame(int maxStepsPerFrame) {
+    this.maxStepsPerFrame = Math.max(maxStepsPerFrame, 1);
+  }
+
+  /**
+   * Set whether synced entities are drawn between their last two steps, according to how much
+   * time has built up towards the next step. This keeps motion smooth when physics steps less
+   * often than frames are drawn, at the cost of drawing up to one step behind.
+   *
+   * @param interpolating true to interpolate
+   */
+  public void setInterpolating(boolean interpolating) {
+    if (this.interpolating && !interpolating) {
+      for (int i = 0; i < syncedComponents.size; i++) {
+        syncedComponents.get(i).getEntity().setRenderOffset(0f, 0f);
+      }
+    }
+    this.interpolating = interpolating;
+  }
+
+  public boolean isInterpolating() {
+    return interpolating;
+  }
+
+  /**
+   * @return The number of steps taken by the last update
+   */
+  public int getStepsLastFrame() {
+    return stepsLastFrame;
+  }
+
+  /**
+   * @return Game time, in seconds, which was dropped rather than stepped because physics fell too
+   *     far behind
+   */
+  public float getDroppedTime() {
+    return droppedTime;
+  }
+
+  /**
+   * @return The mean time taken by each step in the last update that stepped, in nanoseconds
+   */
+  public long getStepNanos() {
+    return stepNanos;
+  }
+
+  /**
+   * Deactivate bodies outside the given chunks, so they take no part in the simulation until their
+   * chunk is active again. The player, and bodies too big to fit in a chunk such as the world
+   * barriers, always stay active. The set is read every update, so it can be updated in place,
+   * e.g. by {@link com.csse3200.game.areas.terrain.TerrainComponent#getActiveChunks()}.
+   *
+   * @param activeChunks The chunks in which bodies stay active, or null to keep every body active
+   */
+  public void setActiveChunks(Set<GridPoint2> activeChunks) {
+    this.activeChunks = activeChunks;
+    lastActiveChunks.clear();
+    if (activeChunks != null) {
+      lastActiveChunks.addAll(activeChunks);
+    }
+
+    world.getBodies(bodies);
+    for (int i = 0; i < bodies.size; i++) {
+      Body body = bodies.get(i);
+      if (restingBodies.contains(body)) {
+        if (!shouldRest(body)) {
+          restingBodies.remove(body);
+          body.setActive(true);
+        }
+      } else if (body.isActive() && shouldRest(body)) {
+        restingBodies.add(body);
+        body.setActive(false);
+      }
+    }
+    bodies.clear();
+  }
+
+  /**
+   * Reactivate a body the engine deactivated if it has been moved into an active chunk, e.g. by
+   * setting its entity's position. Bodies moved out of the active chunks are deactivated by the
+   * periodic check instead.
+   *
+   * @param body The body which was moved
+   */
+  public void onBodyMoved(Body body) {
+    if (restingBodies.contains(body) && !shouldRest(body)) {
+      restingBodies.remove(body);
+      body.setActive(true);
+    }
+  }
+
+  /**
+   * @return The number of bodies in the world
+   */
+  public int getBodyCount() {
+    return world.getBodyCount();
+  }
+
+  /**
+   * @return The number of bodies in the world which haven't been deactivated for being outside the
+   *     active chunks
+   */
+  public int getActiveBodyCount() {
+    return world.getBodyCount() - restingBodies.size;
+  }
+
+  /**
+   * Deactivate and reactivate bodies after the active chunks change, and deactivate moving bodies
+   * which have left them. Inactive bodies can't move, so only active ones need checking.
+   */
+  private void updateResting() {
+    if (activeChunks == null) {
+      if (restingBodies.size > 0) {
+        setActiveChunks(null);
+      }
+      return;
+    }
+    if (!lastActiveChunks.equals(activeChunks)) {
+      setActiveChunks(activeChunks);
+      return;
+    }
+    if (++updates % CHUNK_CHECK_INTERVAL != 0) {
+      return;
+    }
+    for (int i = 0; i < syncedComponents.size; i++) {
+      Body body = syncedComponents.get(i).getBody();
+      if (body.isAwake() && shouldRest(body)) {
+        restingBodies.add(body);
+        body.setActive(false);
+      }
+    }
+  }
+
+  private boolean shouldRest(Body body) {
+    if (activeChunks == null || !(body.getUserData() instanceof BodyUserData userData)) {
+      return false;
+    }
+    Entity entity = userData.getEntity();
+    if (entity == null || entity.isPlayer()) {
+      return false;
+    }
+    float chunkSize = TerrainFactory.CHUNK_SIZE;
+    float width = Math.abs(entity.getScaleX());
+    float height = Math.abs(entity.getScaleY());
+    if (width > chunkSize || height > chunkSize) {
+      return false;
+    }
+    // Fits in at most four chunks, and rests only if none of them are active
+    float x = entity.getPositionX();
+    float y = entity.getPositionY();
+    return !isActiveChunk(x, y, chunkSize) && !isActiveChunk(x + width, y, chunkSize)
+        && !isActiveChunk(x, y + height, chunkSize) && !isActiveChunk(x + width, y + height, chunkSize);
+  }
+
+  private boolean isActiveChunk(float x, float y, float chunkSize) {
+    chunkPos.set(MathUtils.floor(x / chunkSize), MathUtils.floor(y / chunkSize));
+    return activeChunks.contains(chunkPos);
+  }
+
+  private void savePreviousPositions() {
+    for (int i = 0; i < syncedComponents.size; i++) {
+      PhysicsComponent component = syncedComponents.get(i);
+      if (component.getBody().isAwake()) {
+        component.savePreviousPosition();
+      }
+    }
+  }
+
+  private void interpolateTransforms(float alpha) {
+    for (int i = 0; i < syncedComponents.size; i++) {
+      PhysicsComponent component = syncedComponents.get(i);
+      if (component.getBody().isAwake()) {
+        component.interpolate(alpha);
+      }
+    }
+  }
+
+  /**
+   * Move a physics component's entity to its body after every step, instead of the component
+   * doing it in its own update.
+   *
+   * @param component The component, which must have a non-static body
+   */
+  public void addSyncedComponent(PhysicsComponent component) {
+    syncedComponents.add(component);
+    component.setSyncedByEngine(true);
+  }
+
+  /**
+   * Stop moving a physics component's entity to its body.
+   *
+   * @param component The component
+   */
+  public void removeSyncedComponent(PhysicsComponent component) {
+    if (syncedComponents.removeValue(component, true)) {
+      component.setSyncedByEngine(false);
     }
   }
 
@@ -62,6 +376,10 @@ public class PhysicsEngine implements Disposable {
 
   public void destroyBody(Body body) {
     logger.debug("Destroying physics body {}", body);
+    // bodies are pooled, so don't reactivate whichever body reuses this one
+    restingBodies.remove(body);
+    // cached raycasts may hold the body's fixtures, which are freed with it
+    raycastService.invalidate();
     world.destroyBody(body);
   }
 
@@ -75,13 +393,24 @@ public class PhysicsEngine implements Disposable {
     world.destroyJoint(joint);
   }
 
+  public PhysicsContactListener getContactListener() {
+    return contactListener;
+  }
+
+  /**
+   * @return The service which casts and caches this world's raycasts, e.g. to cast rays in batches
+   */
+  public RaycastService getRaycastService() {
+    return raycastService;
+  }
+
   public World getWorld() {
     return world;
   }
 
   /**
    * Cast a ray in a straight line from one point to another, checking for a collision against any
-   * colliders.
+   * colliders. Results are cached until the next update, see {@link RaycastService}.
    *
    * @param from The starting point of the ray.
    * @param to The end point of the ray.
@@ -104,11 +433,7 @@ public class PhysicsEngine implements Disposable {
    * @return true if a collider was hit, false otherwise.
    */
   public boolean raycast(Vector2 from, Vector2 to, short layerMask, RaycastHit hit) {
-    singleHitCallback.setDidHit(false);
-    singleHitCallback.setLayerMask(layerMask);
-    singleHitCallback.setHit(hit);
-    world.rayCast(singleHitCallback, from, to);
-    return singleHitCallback.getDidHit();
+    return raycastService.raycast(from, to, layerMask, hit);
   }
 
   /**
@@ -134,11 +459,29 @@ public class PhysicsEngine implements Disposable {
    * @return All hits made by the ray, unordered. Empty if no hits were made.
    */
   public RaycastHit[] raycastAll(Vector2 from, Vector2 to, short layerMask) {
+    allHitCallback.clear();
     allHitCallback.setLayerMask(layerMask);
     world.rayCast(allHitCallback, from, to);
     return allHitCallback.getHitsAndClear();
   }
 
+  /**
+   * Cast a ray in a straight line from one point to another, checking for all collision against
+   * colliders in the specified layers, without allocating.
+   *
+   * @param from The starting point of the ray.
+   * @param to The end point of the ray.
+   * @param layerMask The physics layer mask which specifies layers that can be hit. Other layers
+   *     will be ignored.
+   * @return All hits made by the ray, unordered. Reused by the next call, so must not be kept.
+   */
+  public Array<RaycastHit> raycastAllReused(Vector2 from, Vector2 to, short layerMask) {
+    allHitCallback.clear();
+    allHitCallback.setLayerMask(layerMask);
+    world.rayCast(allHitCallback, from, to);
+    return allHitCallback.getHits();
+  }
+
   @Override
   public void dispose() {
     world.dispose();
@@ -8,6 +8,7 @@ import com.csse3200.game.components.Component;
 import com.csse3200.game.physics.BodyUserData;
 import com.csse3200.game.physics.PhysicsContactListener;
 import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
@@ -22,6 +23,11 @@ public class PhysicsComponent extends Component {
   private final PhysicsEngine physics;
   private final Body body;
   private boolean notify;
+  private boolean syncedByEngine = false;
+  private boolean syncing = false;
+  // body position before the last physics step, for interpolation
+  private final Vector2 previousPosition = new Vector2();
+  private short contactLayers = PhysicsLayer.ALL;
 
   /** Create a physics component with default settings. */
   public PhysicsComponent() {
@@ -62,6 +68,21 @@ public class PhysicsComponent extends Component {
     return this;
   }
 
+  /**
+   * Set which layers the entity is told about contacts with. Contacts with fixtures in other layers
+   * don't trigger "collisionStart" or "collisionEnd" on this entity.
+   *
+   * @param contactLayers physics layer mask, default = {@link PhysicsLayer#ALL}
+   * @return self
+   */
+  public PhysicsComponent setContactLayers(short contactLayers) {
+    this.contactLayers = contactLayers;
+    if (body.getUserData() instanceof BodyUserData userData) {
+      userData.setContactLayers(contactLayers);
+    }
+    return this;
+  }
+
   /**
    * Get the physics body.
    *
@@ -78,24 +99,81 @@ public class PhysicsComponent extends Component {
 
     BodyUserData userData = new BodyUserData();
     userData.setEntity(entity);
+    userData.setContactLayers(contactLayers);
     body.setUserData(userData);
 
-    entity.getEvents().addListener("setPosition", (Vector2 pos) -> body.setTransform(pos, 0f));
+    entity.getPosition(previousPosition);
+    entity.getEvents().addListener("setPosition", this::onSetPosition);
+    if (body.getType() != BodyType.StaticBody) {
+      physics.addSyncedComponent(this);
+    }
   }
 
   /**
    * Entity position needs to be updated to match the new physics position. This should happen
-   * before other updates, which may use the new position.
+   * before other updates, which may use the new position. Skipped when the physics engine already
+   * moves every entity to its body after each step.
    */
   @Override
   public void earlyUpdate() {
-    Vector2 bodyPos = body.getPosition();
+    if (!syncedByEngine) {
+      syncTransform();
+    }
+  }
+
+  /**
+   * Move the entity to its body's position, without allocating.
+   */
+  public void syncTransform() {
     // Don't notify position changes due to physics unless required
-    entity.setPosition(bodyPos, this.notify);
+    syncing = true;
+    entity.setPosition(body.getPosition(), this.notify);
+    syncing = false;
+  }
+
+  /**
+   * Remember where the body is before the physics engine steps, to interpolate from.
+   */
+  public void savePreviousPosition() {
+    previousPosition.set(body.getPosition());
+  }
+
+  /**
+   * Draw the entity part of the way from where its body was before the last step to where it is
+   * now, so that motion looks smooth when physics steps less often than frames are drawn.
+   *
+   * @param alpha How far through the next step the game is, from 0 to 1
+   */
+  public void interpolate(float alpha) {
+    Vector2 position = body.getPosition();
+    float behind = 1f - alpha;
+    entity.setRenderOffset(
+        (previousPosition.x - position.x) * behind, (previousPosition.y - position.y) * behind);
+  }
+
+  private void onSetPosition(Vector2 position) {
+    if (!syncing) {
+      // moved by something other than physics, so don't interpolate from where it was
+      body.setTransform(position, 0f);
+      previousPosition.set(position);
+      // an inactive body can't move itself back into the active chunks, so check it now
+      physics.onBodyMoved(body);
+    }
+  }
+
+  /**
+   * Set whether the physics engine moves the entity to its body after each step, in which case the
+   * component doesn't need to in {@link #earlyUpdate()}. Called by the physics engine.
+   *
+   * @param syncedByEngine true if the engine syncs this component
+   */
+  public void setSyncedByEngine(boolean syncedByEngine) {
+    this.syncedByEngine = syncedByEngine;
   }
 
   @Override
   public void dispose() {
+    physics.removeSyncedComponent(this);
     physics.destroyBody(body);
   }
 
@@ -7,26 +7,50 @@ import com.badlogic.gdx.utils.Array;
 
 /**
  * Cast a ray against all colliders that match the layer mask. All hits will be stored, with an empty
- * array if no hits occurred.
+ * array if no hits occurred. Hits are reused between casts, so none are allocated once enough
+ * have been made.
  */
 public class AllHitCallback implements RayCastCallback {
   private final Array<RaycastHit> raycastHits;
+  private final Array<RaycastHit> spareHits;
   private short layerMask = ~0;
 
   public AllHitCallback() {
     this.raycastHits = new Array<>(false, 4);
+    this.spareHits = new Array<>(false, 4);
   }
 
+  /**
+   * @return Copies of the hits made since the last clear, which can be kept
+   */
   public RaycastHit[] getHitsAndClear() {
-    RaycastHit[] hits = raycastHits.toArray();
-    raycastHits.clear();
+    RaycastHit[] hits = new RaycastHit[raycastHits.size];
+    for (int i = 0; i < hits.length; i++) {
+      hits[i] = new RaycastHit();
+      hits[i].set(raycastHits.get(i));
+    }
+    clear();
     return hits;
   }
 
+  /**
+   * @return The hits made since the last clear. These are reused after the next clear, so must not
+   *     be kept.
+   */
+  public Array<RaycastHit> getHits() {
+    return raycastHits;
+  }
+
+  /** Forget the hits made, keeping them to reuse. */
+  public void clear() {
+    spareHits.addAll(raycastHits);
+    raycastHits.clear();
+  }
+
   @Override
   public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
     if ((fixture.getFilterData().categoryBits & layerMask) != 0) {
-      RaycastHit hit = new RaycastHit();
+      RaycastHit hit = spareHits.size > 0 ? spareHits.pop() : new RaycastHit();
       hit.setFixture(fixture);
       hit.setNormal(normal);
       hit.setPoint(point);
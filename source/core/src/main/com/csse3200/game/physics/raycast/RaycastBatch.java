@@ -0,0 +1,92 @@
+package com.csse3200.game.physics.raycast;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ShortArray;
+
+/**
+ * A reusable list of rays to cast together with {@link RaycastService#raycast(RaycastBatch)}, and
+ * their results. Keep one per caller and {@link #clear()} it before adding the next rays, so the
+ * hits are reused rather than allocated every time.
+ */
+public class RaycastBatch {
+  // from x, from y, to x, to y for each ray
+  private final FloatArray segments = new FloatArray();
+  private final ShortArray layerMasks = new ShortArray();
+  private final BooleanArray results = new BooleanArray();
+  private final Array<RaycastHit> hits = new Array<>();
+  private int size = 0;
+
+  /**
+   * Add a ray to cast.
+   *
+   * @param from The starting point of the ray.
+   * @param to The end point of the ray.
+   * @param layerMask The physics layer mask which specifies layers that can be hit.
+   * @return The index of the ray, to read its result with
+   */
+  public int add(Vector2 from, Vector2 to, short layerMask) {
+    segments.add(from.x, from.y, to.x, to.y);
+    layerMasks.add(layerMask);
+    results.add(false);
+    if (hits.size == size) {
+      hits.add(new RaycastHit());
+    }
+    return size++;
+  }
+
+  /** Remove every ray, keeping the hits to reuse. */
+  public void clear() {
+    segments.clear();
+    layerMasks.clear();
+    results.clear();
+    size = 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param index Index of the ray
+   * @return true if the ray hit a collider, once the batch has been cast
+   */
+  public boolean didHit(int index) {
+    return results.get(index);
+  }
+
+  /**
+   * @param index Index of the ray
+   * @return The closest hit of the ray, only valid if {@link #didHit(int)} and until the batch is
+   *     cast again
+   */
+  public RaycastHit getHit(int index) {
+    return hits.get(index);
+  }
+
+  float getFromX(int index) {
+    return segments.get(4 * index);
+  }
+
+  float getFromY(int index) {
+    return segments.get(4 * index + 1);
+  }
+
+  float getToX(int index) {
+    return segments.get(4 * index + 2);
+  }
+
+  float getToY(int index) {
+    return segments.get(4 * index + 3);
+  }
+
+  short getLayerMask(int index) {
+    return layerMasks.get(index);
+  }
+
+  void setResult(int index, boolean didHit) {
+    results.set(index, didHit);
+  }
+}
@@ -10,15 +10,38 @@ public class RaycastHit {
   private Fixture fixture;
 
   /** Point at which the raycast hit the fixture. */
-  private Vector2 point;
+  private final Vector2 point = new Vector2();
 
   /** the normal vector of the collider surface at the hit point. */
-  private Vector2 normal;
+  private final Vector2 normal = new Vector2();
 
   public Fixture getFixture() {return fixture;}
   public Vector2 getPoint() {return point;}
   public Vector2 getNormal() {return normal;}
   public void setFixture(Fixture fixture) {this.fixture = fixture;}
-  public void setPoint(Vector2 point) {this.point = point;}
-  public void setNormal(Vector2 normal) {this.normal = normal;}
+
+  /**
+   * Copy the hit point. Box2D reuses the vectors it reports hits with, so they can't be kept.
+   *
+   * @param point Point at which the ray hit
+   */
+  public void setPoint(Vector2 point) {this.point.set(point);}
+
+  /**
+   * Copy the normal at the hit point.
+   *
+   * @param normal Normal of the collider surface
+   */
+  public void setNormal(Vector2 normal) {this.normal.set(normal);}
+
+  /**
+   * Copy another hit into this one.
+   *
+   * @param hit The hit to copy
+   */
+  public void set(RaycastHit hit) {
+    fixture = hit.fixture;
+    point.set(hit.point);
+    normal.set(hit.normal);
+  }
 }
@@ -0,0 +1,253 @@
+package com.csse3200.game.physics.raycast;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.World;
+import com.csse3200.game.profiling.FrameProfiler;
+
+/**
+ * Casts rays against the physics world, remembering each result until the end of the frame. Many
+ * NPCs cast the same line of sight ray several times a frame, so repeated rays are answered from
+ * the cache instead of the world. Rays are matched on their endpoints rounded to
+ * {@link #DEFAULT_QUANTUM} world units and their layer mask.
+ *
+ * <p>Queries can be made one at a time, or together with a {@link RaycastBatch}. Results are
+ * copied into hits owned by the caller, so nothing is allocated per query once the cache has grown
+ * to the number of distinct rays cast in a frame.
+ *
+ * <p>Results are only as fresh as the start of the frame, see {@link #newFrame()}, or the last
+ * time a body was destroyed, see {@link #invalidate()}.
+ */
+public class RaycastService {
+  /** Endpoints closer together than this are treated as the same, in world units */
+  public static final float DEFAULT_QUANTUM = 1f / 16f;
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final World world;
+  private final SingleHitCallback callback = new SingleHitCallback();
+  private final RaycastHit castHit = new RaycastHit();
+  private final Vector2 from = new Vector2();
+  private final Vector2 to = new Vector2();
+  private float quantum = DEFAULT_QUANTUM;
+
+  // Open addressing hash table, with entries from earlier frames counting as empty
+  private int[] keyFromX;
+  private int[] keyFromY;
+  private int[] keyToX;
+  private int[] keyToY;
+  private short[] keyMask;
+  private int[] entryFrame;
+  private boolean[] didHit;
+  private Fixture[] fixtures;
+  private float[] points;
+  private float[] normals;
+  private int mask;
+  private int size = 0;
+  private int frame = 1;
+
+  private long queries = 0;
+  private long cacheHits = 0;
+  private int frameQueries = 0;
+  private int frameCacheHits = 0;
+
+  public RaycastService(World world) {
+    this.world = world;
+    allocate(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Forget every cached result, since bodies may have moved. Called by the physics engine each
+   * frame before stepping.
+   */
+  public void newFrame() {
+    invalidate();
+    frameQueries = 0;
+    frameCacheHits = 0;
+  }
+
+  /**
+   * Forget every cached result part way through a frame, e.g. because a body was destroyed and the
+   * cache may still hold its fixtures.
+   */
+  public void invalidate() {
+    frame++;
+    size = 0;
+  }
+
+  /**
+   * Set how close two rays' endpoints must be for them to share a result.
+   *
+   * @param quantum Distance in world units. Smaller values give more exact results but share fewer.
+   */
+  public void setQuantum(float quantum) {
+    this.quantum = quantum;
+    newFrame();
+  }
+
+  /**
+   * Cast a ray in a straight line from one point to another, checking for a collision against
+   * colliders in the specified layers.
+   *
+   * @param from The starting point of the ray.
+   * @param to The end point of the ray.
+   * @param layerMask The physics layer mask which specifies layers that can be hit.
+   * @param hit The hit of the closest collider will be copied into this.
+   * @return true if a collider was hit, false otherwise.
+   */
+  public boolean raycast(Vector2 from, Vector2 to, short layerMask, RaycastHit hit) {
+    return raycast(from.x, from.y, to.x, to.y, layerMask, hit);
+  }
+
+  /**
+   * Cast every ray in a batch, storing each result in the batch.
+   *
+   * @param batch Rays to cast
+   */
+  public void raycast(RaycastBatch batch) {
+    for (int i = 0; i < batch.size(); i++) {
+      batch.setResult(i, raycast(batch.getFromX(i), batch.getFromY(i), batch.getToX(i),
+          batch.getToY(i), batch.getLayerMask(i), batch.getHit(i)));
+    }
+  }
+
+  /**
+   * @return The number of rays asked for since the service was created
+   */
+  public long getQueryCount() {
+    return queries;
+  }
+
+  /**
+   * @return The number of rays cast against the world, rather than answered from the cache
+   */
+  public long getCastCount() {
+    return queries - cacheHits;
+  }
+
+  /**
+   * @return The fraction of rays answered from the cache, from 0 to 1
+   */
+  public float getCacheHitRate() {
+    return queries == 0 ? 0f : (float) cacheHits / queries;
+  }
+
+  private boolean raycast(float fromX, float fromY, float toX, float toY, short layerMask,
+      RaycastHit hit) {
+    queries++;
+    frameQueries++;
+    FrameProfiler.set(FrameProfiler.Metric.RAYCASTS, frameQueries);
+
+    int qFromX = MathUtils.round(fromX / quantum);
+    int qFromY = MathUtils.round(fromY / quantum);
+    int qToX = MathUtils.round(toX / quantum);
+    int qToY = MathUtils.round(toY / quantum);
+    int index = hash(qFromX, qFromY, qToX, qToY, layerMask) & mask;
+    while (entryFrame[index] == frame) {
+      if (keyFromX[index] == qFromX && keyFromY[index] == qFromY && keyToX[index] == qToX
+          && keyToY[index] == qToY && keyMask[index] == layerMask) {
+        cacheHits++;
+        frameCacheHits++;
+        FrameProfiler.set(FrameProfiler.Metric.RAYCAST_CACHE_HITS, frameCacheHits);
+        return copyResult(index, hit);
+      }
+      index = (index + 1) & mask;
+    }
+
+    // Not cast yet this frame
+    callback.setDidHit(false);
+    callback.setLayerMask(layerMask);
+    callback.setHit(castHit);
+    world.rayCast(callback, this.from.set(fromX, fromY), this.to.set(toX, toY));
+
+    keyFromX[index] = qFromX;
+    keyFromY[index] = qFromY;
+    keyToX[index] = qToX;
+    keyToY[index] = qToY;
+    keyMask[index] = layerMask;
+    entryFrame[index] = frame;
+    didHit[index] = callback.getDidHit();
+    fixtures[index] = callback.getDidHit() ? castHit.getFixture() : null;
+    points[2 * index] = castHit.getPoint().x;
+    points[2 * index + 1] = castHit.getPoint().y;
+    normals[2 * index] = castHit.getNormal().x;
+    normals[2 * index + 1] = castHit.getNormal().y;
+    boolean result = copyResult(index, hit);
+
+    size++;
+    if (size * 2 > entryFrame.length) {
+      grow();
+    }
+    return result;
+  }
+
+  private boolean copyResult(int index, RaycastHit hit) {
+    if (didHit[index]) {
+      hit.setFixture(fixtures[index]);
+      hit.getPoint().set(points[2 * index], points[2 * index + 1]);
+      hit.getNormal().set(normals[2 * index], normals[2 * index + 1]);
+    }
+    return didHit[index];
+  }
+
+  private static int hash(int fromX, int fromY, int toX, int toY, short layerMask) {
+    int hash = fromX;
+    hash = hash * 31 + fromY;
+    hash = hash * 31 + toX;
+    hash = hash * 31 + toY;
+    hash = hash * 31 + layerMask;
+    // spread the low bits, which are all the table uses
+    return hash ^ (hash >>> 16);
+  }
+
+  private void allocate(int capacity) {
+    keyFromX = new int[capacity];
+    keyFromY = new int[capacity];
+    keyToX = new int[capacity];
+    keyToY = new int[capacity];
+    keyMask = new short[capacity];
+    entryFrame = new int[capacity];
+    didHit = new boolean[capacity];
+    fixtures = new Fixture[capacity];
+    points = new float[2 * capacity];
+    normals = new float[2 * capacity];
+    mask = capacity - 1;
+  }
+
+  /** Double the table, keeping this frame's entries. */
+  private void grow() {
+    int[] oldFromX = keyFromX;
+    int[] oldFromY = keyFromY;
+    int[] oldToX = keyToX;
+    int[] oldToY = keyToY;
+    short[] oldMask = keyMask;
+    int[] oldFrame = entryFrame;
+    boolean[] oldDidHit = didHit;
+    Fixture[] oldFixtures = fixtures;
+    float[] oldPoints = points;
+    float[] oldNormals = normals;
+    allocate(oldFrame.length * 2);
+
+    for (int i = 0; i < oldFrame.length; i++) {
+      if (oldFrame[i] != frame) {
+        continue;
+      }
+      int index = hash(oldFromX[i], oldFromY[i], oldToX[i], oldToY[i], oldMask[i]) & mask;
+      while (entryFrame[index] == frame) {
+        index = (index + 1) & mask;
+      }
+      keyFromX[index] = oldFromX[i];
+      keyFromY[index] = oldFromY[i];
+      keyToX[index] = oldToX[i];
+      keyToY[index] = oldToY[i];
+      keyMask[index] = oldMask[i];
+      entryFrame[index] = frame;
+      didHit[index] = oldDidHit[i];
+      fixtures[index] = oldFixtures[i];
+      points[2 * index] = oldPoints[2 * i];
+      points[2 * index + 1] = oldPoints[2 * i + 1];
+      normals[2 * index] = oldNormals[2 * i];
+      normals[2 * index + 1] = oldNormals[2 * i + 1];
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package com.csse3200.game.profiling;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Records where each frame's time goes. Subsystems time themselves with {@link #start()} and
+ * {@link #stop(Metric, long)} and report counts with {@link #set(Metric, long)}. The game ends each
+ * frame with {@link #endFrame()}, which stores the frame in a ring buffer of the most recent frames
+ * so percentiles can be read back.
+ *
+ * <p>Profiling is off by default. While off, nothing is recorded or allocated and each call is a
+ * single branch. Only use from the render thread.
+ *
+ * <pre>
+ *   long start = FrameProfiler.start();
+ *   world.step(...);
+ *   FrameProfiler.stop(FrameProfiler.Metric.PHYSICS, start);
+ * </pre>
+ */
+public final class FrameProfiler {
+  /** Frames kept for percentiles, 10 seconds at 60 fps */
+  public static final int DEFAULT_CAPACITY = 600;
+  private static final Metric[] METRICS = Metric.values();
+  private static final float[] PERCENTILES = {0.5f, 0.95f, 0.99f};
+  private static final com.sun.management.ThreadMXBean allocationBean = findAllocationBean();
+
+  private static boolean enabled = false;
+  private static int capacity = DEFAULT_CAPACITY;
+  // samples[metric][frame % capacity]
+  private static long[][] samples;
+  private static long[] scratch;
+  private static final long[] current = new long[METRICS.length];
+  private static int frames = 0;
+  private static long frameStart;
+  private static long allocationStart;
+
+  /** Everything recorded about a frame. Timings are in nanoseconds. */
+  public enum Metric {
+    FRAME(Unit.NANOS),
+    PHYSICS(Unit.NANOS),
+    /** Mean time of one world step, in frames which stepped */
+    PHYSICS_STEP(Unit.NANOS),
+    ENTITIES(Unit.NANOS),
+    /** AI think phase, run before and included in the entity update */
+    AI_THINK(Unit.NANOS),
+    DAY_NIGHT(Unit.NANOS),
+    /** Terrain, sprites and everything else drawn by the render service, including lighting */
+    RENDER_WORLD(Unit.NANOS),
+    /** Terrain drawn from its chunk meshes, included in RENDER_WORLD */
+    TERRAIN(Unit.NANOS),
+    LIGHTING(Unit.NANOS),
+    DEBUG_RENDER(Unit.NANOS),
+    STAGE(Unit.NANOS),
+    /** Bytes allocated by the render thread, where the JVM can report it */
+    ALLOCATED(Unit.BYTES),
+    ENTITY_COUNT(Unit.COUNT),
+    /** Bodies taking part in the simulation, i.e. not deactivated outside the active chunks */
+    ACTIVE_BODIES(Unit.COUNT),
+    RENDERABLES_DRAWN(Unit.COUNT),
+    RENDERABLES_CULLED(Unit.COUNT),
+    LIGHT_COUNT(Unit.COUNT),
+    RAYCASTS(Unit.COUNT),
+    /** Raycasts answered from the raycast service's cache */
+    RAYCAST_CACHE_HITS(Unit.COUNT),
+    DRAW_CALLS(Unit.COUNT),
+    TERRAIN_DRAW_CALLS(Unit.COUNT);
+
+    private final Unit unit;
+
+    Metric(Unit unit) {
+      this.unit = unit;
+    }
+
+    public Unit getUnit() {
+      return unit;
+    }
+  }
+
+  /** What a metric's values measure */
+  public enum Unit {
+    NANOS, BYTES, COUNT
+  }
+
+  /**
+   * Start or stop recording. Starting clears anything recorded before.
+   *
+   * @param enabled true to record frames
+   */
+  public static void setEnabled(boolean enabled) {
+    if (enabled && !FrameProfiler.enabled) {
+      samples = new long[METRICS.length][capacity];
+      scratch = new long[capacity];
+      Arrays.fill(current, 0);
+      frames = 0;
+      frameStart = System.nanoTime();
+      allocationStart = allocatedBytes();
+    } else if (!enabled) {
+      samples = null;
+      scratch = null;
+    }
+    FrameProfiler.enabled = enabled;
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Set how many frames are kept. Takes effect the next time profiling is enabled.
+   *
+   * @param frames Number of most recent frames to keep
+   */
+  public static void setCapacity(int frames) {
+    capacity = Math.max(frames, 1);
+  }
+
+  /**
+   * @return The current time to pass to {@link #stop(Metric, long)}, or 0 while disabled
+   */
+  public static long start() {
+    return enabled ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Add the time since {@link #start()} to a metric for this frame.
+   *
+   * @param metric The metric
+   * @param start  Time returned by {@link #start()}
+   */
+  public static void stop(Metric metric, long start) {
+    if (enabled) {
+      current[metric.ordinal()] += System.nanoTime() - start;
+    }
+  }
+
+  /**
+   * Set a metric for this frame, e.g. a count.
+   *
+   * @param metric The metric
+   * @param value  Its value this frame
+   */
+  public static void set(Metric metric, long value) {
+    if (enabled) {
+      current[metric.ordinal()] = value;
+    }
+  }
+
+  /** Store this frame's metrics and start the next frame. Called once a frame by the game. */
+  public static void endFrame() {
+    if (!enabled) {
+      return;
+    }
+    long now = System.nanoTime();
+    current[Metric.FRAME.ordinal()] = now - frameStart;
+    frameStart = now;
+    long allocated = allocatedBytes();
+    current[Metric.ALLOCATED.ordinal()] = allocated - allocationStart;
+    allocationStart = allocated;
+
+    int slot = frames % capacity;
+    for (int i = 0; i < METRICS.length; i++) {
+      samples[i][slot] = current[i];
+      current[i] = 0;
+    }
+    frames++;
+  }
+
+  /**
+   * @return The number of frames held, up to the capacity
+   */
+  public static int getFrameCount() {
+    return samples == null ? 0 : Math.min(frames, samples[0].length);
+  }
+
+  /**
+   * @param metric     The metric
+   * @param percentile Fraction of frames at or below the value, e.g. 0.95 for the 95th percentile
+   * @return The metric's value at the percentile over the held frames, or 0 if none are held
+   */
+  public static long getPercentile(Metric metric, float percentile) {
+    int count = sortInto(metric);
+    if (count == 0) {
+      return 0;
+    }
+    return scratch[percentileIndex(count, percentile)];
+  }
+
+  /**
+   * @return A line per metric with its 50th, 95th and 99th percentiles, for display
+   */
+  public static String getSummary() {
+    StringBuilder summary = new StringBuilder();
+    summary.append(String.format(Locale.ROOT, "%-18s %9s %9s %9s%n", "Profile (" + getFrameCount()
+        + ")", "p50", "p95", "p99"));
+    for (Metric metric : METRICS) {
+      int count = sortInto(metric);
+      summary.append(String.format(Locale.ROOT, "%-18s", metric.name().toLowerCase(Locale.ROOT)));
+      for (float percentile : PERCENTILES) {
+        long value = count == 0 ? 0 : scratch[percentileIndex(count, percentile)];
+        summary.append(' ').append(format(metric.unit, value));
+      }
+      summary.append(System.lineSeparator());
+    }
+    return summary.toString();
+  }
+
+  /**
+   * Write the 50th, 95th and 99th percentile and maximum of every metric as CSV.
+   *
+   * @param writer Where to write
+   * @throws IOException If writing fails
+   */
+  public static void writeCsv(Writer writer) throws IOException {
+    writer.write("metric,unit,frames,p50,p95,p99,max\n");
+    for (Metric metric : METRICS) {
+      int count = sortInto(metric);
+      writer.write(metric.name().toLowerCase(Locale.ROOT));
+      writer.write(',');
+      writer.write(metric.unit.name().toLowerCase(Locale.ROOT));
+      writer.write(',');
+      writer.write(Integer.toString(count));
+      for (float percentile : PERCENTILES) {
+        writer.write(',');
+        writer.write(Long.toString(count == 0 ? 0 : scratch[percentileIndex(count, percentile)]));
+      }
+      writer.write(',');
+      writer.write(Long.toString(count == 0 ? 0 : scratch[count - 1]));
+      writer.write('\n');
+    }
+  }
+
+  /** Copy the held frames of a metric into the scratch array, sorted. */
+  private static int sortInto(Metric metric) {
+    int count = getFrameCount();
+    if (count > 0) {
+      System.arraycopy(samples[metric.ordinal()], 0, scratch, 0, count);
+      Arrays.sort(scratch, 0, count);
+    }
+    return count;
+  }
+
+  private static int percentileIndex(int count, float percentile) {
+    // nearest rank
+    int index = (int) Math.ceil(percentile * count) - 1;
+    return Math.max(0, Math.min(count - 1, index));
+  }
+
+  private static String format(Unit unit, long value) {
+    return switch (unit) {
+      case NANOS -> String.format(Locale.ROOT, "%7.2fms", value / 1_000_000f);
+      case BYTES -> String.format(Locale.ROOT, "%7dKB", value / 1024);
+      case COUNT -> String.format(Locale.ROOT, "%9d", value);
+    };
+  }
+
+  private static long allocatedBytes() {
+    return allocationBean == null ? 0 : allocationBean.getCurrentThreadAllocatedBytes();
+  }
+
+  private static com.sun.management.ThreadMXBean findAllocationBean() {
+    try {
+      ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+      if (bean instanceof com.sun.management.ThreadMXBean allocationBean
+          && allocationBean.isThreadAllocatedMemorySupported()) {
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+        return allocationBean;
+      }
+    } catch (LinkageError | UnsupportedOperationException e) {
+      // not available on this JVM, so allocations are not recorded
+    }
+    return null;
+  }
+
+  private FrameProfiler() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
@@ -0,0 +1,92 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Animations shared by every animation render component using the same atlas, so spawning many of
+ * the same entity only looks up each animation's frames in the atlas once. An animation is shared
+ * between components which add it with the same name, frame duration and play mode.
+ *
+ * <p>Shared animations must not be modified, e.g. by changing their play mode. Animations are
+ * dropped once their atlas is no longer used.
+ */
+public class AnimationCache {
+  // weak so that unloaded atlases are not kept alive. The animations only reference the atlas'
+  // textures, not the atlas itself.
+  private final Map<TextureAtlas, ObjectMap<String, Array<Animation<TextureRegion>>>> atlases =
+      new WeakHashMap<>();
+  private int hits = 0;
+  private int misses = 0;
+
+  /**
+   * Get an animation from an atlas, creating it the first time it is asked for.
+   *
+   * @param atlas         Atlas containing the animation's frames
+   * @param name          Name of the animation in the atlas
+   * @param frameDuration How long, in seconds, each frame is shown for
+   * @param playMode      How the animation is played
+   * @return The shared animation, or null if the atlas has no frames with the name
+   */
+  public Animation<TextureRegion> get(TextureAtlas atlas, String name, float frameDuration,
+      PlayMode playMode) {
+    ObjectMap<String, Array<Animation<TextureRegion>>> byName = atlases.get(atlas);
+    if (byName == null) {
+      byName = new ObjectMap<>();
+      atlases.put(atlas, byName);
+    }
+    Array<Animation<TextureRegion>> variants = byName.get(name);
+    if (variants != null) {
+      // usually only one or two variants of an animation, so search them in order
+      for (int i = 0; i < variants.size; i++) {
+        Animation<TextureRegion> animation = variants.get(i);
+        if (animation.getFrameDuration() == frameDuration && animation.getPlayMode() == playMode) {
+          hits++;
+          return animation;
+        }
+      }
+    }
+
+    Array<AtlasRegion> regions = atlas.findRegions(name);
+    if (regions == null || regions.size == 0) {
+      return null;
+    }
+    misses++;
+    Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
+    if (variants == null) {
+      variants = new Array<>(false, 1);
+      byName.put(name, variants);
+    }
+    variants.add(animation);
+    return animation;
+  }
+
+  /**
+   * @return The number of animations which were shared rather than created
+   */
+  public int getHits() {
+    return hits;
+  }
+
+  /**
+   * @return The number of animations created
+   */
+  public int getMisses() {
+    return misses;
+  }
+
+  /** Drop every cached animation. */
+  public void clear() {
+    atlases.clear();
+    hits = 0;
+    misses = 0;
+  }
+}
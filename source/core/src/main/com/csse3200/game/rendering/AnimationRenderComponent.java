@@ -1,21 +1,17 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Renders animations from a texture atlas on an entity.
  *
@@ -32,12 +28,16 @@ import java.util.Map;
  * - libgdx texture packer (included in External Libraries/gdx-tools) <br>
  * - gdx-texture-packer-gui (recommended) https://github.com/crashinvaders/gdx-texture-packer-gui <br>
  * - other third-party tools, e.g. https://www.codeandweb.com/texturepacker <br>
+ *
+ * <p>Animations are shared through an {@link AnimationCache} between every component using the
+ * same atlas, so each component only keeps which animation is playing and how far through it is.
  */
 public class AnimationRenderComponent extends RenderComponent {
     private static final Logger logger = LoggerFactory.getLogger(AnimationRenderComponent.class);
+    private static final AnimationCache animationCache = new AnimationCache();
     private final GameTime timeSource;
     private final TextureAtlas atlas;
-    private final Map<String, Animation<TextureRegion>> animations;
+    private final ObjectMap<String, Animation<TextureRegion>> animations;
     protected Animation<TextureRegion> currentAnimation;
     protected String currentAnimationName;
     protected float animationPlayTime;
@@ -51,7 +51,7 @@ public class AnimationRenderComponent extends RenderComponent {
      */
     public AnimationRenderComponent(TextureAtlas atlas) {
         this.atlas = atlas;
-        this.animations = HashMap.newHashMap(4);
+        this.animations = new ObjectMap<>(4);
         timeSource = ServiceLocator.getTimeSource();
     }
     
@@ -85,18 +85,18 @@ public class AnimationRenderComponent extends RenderComponent {
      * @return true if added successfully, false otherwise
      */
     public boolean addAnimation(String name, float frameDuration, PlayMode playMode) {
-        Array<AtlasRegion> regions = atlas.findRegions(name);
-        if (regions == null || regions.size == 0) {
-            logger.warn("Animation {} not found in texture atlas", name);
-            return false;
-        } else if (animations.containsKey(name)) {
+        if (animations.containsKey(name)) {
             logger.warn(
                     "Animation {} already added in texture atlas. Animations should only be added once.",
                     name);
             return false;
         }
+        Animation<TextureRegion> animation = animationCache.get(atlas, name, frameDuration, playMode);
+        if (animation == null) {
+            logger.warn("Animation {} not found in texture atlas", name);
+            return false;
+        }
         
-        Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
         animations.put(name, animation);
         logger.debug("Adding animation {}", name);
         return true;
@@ -133,7 +133,7 @@ public class AnimationRenderComponent extends RenderComponent {
      */
     public void startAnimation(String name) {
         
-        Animation<TextureRegion> animation = animations.getOrDefault(name, null);
+        Animation<TextureRegion> animation = animations.get(name);
         if (animation == null) {
             logger.error(
                     "Attempted to play unknown animation {}. Ensure animation is added before playback.",
@@ -179,22 +179,49 @@ public class AnimationRenderComponent extends RenderComponent {
         return currentAnimation != null && currentAnimation.isAnimationFinished(animationPlayTime);
     }
     
+    @Override
+    public void update() {
+        // Keep time while culled, so animations which are out of view still finish
+        if (!shown && currentAnimation != null) {
+            animationPlayTime += timeSource.getDeltaTime();
+        }
+    }
+
+    @Override
+    protected Texture getTexture() {
+        if (currentAnimation == null) {
+            return null;
+        }
+        return currentAnimation.getKeyFrame(animationPlayTime).getTexture();
+    }
+
+    @Override
+    protected boolean isCullable() {
+        return true;
+    }
+
     @Override
     protected void draw(SpriteBatch batch) {
         if (currentAnimation == null) {
             return;
         }
         TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
+        // the region is shared by every component using the atlas, so mirror it with a negative
+        // size from the opposite edge rather than flipping it
+        float width = entity.getScaleX();
+        float height = entity.getScaleY();
+        float x = entity.getRenderX();
+        float y = entity.getRenderY();
         if (region.isFlipX() != flipX) {
-            region.flip(true, false);
+            x += width;
+            width = -width;
         }
         if (region.isFlipY() != flipY) {
-            region.flip(false, true);
+            y += height;
+            height = -height;
         }
         
-        Vector2 pos = entity.getPosition();
-        Vector2 scale = entity.getScale();
-        batch.draw(region, pos.x, pos.y, scale.x, scale.y);
+        batch.draw(region, x, y, width, height);
         animationPlayTime += timeSource.getDeltaTime();
     }
     
@@ -224,6 +251,13 @@ public class AnimationRenderComponent extends RenderComponent {
     public TextureAtlas getAtlas() {
         return atlas;
     }
+
+    /**
+     * @return The animations shared by every animation render component
+     */
+    public static AnimationCache getAnimationCache() {
+        return animationCache;
+    }
     
     public boolean getFlipX() {return flipX;}
     
@@ -1,6 +1,8 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.services.ServiceLocator;
@@ -11,6 +13,11 @@ import com.csse3200.game.services.ServiceLocator;
  */
 public abstract class RenderComponent extends Component implements Renderable, Disposable {
   private static final int DEFAULT_LAYER = 1;
+  // managed by the render service when culling this: whether it is in its layer's draw list, and
+  // the last frame it was found in view
+  boolean culled = false;
+  boolean shown = true;
+  int visibleFrame = -1;
 
   @Override
   public void create() {
@@ -40,7 +47,44 @@ public abstract class RenderComponent extends Component implements Renderable, D
   @Override
   public float getZIndex() {
     // The smaller the Y value, the higher the Z index, so that closer entities are drawn in front
-    return -entity.getPosition().y;
+    return -entity.getRenderY();
+  }
+
+  /**
+   * Whether the render service may skip drawing this while it is outside the camera's view. Only
+   * return true if everything drawn lies inside {@link #getWorldBounds(Rectangle)}.
+   *
+   * @return true if this can be culled
+   */
+  protected boolean isCullable() {
+    return false;
+  }
+
+  /**
+   * Get the area of the world this draws to. By default this is where the entity is drawn and its
+   * scale.
+   *
+   * @param out Set to the area drawn, in world units
+   * @return out
+   */
+  protected Rectangle getWorldBounds(Rectangle out) {
+    float width = entity.getScaleX();
+    float height = entity.getScaleY();
+    return out.set(
+        entity.getRenderX() + Math.min(width, 0f),
+        entity.getRenderY() + Math.min(height, 0f),
+        Math.abs(width),
+        Math.abs(height));
+  }
+
+  /**
+   * Get the texture this draws from, so that renderables sharing a texture can be drawn together
+   * without flushing the batch in between.
+   *
+   * @return The texture drawn from next, or null if unknown
+   */
+  protected Texture getTexture() {
+    return null;
   }
 
   /**
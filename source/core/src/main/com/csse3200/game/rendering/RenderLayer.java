@@ -0,0 +1,230 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+/**
+ * The renderables on one layer, kept in rendering order. Each renderable's z index is read once
+ * per frame into a cached sort key, and the layer is only re-sorted when those keys are out of
+ * order, so a layer where nothing has moved is never sorted. A layer with only a few renderables
+ * out of place is fixed with an insertion sort; otherwise the keys are sorted as primitives
+ * rather than through {@link Renderable#compareTo}.
+ */
+class RenderLayer {
+  private static final int INITIAL_CAPACITY = 4;
+  // insertion sort is used while at most this fraction of neighbours are out of order
+  private static final int INSERTION_SORT_DIVISOR = 16;
+  private static final int MIN_INSERTION_SORT_DESCENTS = 8;
+
+  private final Array<Renderable> renderables = new Array<>(INITIAL_CAPACITY);
+  private float[] keys = new float[INITIAL_CAPACITY];
+  private long[] packed = new long[0];
+  private Renderable[] scratch = new Renderable[0];
+  // draw order when grouping by texture, and the texture handle of each renderable in it
+  private final Array<Renderable> grouped = new Array<>(INITIAL_CAPACITY);
+  private int[] textures = new int[INITIAL_CAPACITY];
+
+  private int sortsSkipped = 0;
+  private int insertionSorts = 0;
+  private int fullSorts = 0;
+
+  void add(Renderable renderable) {
+    renderables.add(renderable);
+  }
+
+  boolean remove(Renderable renderable) {
+    // ordered removal keeps the layer sorted
+    return renderables.removeValue(renderable, true);
+  }
+
+  /**
+   * Take culled renderables which were not found in view this frame out of the draw list, keeping
+   * the rest in order.
+   *
+   * @param frame The current culling frame
+   * @return The number of renderables taken out
+   */
+  int removeCulled(int frame) {
+    Renderable[] items = renderables.items;
+    int size = renderables.size;
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      Renderable renderable = items[i];
+      if (renderable instanceof RenderComponent component && component.culled
+          && component.visibleFrame != frame) {
+        component.shown = false;
+        continue;
+      }
+      items[kept++] = renderable;
+    }
+    renderables.truncate(kept);
+    return size - kept;
+  }
+
+  Array<Renderable> getRenderables() {
+    return renderables;
+  }
+
+  /**
+   * Refresh the cached sort keys and bring the layer into z index order, doing as little work as
+   * the keys allow. The order is stable, so renderables with equal z indexes keep their order.
+   */
+  void sort() {
+    int size = renderables.size;
+    if (keys.length < size) {
+      keys = new float[Math.max(size, keys.length * 2)];
+    }
+
+    int descents = 0;
+    for (int i = 0; i < size; i++) {
+      keys[i] = renderables.get(i).getZIndex();
+      if (i > 0 && keys[i] < keys[i - 1]) {
+        descents++;
+      }
+    }
+
+    if (descents == 0) {
+      sortsSkipped++;
+    } else if (descents <= Math.max(MIN_INSERTION_SORT_DESCENTS, size / INSERTION_SORT_DIVISOR)) {
+      insertionSort(size);
+      insertionSorts++;
+    } else {
+      keySort(size);
+      fullSorts++;
+    }
+  }
+
+  /**
+   * Get a draw order where renderables in the same depth band are grouped by texture, so the batch
+   * flushes less often. Depth order is kept between bands but not within them. The layer itself
+   * stays in z index order, so it does not need re-sorting next frame. Must be called after
+   * {@link #sort()}.
+   *
+   * @param bandSize Range of z indexes treated as the same depth
+   * @return Renderables in draw order. Only valid until the next call.
+   */
+  Array<Renderable> groupByTexture(float bandSize) {
+    int size = renderables.size;
+    grouped.clear();
+    grouped.addAll(renderables);
+    if (textures.length < size) {
+      textures = new int[keys.length];
+    }
+
+    Renderable[] items = grouped.items;
+    for (int i = 0; i < size; i++) {
+      textures[i] = textureHandle(items[i]);
+    }
+
+    int start = 0;
+    while (start < size) {
+      double band = Math.floor(keys[start] / bandSize);
+      int end = start + 1;
+      while (end < size && Math.floor(keys[end] / bandSize) == band) {
+        end++;
+      }
+      groupBand(items, start, end);
+      start = end;
+    }
+    return grouped;
+  }
+
+  /** Stable insertion sort of one band by texture handle. Bands are usually small. */
+  private void groupBand(Renderable[] items, int start, int end) {
+    for (int i = start + 1; i < end; i++) {
+      int texture = textures[i];
+      Renderable item = items[i];
+      int j = i - 1;
+      while (j >= start && textures[j] > texture) {
+        textures[j + 1] = textures[j];
+        items[j + 1] = items[j];
+        j--;
+      }
+      textures[j + 1] = texture;
+      items[j + 1] = item;
+    }
+  }
+
+  private static int textureHandle(Renderable renderable) {
+    if (renderable instanceof RenderComponent component) {
+      Texture texture = component.getTexture();
+      if (texture != null) {
+        return texture.getTextureObjectHandle();
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return The number of times sorting was skipped because the layer was already in order
+   */
+  int getSortsSkipped() {
+    return sortsSkipped;
+  }
+
+  /**
+   * @return The number of times the layer was nearly in order and insertion sorted
+   */
+  int getInsertionSorts() {
+    return insertionSorts;
+  }
+
+  /**
+   * @return The number of times the whole layer had to be sorted
+   */
+  int getFullSorts() {
+    return fullSorts;
+  }
+
+  private void insertionSort(int size) {
+    Renderable[] items = renderables.items;
+    for (int i = 1; i < size; i++) {
+      float key = keys[i];
+      Renderable item = items[i];
+      int j = i - 1;
+      while (j >= 0 && keys[j] > key) {
+        keys[j + 1] = keys[j];
+        items[j + 1] = items[j];
+        j--;
+      }
+      keys[j + 1] = key;
+      items[j + 1] = item;
+    }
+  }
+
+  /**
+   * Sort by packing each key with its index into a long, so that sorting the longs sorts by key,
+   * then by original position for equal keys.
+   */
+  private void keySort(int size) {
+    if (packed.length < size) {
+      packed = new long[keys.length];
+      scratch = new Renderable[keys.length];
+    }
+    for (int i = 0; i < size; i++) {
+      packed[i] = ((long) sortableBits(keys[i]) << 32) | i;
+    }
+    Arrays.sort(packed, 0, size);
+
+    Renderable[] items = renderables.items;
+    System.arraycopy(items, 0, scratch, 0, size);
+    for (int i = 0; i < size; i++) {
+      int from = (int) packed[i];
+      items[i] = scratch[from];
+      keys[i] = Float.intBitsToFloat(unsortableBits((int) (packed[i] >> 32)));
+    }
+    Arrays.fill(scratch, 0, size, null);
+  }
+
+  /** Float bits which order as signed ints the same way {@link Float#compare} orders floats. */
+  private static int sortableBits(float key) {
+    int bits = Float.floatToIntBits(key);
+    return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+  }
+
+  private static int unsortableBits(int bits) {
+    return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+  }
+}
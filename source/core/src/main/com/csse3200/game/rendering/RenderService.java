@@ -1,26 +1,57 @@
 package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntitySpatialIndex;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.utils.SortedIntMap;
 
 /**
  * Globally accessible service for registering renderable components. Any renderable registered with
  * this service has render() called once per frame.
+ *
+ * <p>When given the camera's view, render components which can be culled (textures and
+ * animations) are only drawn while their bounds overlap the view. The renderables in view are
+ * found through the entity service's spatial index, so culling does not look at every renderable.
  */
 public class RenderService implements Disposable {
   private static final int INITIAL_LAYER_CAPACITY = 4;
-  private static final int INITIAL_CAPACITY = 4;
+  private static final float DEFAULT_CULL_MARGIN = 1f;
   private Stage stage;
   private DebugRenderer debugRenderer;
 
   /**
    * Map from layer to list of renderables, allows us to render each layer in the correct order
    */
-  private final SortedIntMap<Array<Renderable>> renderables =
-      new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+  private final SortedIntMap<RenderLayer> renderables = new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+
+  // Culling state. Culled renderables are only in their layer while in view.
+  private final ObjectMap<Entity, Array<RenderComponent>> cullable = new ObjectMap<>();
+  private final Rectangle view = new Rectangle();
+  private final Rectangle cullArea = new Rectangle();
+  private final Rectangle searchArea = new Rectangle();
+  private final Rectangle bounds = new Rectangle();
+  private final Array<Entity> inView = new Array<>(false, 64);
+  private EntitySpatialIndex cullingIndex;
+  private boolean culling = false;
+  private float cullMargin = DEFAULT_CULL_MARGIN;
+  // entities are indexed by their bottom left corner, so the search reaches this far further out
+  // to find sprites which overlap the view from outside it
+  private float maxCullableSize = 0f;
+  private int cullFrame = 0;
+  private int cullableCount = 0;
+  private int shownCount = 0;
+  private int drawnCount = 0;
+  private int unbatchedDrawCalls = 0;
+  // z index range within which renderables are grouped by texture, or 0 for strict depth order
+  private float textureBandSize = 0f;
+
   /**
    * Register a new renderable.
    *
@@ -29,10 +60,25 @@ public class RenderService implements Disposable {
   public void register(Renderable renderable) {
     int layerIndex = renderable.getLayer();
     if (!renderables.containsKey(layerIndex)) {
-      renderables.put(layerIndex, new Array<>(INITIAL_CAPACITY));
+      renderables.put(layerIndex, new RenderLayer());
+    }
+    renderables.get(layerIndex).add(renderable);
+
+    if (renderable instanceof RenderComponent component && canCull(component)) {
+      Entity entity = component.getEntity();
+      Array<RenderComponent> components = cullable.get(entity);
+      if (components == null) {
+        components = new Array<>(false, 1);
+        cullable.put(entity, components);
+      }
+      components.add(component);
+      component.culled = true;
+      component.shown = true;
+      cullableCount++;
+      shownCount++;
+      component.getWorldBounds(bounds);
+      maxCullableSize = Math.max(maxCullableSize, Math.max(bounds.width, bounds.height));
     }
-    Array<Renderable> layer = renderables.get(layerIndex);
-    layer.add(renderable);
   }
 
   /**
@@ -41,9 +87,26 @@ public class RenderService implements Disposable {
    * @param renderable renderable to unregister.
    */
   public void unregister(Renderable renderable) {
-    Array<Renderable> layer = renderables.get(renderable.getLayer());
-    if (layer != null) {
-      layer.removeValue(renderable, true);
+    boolean shown = true;
+    if (renderable instanceof RenderComponent component && component.culled) {
+      shown = component.shown;
+      Array<RenderComponent> components = cullable.get(component.getEntity());
+      if (components != null && components.removeValue(component, true)) {
+        if (components.isEmpty()) {
+          cullable.remove(component.getEntity());
+        }
+        cullableCount--;
+        if (shown) {
+          shownCount--;
+        }
+      }
+      component.culled = false;
+      component.shown = true;
+    }
+
+    RenderLayer layer = renderables.get(renderable.getLayer());
+    if (layer != null && shown) {
+      layer.remove(renderable);
     }
   }
 
@@ -53,16 +116,99 @@ public class RenderService implements Disposable {
    * @param batch batch to render to.
    */
   public void render(SpriteBatch batch) {
-    for (Array<Renderable> layer : renderables) {
-      // Sort into rendering order
+    if (culling) {
+      cull();
+    }
+
+    drawnCount = 0;
+    unbatchedDrawCalls = 0;
+    for (RenderLayer layer : renderables) {
+      if (culling) {
+        shownCount -= layer.removeCulled(cullFrame);
+      }
+      // Sort into rendering order. Layers which are already in order are left alone.
       layer.sort();
 
-      for (Renderable renderable : layer) {
+      Array<Renderable> layerRenderables = textureBandSize > 0f
+          ? layer.groupByTexture(textureBandSize)
+          : layer.getRenderables();
+      for (int i = 0; i < layerRenderables.size; i++) {
+        Renderable renderable = layerRenderables.get(i);
         renderable.render(batch);
+        unbatchedDrawCalls += renderable.getUnbatchedDrawCalls();
+        drawnCount++;
       }
     }
   }
 
+  /**
+   * Set the area of the world in view of the camera. Renderables which can be culled are only
+   * drawn while they overlap this area, grown by the cull margin.
+   *
+   * @param view Area in view in world units, or null to draw everything
+   */
+  public void setView(Rectangle view) {
+    if (view == null) {
+      if (culling) {
+        showAll();
+      }
+      culling = false;
+      return;
+    }
+    this.view.set(view);
+    culling = true;
+  }
+
+  /**
+   * @param margin Distance in world units past the edge of the view to keep drawing renderables,
+   *     so that sprites do not pop in at the edge of the screen
+   */
+  public void setCullMargin(float margin) {
+    this.cullMargin = margin;
+  }
+
+  /**
+   * Draw renderables whose z indexes are within a band of each other grouped by texture instead of
+   * strictly in depth order. This saves flushing the batch between textures, at the cost of sprites
+   * in the same band possibly being drawn over each other in the wrong order. For render components
+   * the z index is the negated y position, so the band is a height in world units.
+   *
+   * @param bandSize Range of z indexes treated as the same depth, or 0 to always draw in depth order
+   */
+  public void setTextureBatching(float bandSize) {
+    this.textureBandSize = Math.max(bandSize, 0f);
+  }
+
+  /**
+   * @return The number of renderables drawn in the last frame
+   */
+  public int getDrawnCount() {
+    return drawnCount;
+  }
+
+  /**
+   * @return The number of draw calls made in the last frame which the batch didn't count
+   */
+  public int getUnbatchedDrawCalls() {
+    return unbatchedDrawCalls;
+  }
+
+  /**
+   * @return The number of renderables skipped in the last frame because they were out of view
+   */
+  public int getCulledCount() {
+    return cullableCount - shownCount;
+  }
+
+  /**
+   * @param layerIndex The layer
+   * @return The number of frames in which the layer was already in order and did not need sorting
+   */
+  public int getSortsSkipped(int layerIndex) {
+    RenderLayer layer = renderables.get(layerIndex);
+    return layer == null ? 0 : layer.getSortsSkipped();
+  }
+
   public void setStage(Stage stage) {
     this.stage = stage;
   }
@@ -82,5 +228,82 @@ public class RenderService implements Disposable {
   @Override
   public void dispose() {
     renderables.clear();
+    cullable.clear();
+    cullingIndex = null;
+    cullableCount = 0;
+    shownCount = 0;
+  }
+
+  /**
+   * Renderables can be culled when their entity is filed in the entity service's spatial index, so
+   * they can be found when they come into view.
+   */
+  private boolean canCull(RenderComponent component) {
+    Entity entity = component.getEntity();
+    EntityService entityService = ServiceLocator.getEntityService();
+    if (!component.isCullable() || entity == null || entityService == null) {
+      return false;
+    }
+    EntitySpatialIndex index = entityService.getSpatialIndex();
+    if (index == null || !index.contains(entity)) {
+      return false;
+    }
+    if (cullingIndex == null) {
+      cullingIndex = index;
+    }
+    return index == cullingIndex;
+  }
+
+  /** Mark the culled renderables in view this frame, adding any which have come into view. */
+  private void cull() {
+    cullFrame++;
+    if (cullingIndex == null) {
+      return;
+    }
+
+    cullArea.set(view.x - cullMargin, view.y - cullMargin,
+        view.width + 2 * cullMargin, view.height + 2 * cullMargin);
+    searchArea.set(cullArea.x - maxCullableSize, cullArea.y - maxCullableSize,
+        cullArea.width + maxCullableSize, cullArea.height + maxCullableSize);
+    cullingIndex.query(searchArea, null, inView);
+
+    for (int i = 0; i < inView.size; i++) {
+      Array<RenderComponent> components = cullable.get(inView.get(i));
+      if (components == null) {
+        continue;
+      }
+      for (int j = 0; j < components.size; j++) {
+        RenderComponent component = components.get(j);
+        component.getWorldBounds(bounds);
+        maxCullableSize = Math.max(maxCullableSize, Math.max(bounds.width, bounds.height));
+        if (cullArea.overlaps(bounds)) {
+          component.visibleFrame = cullFrame;
+          if (!component.shown) {
+            show(component);
+          }
+        }
+      }
+    }
+    inView.clear();
+  }
+
+  private void show(RenderComponent component) {
+    int layerIndex = component.getLayer();
+    if (!renderables.containsKey(layerIndex)) {
+      renderables.put(layerIndex, new RenderLayer());
+    }
+    renderables.get(layerIndex).add(component);
+    component.shown = true;
+    shownCount++;
+  }
+
+  private void showAll() {
+    for (Array<RenderComponent> components : cullable.values()) {
+      for (int i = 0; i < components.size; i++) {
+        if (!components.get(i).shown) {
+          show(components.get(i));
+        }
+      }
+    }
   }
 }
@@ -23,4 +23,13 @@ public interface Renderable extends Comparable<Renderable> {
    * @return layer
    */
   int getLayer();
+
+  /**
+   * Draw calls made by the last render which the batch doesn't count, e.g. meshes drawn directly,
+   * or flushes counted by the batch before the renderable restarted it.
+   * @return number of draw calls
+   */
+  default int getUnbatchedDrawCalls() {
+    return 0;
+  }
 }
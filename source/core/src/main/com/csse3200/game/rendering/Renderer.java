@@ -1,13 +1,17 @@
 package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.profiling.FrameProfiler;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +30,9 @@ public class Renderer implements Disposable {
   private Stage stage;
   private RenderService renderService;
   private DebugRenderer debugRenderer;
+  private final Rectangle view = new Rectangle();
+  private boolean culling = true;
+  private int renderCalls = 0;
 
   /**
    * Create a new renderer with default settings
@@ -106,13 +113,26 @@ public class Renderer implements Disposable {
     batch.setProjectionMatrix(projMatrix);
     Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+    updateView();
+    long start = FrameProfiler.start();
     batch.begin();
     renderService.render(batch);
     batch.end();
+    FrameProfiler.stop(FrameProfiler.Metric.RENDER_WORLD, start);
+    // the terrain draws its meshes outside the batch
+    renderCalls = batch.renderCalls + renderService.getUnbatchedDrawCalls();
+    FrameProfiler.set(FrameProfiler.Metric.DRAW_CALLS, renderCalls);
+    FrameProfiler.set(FrameProfiler.Metric.RENDERABLES_DRAWN, renderService.getDrawnCount());
+    FrameProfiler.set(FrameProfiler.Metric.RENDERABLES_CULLED, renderService.getCulledCount());
+
+    start = FrameProfiler.start();
     debugRenderer.render(projMatrix);
+    FrameProfiler.stop(FrameProfiler.Metric.DEBUG_RENDER, start);
 
+    start = FrameProfiler.start();
     stage.act();
     stage.draw();
+    FrameProfiler.stop(FrameProfiler.Metric.STAGE, start);
   }
 
   /**
@@ -128,11 +148,49 @@ public class Renderer implements Disposable {
     if (ServiceLocator.getDialogueBoxService() != null) ServiceLocator.getDialogueBoxService().resizeElements();
   }
 
+  /**
+   * Enable or disable culling renderables outside the camera's view.
+   *
+   * @param culling true to cull (default), false to draw everything
+   */
+  public void setCulling(boolean culling) {
+    this.culling = culling;
+  }
+
+  /**
+   * @return The number of draw calls made drawing the world in the last frame, including batch
+   *     flushes and terrain meshes but not the UI stage
+   */
+  public int getRenderCalls() {
+    return renderCalls;
+  }
+
   /** @return The debug renderer attached to this renderer */
   public DebugRenderer getDebug() {
     return debugRenderer;
   }
 
+  /** Pass the area of the world the camera can see to the render service for culling. */
+  private void updateView() {
+    Camera gameCamera = camera.getCamera();
+    if (!culling || gameCamera == null) {
+      renderService.setView(null);
+      return;
+    }
+    Vector3[] corners = gameCamera.frustum.planePoints;
+    float minX = corners[0].x;
+    float minY = corners[0].y;
+    float maxX = minX;
+    float maxY = minY;
+    for (Vector3 corner : corners) {
+      minX = Math.min(minX, corner.x);
+      minY = Math.min(minY, corner.y);
+      maxX = Math.max(maxX, corner.x);
+      maxY = Math.max(maxY, corner.y);
+    }
+    renderService.setView(view.set(minX, minY, maxX - minX, maxY - minY));
+  }
+
   private void resizeCamera(int screenWidth, int screenHeight) {
     float camViewportWidth = camera.getCamera().viewportWidth;
     if (camViewportWidth != 0.0f) {
@@ -2,35 +2,64 @@ package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 
 /** Render a static texture. */
 public class TextureRenderComponent extends RenderComponent {
   private final Texture texture;
+  // region of its atlas to draw, when the texture was packed
+  private final TextureRegion region;
 
   /**
    * @param texturePath Internal path of static texture to render.
    *                    Will be scaled to the entity's scale.
    */
   public TextureRenderComponent(String texturePath) {
-    this(ServiceLocator.getResourceService().getAsset(texturePath, Texture.class));
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    if (resourceService.isPacked(texturePath)) {
+      this.region = resourceService.getRegion(texturePath);
+      this.texture = region.getTexture();
+    } else {
+      this.region = null;
+      this.texture = resourceService.getAsset(texturePath, Texture.class);
+    }
   }
 //...
   /** @param texture Static texture to render. Will be scaled to the entity's scale. */
   public TextureRenderComponent(Texture texture) {
     this.texture = texture;
+    this.region = null;
   }
 
   /** Scale the entity to a width of 1 and a height matching the texture's ratio */
   public void scaleEntity() {
-    entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+    if (region != null) {
+      entity.setScale(1f, (float) region.getRegionHeight() / region.getRegionWidth());
+    } else {
+      entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+    }
+  }
+
+  @Override
+  protected Texture getTexture() {
+    return texture;
+  }
+
+  @Override
+  protected boolean isCullable() {
+    return true;
   }
 
   @Override
   protected void draw(SpriteBatch batch) {
-    Vector2 position = entity.getPosition();
-    Vector2 scale = entity.getScale();
-    batch.draw(texture, position.x, position.y, scale.x, scale.y);
+    if (region != null) {
+      batch.draw(region, entity.getRenderX(), entity.getRenderY(),
+          entity.getScaleX(), entity.getScaleY());
+    } else {
+      batch.draw(texture, entity.getRenderX(), entity.getRenderY(),
+          entity.getScaleX(), entity.getScaleY());
+    }
   }
 }
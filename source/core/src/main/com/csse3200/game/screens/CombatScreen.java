@@ -31,13 +31,19 @@ import org.slf4j.LoggerFactory;
 public class CombatScreen extends ResizableScreen {
   private static final Logger logger = LoggerFactory.getLogger(CombatScreen.class);
   private static final String[] combatTextures = {
-          "images/heart.png","images/PauseOverlay/TitleBG.png","images/PauseOverlay/Button2.png", "images/grass_3.png",
+          "images/heart.png", "images/grass_3.png",
           "images/combat_background_one.png", "images/hunger_bar.png",
-          "images/dog.png", "images/croc.png", "images/bird.png", "images/health_bar_x1.png", "images/xp_bar.png",
+          "images/dog.png", "images/croc.png", "images/bird.png", "images/health_bar_x1.png", "images/xp_bar.png"
+  };
+  // only needed once the game is paused or a status effect is applied
+  private static final String[] optionalCombatTextures = {
+          "images/PauseOverlay/TitleBG.png", "images/PauseOverlay/Button2.png",
           "images/statuses/bleeding_stat.png", "images/statuses/confused_stat.png",
           "images/statuses/poisoned_stat.png", "images/statuses/shocked_stat.png"
-
   };
+  public static final AssetBundle ASSETS = new AssetBundle("combat")
+          .addTextures(combatTextures, true)
+          .addTextures(optionalCombatTextures, false);
   private boolean isPaused = false;
   private final GdxGame game;
   private final PhysicsEngine physicsEngine;
@@ -128,14 +134,14 @@ public class CombatScreen extends ResizableScreen {
   private void loadAssets() {
     logger.debug("Loading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.loadTextures(combatTextures);
-    ServiceLocator.getResourceService().loadAll();
+    resourceService.loadBundle(ASSETS);
+    resourceService.finishLoadingCritical(ASSETS);
   }
 
   private void unloadAssets() {
     logger.debug("Unloading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
-    resourceService.unloadAssets(combatTextures);
+    resourceService.unloadBundle(ASSETS);
   }
 
   /**
@@ -2,22 +2,32 @@ package com.csse3200.game.screens;
 
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.areas.forest.ForestGameArea;
 import com.csse3200.game.components.animal.BackgroundImage;
 import com.csse3200.game.components.loading.LoadingDisplay;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.input.InputDecorator;
 import com.csse3200.game.input.InputService;
+import com.csse3200.game.services.AssetBundle;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** The game screen containing the settings. */
+/**
+ * Shown before the main game. Loads the main game's assets in the background while showing their
+ * progress, then hands them over to the main game screen.
+ */
 public class LoadingScreen extends ResizableScreen {
   private static final Logger logger = LoggerFactory.getLogger(LoadingScreen.class);
+  // nothing else is happening, so most of each frame can go to loading
+  private static final int LOAD_MILLIS_PER_FRAME = 12;
 
   private final GdxGame game;
+  private final AssetBundle mainGameAssets =
+      new AssetBundle("main game").addAll(MainGameScreen.ASSETS).addAll(ForestGameArea.ASSETS);
+  private final ResourceService preloadedResources = new ResourceService();
   private LoadingDisplay loadingDisplay;
 
   public LoadingScreen(GdxGame game) {
@@ -27,7 +37,9 @@ public class LoadingScreen extends ResizableScreen {
 
     logger.debug("Initialising loading screen services");
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
+    // streamed by the game a few milliseconds each frame while this screen is shown
+    preloadedResources.loadBundle(mainGameAssets);
+    ServiceLocator.registerResourceService(preloadedResources);
     ServiceLocator.registerTimeSource(new GameTime());
 
     renderer.getCamera().getEntity().setPosition(5f, 5f);
@@ -36,8 +48,10 @@ public class LoadingScreen extends ResizableScreen {
   }
   @Override
   public void render(float delta) {
+    preloadedResources.streamAssets(LOAD_MILLIS_PER_FRAME);
     super.render(delta);
     if (loadingDisplay.isLoadingFinished()) {
+      game.setPreloadedResources(preloadedResources);
       game.setScreen(GdxGame.ScreenType.MAIN_GAME);
     }
   }
@@ -52,7 +66,7 @@ public class LoadingScreen extends ResizableScreen {
     Entity ui = new Entity();
     BackgroundImage loadingScreenImage = new BackgroundImage("images/animal/shootingstar3.jpeg");
     stage.addActor(loadingScreenImage);
-    loadingDisplay = new LoadingDisplay();
+    loadingDisplay = new LoadingDisplay(mainGameAssets);
     ui.addComponent(loadingDisplay).addComponent(new InputDecorator(stage, 10));
     ServiceLocator.getEntityService().register(ui);
   }
@@ -9,6 +9,7 @@ import com.csse3200.game.components.Component;
 import com.csse3200.game.components.gamearea.MapTabComponent;
 import com.csse3200.game.components.maingame.TimeDisplay;
 import com.csse3200.game.components.player.KeyboardPlayerInputComponent;
+import com.csse3200.game.components.settingsmenu.UserSettings;
 import com.csse3200.game.areas.GameArea;
 import com.csse3200.game.areas.MapHandler;
 import com.csse3200.game.areas.MiniMap.MiniMapDisplay;
@@ -59,6 +60,7 @@ public class MainGameScreen extends PausableScreen {
   private static final String[] mainGameTextures = {"images/health_bar_x1.png",
           GameState.player.selectedAnimalPath, "images/player_icon_forest.png", "images/vignette.png",
           "images/xp_bar.png", "images/hunger_bar.png", "images/QuestsOverlay/Quest_SBG.png", "images/PauseOverlay/TitleBG.png", "images/PauseOverlay/Button2.png"};
+  public static final AssetBundle ASSETS = new AssetBundle("main game").addTextures(mainGameTextures, true);
 
   /**
    * Initial position of the camera in game.
@@ -108,9 +110,17 @@ public class MainGameScreen extends PausableScreen {
     PhysicsService physicsService = new PhysicsService();
     ServiceLocator.registerPhysicsService(physicsService);
     physicsEngine = physicsService.getPhysics();
+    // the overworld may step physics less often than it draws, e.g. 30 Hz on weak hardware
+    int physicsTickRate = UserSettings.get().physicsTickRate;
+    if (physicsTickRate > 0) {
+      physicsEngine.setTickRate(physicsTickRate);
+    }
+    physicsEngine.setInterpolating(true);
 
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
+    // the loading screen may already have loaded this screen's assets
+    ResourceService resourceService = game.takePreloadedResources();
+    ServiceLocator.registerResourceService(resourceService != null ? resourceService : new ResourceService());
 
     ServiceLocator.registerEntityService(new EntityService());
     ServiceLocator.registerRenderService(new RenderService());
@@ -241,8 +251,8 @@ public class MainGameScreen extends PausableScreen {
   private void loadAssets() {
       logger.debug("Loading assets");
       ResourceService resourceService = ServiceLocator.getResourceService();
-      resourceService.loadTextures(mainGameTextures);
-      ServiceLocator.getResourceService().loadAll();
+      resourceService.loadBundle(ASSETS);
+      resourceService.finishLoadingCritical(ASSETS);
   }
   
   /**
@@ -251,7 +261,7 @@ public class MainGameScreen extends PausableScreen {
   private void unloadAssets() {
       logger.debug("Unloading assets");
       ResourceService resourceService = ServiceLocator.getResourceService();
-      resourceService.unloadAssets(mainGameTextures);
+      resourceService.unloadBundle(ASSETS);
   }
   
   /**
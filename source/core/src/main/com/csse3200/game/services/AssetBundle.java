@@ -0,0 +1,109 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * The assets a screen or area needs, split into critical assets which must be loaded before it is
+ * shown and optional assets which can keep loading in the background while it runs.
+ *
+ * <p>Queue a bundle with {@link ResourceService#loadBundle(AssetBundle)}, then either wait for just
+ * its critical assets with {@link ResourceService#finishLoadingCritical(AssetBundle)} or poll
+ * {@link ResourceService#getProgress(AssetBundle)} from a loading screen.
+ */
+public class AssetBundle {
+  private final String name;
+  private final Array<Asset> assets = new Array<>();
+
+  /**
+   * @param name Name of the bundle, for logging
+   */
+  public AssetBundle(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Add an asset to the bundle.
+   *
+   * @param path     Asset path. Null paths, e.g. from a choice not made yet, are skipped.
+   * @param type     Asset type
+   * @param critical true if the asset must be loaded before the bundle's owner is shown
+   * @return this bundle
+   */
+  public AssetBundle add(String path, Class<?> type, boolean critical) {
+    if (path != null) {
+      assets.add(new Asset(path, type, critical));
+    }
+    return this;
+  }
+
+  public AssetBundle addTextures(String[] paths, boolean critical) {
+    return addAll(paths, Texture.class, critical);
+  }
+
+  public AssetBundle addTextureAtlases(String[] paths, boolean critical) {
+    return addAll(paths, TextureAtlas.class, critical);
+  }
+
+  public AssetBundle addSounds(String[] paths, boolean critical) {
+    return addAll(paths, Sound.class, critical);
+  }
+
+  public AssetBundle addMusic(String[] paths, boolean critical) {
+    return addAll(paths, Music.class, critical);
+  }
+
+  /**
+   * Add every asset of another bundle, e.g. to load a screen and its area together.
+   *
+   * @param bundle The other bundle
+   * @return this bundle
+   */
+  public AssetBundle addAll(AssetBundle bundle) {
+    assets.addAll(bundle.assets);
+    return this;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The number of assets in the bundle
+   */
+  public int size() {
+    return assets.size;
+  }
+
+  Array<Asset> getAssets() {
+    return assets;
+  }
+
+  private AssetBundle addAll(String[] paths, Class<?> type, boolean critical) {
+    for (String path : paths) {
+      add(path, type, critical);
+    }
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  /** An asset in a bundle */
+  static class Asset {
+    final String path;
+    final Class<?> type;
+    final boolean critical;
+
+    Asset(String path, Class<?> type, boolean critical) {
+      this.path = path;
+      this.type = type;
+      this.critical = critical;
+    }
+  }
+}
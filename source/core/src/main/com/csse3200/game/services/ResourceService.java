@@ -6,24 +6,55 @@ import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.assets.loaders.ParticleEffectLoader;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Service for loading resources, e.g. textures, texture atlases, sounds, music, etc. Add new load
  * methods when new types of resources are added to the game.
+ *
+ * <p>Loose PNGs packed by the {@code packTextures} Gradle task are loaded as part of their
+ * directory's atlas instead of individually. Use {@link #getRegion(String)} to look them up by
+ * their original path. Each packed texture loaded holds a reference to its atlas, so the atlas is
+ * unloaded along with the last of its textures.
+ *
+ * <p>Screens should queue their assets as an {@link AssetBundle} and only wait for its critical
+ * assets. The rest are streamed in a few milliseconds a frame by {@link #streamAssets(int)}, and
+ * getting an asset which is still queued waits for just that asset.
+ *
+ * <p>Resource services created without an asset manager share one, along with the
+ * {@link TextureCache}, so an asset used by several screens or by cached UI textures is only
+ * loaded once. Each service holds its own references, and disposing it only unloads those.
  */
 public class ResourceService implements Disposable {
 
   private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
+  /** Asset paths packed by the packTextures Gradle task and their atlases, one per line */
+  private static final String PACKED_LIST = "packed/packed.txt";
+  // used until files can be read, without remembering that nothing is packed
+  private static final ObjectMap<String, String> NOT_PACKED = new ObjectMap<>(0);
+  // atlas of each packed asset path
+  private static ObjectMap<String, String> packedAtlases;
+  private static AssetManager sharedAssetManager;
+  // shared by every resource service, since UI often outlives the services of the screen it is on
+  private static TextureCache textureCache;
   private AssetManager assetManager;
+  // references this service holds on each asset, so only they are unloaded when it is disposed
+  private final ObjectIntMap<String> references = new ObjectIntMap<>();
+  // packed textures this service has loaded, each holding a reference to its atlas
+  private final ObjectIntMap<String> packedLoads = new ObjectIntMap<>();
+  private final ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
 
   public ResourceService() {
-    this(new AssetManager());
+    this(getSharedAssetManager());
   }
 
   /**
@@ -44,9 +75,115 @@ public class ResourceService implements Disposable {
    * @see AssetManager#get(String, Class)
    */
   public <T> T getAsset(String filename, Class<T> type) {
+    if (type == Texture.class && isPacked(filename) && !assetManager.isLoaded(filename, type)) {
+      // Packed textures are not loaded individually unless something needs the texture itself
+      logger.warn("Loading packed texture {} on its own, use getRegion to share its atlas", filename);
+      assetManager.load(filename, type);
+      references.getAndIncrement(filename, 0, 1);
+      assetManager.finishLoadingAsset(filename);
+    } else if (!assetManager.isLoaded(filename) && assetManager.contains(filename)) {
+      // Still streaming in, so load it now rather than fail
+      logger.debug("Waiting for {} to stream in", filename);
+      finishLoading(filename);
+    }
     return assetManager.get(filename, type);
   }
 
+  /**
+   * Get a texture as a region, from its atlas if it was packed or else the whole texture. A packed
+   * texture this service has not loaded is loaded along with its atlas.
+   * Prefer this over getting the texture itself, so that packed images share texture binds.
+   *
+   * @param filename Texture path, e.g. images/tree.png
+   * @return Region of the texture. Shared, do not modify.
+   */
+  public TextureRegion getRegion(String filename) {
+    TextureRegion region = regions.get(filename);
+    if (region == null) {
+      if (isPacked(filename)) {
+        String atlas = getPackedAtlases().get(filename);
+        if (packedLoads.get(filename, 0) == 0) {
+          // not loaded by this service, so take a reference to its atlas now
+          loadTextures(new String[] {filename});
+        }
+        finishLoading(atlas);
+        if (assetManager.isLoaded(atlas, TextureAtlas.class)) {
+          region = assetManager.get(atlas, TextureAtlas.class).findRegion(regionName(filename));
+        }
+      }
+      if (region == null) {
+        region = new TextureRegion(getAsset(filename, Texture.class));
+      }
+      regions.put(filename, region);
+    }
+    return region;
+  }
+
+  /**
+   * @param filename Texture path
+   * @return true if the texture was packed into an atlas
+   */
+  public boolean isPacked(String filename) {
+    return getPackedAtlases().containsKey(filename);
+  }
+
+  /**
+   * Get a shared texture outside of asset loading, instead of constructing a new texture. Must be
+   * released with {@link #releaseTexture(String)} when no longer used.
+   *
+   * @param path Internal path of the texture
+   * @return The shared texture. Do not dispose it.
+   * @see TextureCache#acquire(String)
+   */
+  public static Texture acquireTexture(String path) {
+    return getTextureCache().acquire(path);
+  }
+
+  /**
+   * Stop using a texture from {@link #acquireTexture(String)}.
+   *
+   * @param path Internal path of the texture
+   * @see TextureCache#release(String)
+   */
+  public static void releaseTexture(String path) {
+    getTextureCache().release(path);
+  }
+
+  /**
+   * @return The texture cache shared by all resource services
+   */
+  public static synchronized TextureCache getTextureCache() {
+    if (textureCache == null) {
+      textureCache = new TextureCache(getSharedAssetManager());
+    }
+    return textureCache;
+  }
+
+  private static synchronized AssetManager getSharedAssetManager() {
+    if (sharedAssetManager == null) {
+      sharedAssetManager = new AssetManager();
+    }
+    return sharedAssetManager;
+  }
+
+  /**
+   * Dispose of the texture cache and the asset manager shared by resource services, along with
+   * everything still loaded in them. Call when the game exits, after disposing every resource
+   * service, or between tests so queued and loaded assets don't carry over. They are created
+   * again if used afterwards.
+   */
+  public static synchronized void disposeShared() {
+    if (textureCache != null) {
+      textureCache.clear();
+      textureCache = null;
+    }
+    if (sharedAssetManager != null) {
+      sharedAssetManager.dispose();
+      sharedAssetManager = null;
+    }
+    packedAtlases = null;
+  }
+
   /**
    * Check if an asset has been loaded already
    * @param resourceName path of the asset
@@ -100,13 +237,117 @@ public class ResourceService implements Disposable {
   }
 
   /**
-   * Clears all loaded assets and assets in the preloading queue.
+   * Loads queued assets for up to the given duration, doing nothing once everything queued has
+   * loaded. Called once a frame so that optional assets keep loading after a screen is shown.
+   *
+   * @param duration Time budget in milliseconds
+   * @return true if nothing is left to load
+   */
+  public boolean streamAssets(int duration) {
+    if (assetManager.isFinished()) {
+      return true;
+    }
+    try {
+      return assetManager.update(duration);
+    } catch (Exception e) {
+      logger.error(e.getMessage());
+    }
+    return assetManager.isFinished();
+  }
+
+  /**
+   * Queue every asset in a bundle, critical assets first so that they are loaded first. Does not
+   * block.
    *
-   * @see AssetManager#clear()
+   * @param bundle The bundle
+   */
+  public void loadBundle(AssetBundle bundle) {
+    logger.debug("Queueing {} assets of {}", bundle.size(), bundle);
+    for (AssetBundle.Asset asset : bundle.getAssets()) {
+      if (asset.critical) {
+        queue(asset);
+      }
+    }
+    for (AssetBundle.Asset asset : bundle.getAssets()) {
+      if (!asset.critical) {
+        queue(asset);
+      }
+    }
+  }
+
+  /**
+   * Block until the critical assets of a queued bundle have loaded, leaving its optional assets
+   * to stream in.
+   *
+   * @param bundle A bundle queued with {@link #loadBundle(AssetBundle)}
+   */
+  public void finishLoadingCritical(AssetBundle bundle) {
+    long start = System.nanoTime();
+    for (AssetBundle.Asset asset : bundle.getAssets()) {
+      if (asset.critical) {
+        finishLoading(loadedName(asset));
+      }
+    }
+    logger.debug("Loaded critical assets of {} in {} ms", bundle,
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * @param bundle       A bundle queued with {@link #loadBundle(AssetBundle)}
+   * @param criticalOnly true to only check the bundle's critical assets
+   * @return true if the assets are loaded. Assets which failed to load count as finished.
+   */
+  public boolean isLoaded(AssetBundle bundle, boolean criticalOnly) {
+    for (AssetBundle.Asset asset : bundle.getAssets()) {
+      if ((asset.critical || !criticalOnly) && !isDone(asset)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param bundle A bundle queued with {@link #loadBundle(AssetBundle)}
+   * @return Fraction of the bundle's assets which have finished loading, from 0 to 1
+   */
+  public float getProgress(AssetBundle bundle) {
+    if (bundle.size() == 0) {
+      return 1f;
+    }
+    int done = 0;
+    for (AssetBundle.Asset asset : bundle.getAssets()) {
+      if (isDone(asset)) {
+        done++;
+      }
+    }
+    return (float) done / bundle.size();
+  }
+
+  /**
+   * Unload every asset in a bundle.
+   *
+   * @param bundle The bundle
+   */
+  public void unloadBundle(AssetBundle bundle) {
+    for (AssetBundle.Asset asset : bundle.getAssets()) {
+      unloadAsset(asset.path);
+    }
+  }
+
+  /**
+   * Unloads every asset this service loaded or queued. Assets other services or the texture cache
+   * still use stay loaded.
    */
   public void clearAllAssets() {
     logger.debug("Clearing all assets");
-    assetManager.clear();
+    for (ObjectIntMap.Entry<String> asset : references) {
+      for (int i = 0; i < asset.value && assetManager.contains(asset.key); i++) {
+        assetManager.unload(asset.key);
+      }
+    }
+    references.clear();
+    packedLoads.clear();
+    regions.clear();
   }
 
   /**
@@ -120,6 +361,7 @@ public class ResourceService implements Disposable {
     logger.debug("Loading {}: {}", type.getSimpleName(), assetName);
     try {
       assetManager.load(assetName, type);
+      references.getAndIncrement(assetName, 0, 1);
     } catch (Exception e) {
       logger.error("Could not load {}: {}", type.getSimpleName(), assetName);
     }
@@ -137,6 +379,7 @@ public class ResourceService implements Disposable {
     logger.debug("Loading {}: {} with parameter {}", type.getSimpleName(), assetName, parameter);
     try {
       assetManager.load(assetName, type, parameter);
+      references.getAndIncrement(assetName, 0, 1);
     } catch (Exception e) {
       logger.error("Could not load {}: {} with parameter {}", type.getSimpleName(), assetName, parameter);
     }
@@ -161,7 +404,14 @@ public class ResourceService implements Disposable {
    * @param textureNames texture filenames
    */
   public void loadTextures(String[] textureNames) {
-    loadAssets(textureNames, Texture.class);
+    for (String textureName : textureNames) {
+      if (isPacked(textureName)) {
+        loadAsset(getPackedAtlases().get(textureName), TextureAtlas.class);
+        packedLoads.getAndIncrement(textureName, 0, 1);
+      } else {
+        loadAsset(textureName, Texture.class);
+      }
+    }
   }
 
   /**
@@ -207,18 +457,100 @@ public class ResourceService implements Disposable {
 
   public void unloadAssets(String[] assetNames) {
     for (String assetName : assetNames) {
-      logger.debug("Unloading {}", assetName);
-      try {
-        assetManager.unload(assetName);
-      } catch (Exception e) {
-        logger.error("Could not unload {}", assetName);
+      unloadAsset(assetName);
+    }
+  }
+
+  private void unloadAsset(String assetName) {
+    if (packedLoads.get(assetName, 0) > 0) {
+      // release this texture's reference to its atlas
+      if (packedLoads.getAndIncrement(assetName, 0, -1) == 1) {
+        packedLoads.remove(assetName, 0);
       }
+      unloadAsset(getPackedAtlases().get(assetName));
+    }
+    regions.remove(assetName);
+    if (references.get(assetName, 0) == 0) {
+      // not loaded by this service
+      return;
+    }
+    references.getAndIncrement(assetName, 0, -1);
+    if (references.get(assetName, 0) == 0) {
+      references.remove(assetName, 0);
+    }
+    logger.debug("Unloading {}", assetName);
+    try {
+      assetManager.unload(assetName);
+    } catch (Exception e) {
+      logger.error("Could not unload {}", assetName);
     }
   }
 
   @Override
   public void dispose() {
-    assetManager.clear();
+    clearAllAssets();
+  }
+
+  private void queue(AssetBundle.Asset asset) {
+    if (asset.type == Texture.class) {
+      loadTextures(new String[] {asset.path});
+    } else {
+      loadAsset(asset.path, asset.type);
+    }
+  }
+
+  /** Packed textures are loaded as part of their atlas. */
+  private String loadedName(AssetBundle.Asset asset) {
+    return asset.type == Texture.class && isPacked(asset.path)
+        ? getPackedAtlases().get(asset.path) : asset.path;
+  }
+
+  private boolean isDone(AssetBundle.Asset asset) {
+    String name = loadedName(asset);
+    return assetManager.isLoaded(name) || !assetManager.contains(name);
+  }
+
+  /**
+   * Load queued assets until one has loaded. Unlike {@link AssetManager#finishLoadingAsset(String)}
+   * this gives up if the asset fails to load or was never queued.
+   */
+  private void finishLoading(String filename) {
+    while (!assetManager.isLoaded(filename) && assetManager.contains(filename)) {
+      try {
+        assetManager.update();
+      } catch (Exception e) {
+        logger.error(e.getMessage());
+      }
+    }
+  }
+
+  private static String regionName(String filename) {
+    int extension = filename.lastIndexOf('.');
+    return extension < 0 ? filename : filename.substring(0, extension);
+  }
+
+  /**
+   * Read the list of packed paths the first time it is needed. Empty if nothing was packed, or if
+   * files cannot be read yet, in which case the list is read on a later call.
+   */
+  private static synchronized ObjectMap<String, String> getPackedAtlases() {
+    if (packedAtlases == null) {
+      if (Gdx.files == null) {
+        return NOT_PACKED;
+      }
+      packedAtlases = new ObjectMap<>();
+      FileHandle list = Gdx.files.internal(PACKED_LIST);
+      if (list.exists()) {
+        for (String line : list.readString().split("\\R")) {
+          int separator = line.indexOf('\t');
+          if (separator > 0) {
+            packedAtlases.put(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+          }
+        }
+        logger.info("{} textures are packed into atlases", packedAtlases.size);
+      }
+    }
+    return packedAtlases;
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reference counted textures for code which needs a texture outside of a screen's asset loading,
+ * e.g. UI built in a constructor. Textures are held in the same asset manager screens load their
+ * textures into, with one asset manager reference per acquire, so an image a screen has loaded is
+ * shared rather than decoded and uploaded again. A texture is disposed once neither a screen nor
+ * this cache holds it.
+ *
+ * <p>Every {@link #acquire(String)} must be matched by a {@link #release(String)} when the texture
+ * is no longer used. Use {@link #reportLeaks(String, long)} when a screen is disposed to find
+ * acquires it never released.
+ */
+public class TextureCache {
+  private static final Logger logger = LoggerFactory.getLogger(TextureCache.class);
+  private final AssetManager assetManager;
+  private final ObjectMap<String, Entry> textures = new ObjectMap<>();
+  // counts acquires, so leaks can be traced to what was acquired after a mark
+  private long acquireCount = 0;
+
+  /**
+   * @param assetManager Asset manager to hold the textures in, shared with the screens' resource
+   *                     services
+   */
+  public TextureCache(AssetManager assetManager) {
+    this.assetManager = assetManager;
+  }
+
+  /**
+   * Get a texture, loading it if it is not already loaded.
+   *
+   * @param path Internal path of the texture
+   * @return The shared texture. Do not dispose it, release it instead.
+   */
+  public Texture acquire(String path) {
+    Texture texture = reference(path);
+    entry(path).acquires.add(acquireCount++);
+    return texture;
+  }
+
+  /**
+   * Get a texture which is held for the rest of the game, e.g. in a static field. It is never
+   * released, so it is not reported as a leak.
+   *
+   * @param path Internal path of the texture
+   * @return The shared texture. Do not dispose it.
+   */
+  public Texture acquirePermanent(String path) {
+    Texture texture = reference(path);
+    entry(path).permanentReferences++;
+    return texture;
+  }
+
+  /**
+   * Stop using a texture. The texture is disposed once nothing is using it.
+   *
+   * @param path Internal path the texture was acquired with
+   */
+  public void release(String path) {
+    Entry entry = textures.get(path);
+    if (entry == null || entry.acquires.size == 0) {
+      logger.warn("Released texture {} which is not in use", path);
+      return;
+    }
+    // the latest acquire is released first, so leaks stay with whatever acquired last
+    entry.acquires.pop();
+    if (entry.references() == 0) {
+      textures.remove(path);
+    }
+    unload(path);
+  }
+
+  /**
+   * @param path Internal path of the texture
+   * @return The number of unreleased acquires of the texture
+   */
+  public int getReferences(String path) {
+    Entry entry = textures.get(path);
+    return entry == null ? 0 : entry.references();
+  }
+
+  /**
+   * @return The number of textures in use
+   */
+  public int size() {
+    return textures.size;
+  }
+
+  /**
+   * Mark the current point, so that acquires made afterwards can be checked for leaks.
+   *
+   * @return The mark
+   */
+  public long mark() {
+    return acquireCount;
+  }
+
+  /**
+   * Log a warning for each texture acquired since a mark which has not been released, including
+   * textures which were already in use before the mark.
+   *
+   * @param owner Name of what should have released the textures, e.g. a screen
+   * @param mark  Mark taken when the owner was created
+   * @return The number of textures still in use
+   */
+  public int reportLeaks(String owner, long mark) {
+    int leaks = 0;
+    for (ObjectMap.Entry<String, Entry> texture : textures) {
+      int unreleased = texture.value.acquiredSince(mark);
+      if (unreleased > 0) {
+        logger.warn("{} did not release texture {} ({} of {} references)", owner, texture.key,
+            unreleased, texture.value.references());
+        leaks++;
+      }
+    }
+    return leaks;
+  }
+
+  /** Release every texture, whether or not it is still in use. */
+  public void clear() {
+    for (ObjectMap.Entry<String, Entry> texture : textures) {
+      for (int i = texture.value.references(); i > 0; i--) {
+        unload(texture.key);
+      }
+    }
+    textures.clear();
+  }
+
+  /** Take an asset manager reference to a texture, loading it if needed. */
+  private Texture reference(String path) {
+    if (assetManager.contains(path)) {
+      // loaded or queued by a screen, so share it, waiting if it is still loading
+      assetManager.load(path, Texture.class);
+      return assetManager.finishLoadingAsset(path);
+    }
+    // load straight away rather than behind everything screens have queued
+    logger.debug("Loading cached texture {}", path);
+    Texture texture = new Texture(Gdx.files.internal(path));
+    assetManager.addAsset(path, Texture.class, texture);
+    return texture;
+  }
+
+  private void unload(String path) {
+    if (assetManager.contains(path)) {
+      assetManager.unload(path);
+    }
+  }
+
+  private Entry entry(String path) {
+    Entry entry = textures.get(path);
+    if (entry == null) {
+      entry = new Entry();
+      textures.put(path, entry);
+    }
+    return entry;
+  }
+
+  private static class Entry {
+    // mark of each unreleased acquire, oldest first
+    private final LongArray acquires = new LongArray();
+    private int permanentReferences = 0;
+
+    int references() {
+      return acquires.size + permanentReferences;
+    }
+
+    int acquiredSince(long mark) {
+      int count = 0;
+      for (int i = acquires.size - 1; i >= 0 && acquires.get(i) >= mark; i--) {
+        count++;
+      }
+      return count;
+    }
+  }
+}
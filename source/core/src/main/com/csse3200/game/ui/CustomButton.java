@@ -15,6 +15,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Stack;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
+import com.csse3200.game.services.ResourceService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,12 +26,12 @@ public class CustomButton extends Stack{
     private static final Logger logger = LoggerFactory.getLogger(CustomButton.class);
 
     // Preloaded textures and sound used across all buttons
-    private static final Texture NORMAL_BUTTON_TEXTURE = new Texture(Gdx.files.internal("images/ButtonsMain/BlankLarge.png"));
-    private static final Texture DIALOGUE_BUTTON_TEXTURE = new Texture(Gdx.files.internal("images/ButtonsMain/BlueBlankLarge.png"));
-    private static final Texture WIDE_BUTTON_TEXTURE = new Texture(Gdx.files.internal("images/ButtonsMain/WideButtonBrown.png"));
-    private static final Texture SMALL_BUTTON_TEXTURE = new Texture(Gdx.files.internal("images/ButtonsMain/SmallBlankLarge.png"));
-    private static final Texture SMALL_DIALOGUE_BUTTON_TEXTURE = new Texture(Gdx.files.internal("images/ButtonsMain/BlueBlankSmall.png"));
-    private static final Texture WOODEN_PLANK_TEXTURE = new Texture(Gdx.files.internal("images/PauseOverlay/Button2.png"));
+    private static final Texture NORMAL_BUTTON_TEXTURE = ResourceService.getTextureCache().acquirePermanent("images/ButtonsMain/BlankLarge.png");
+    private static final Texture DIALOGUE_BUTTON_TEXTURE = ResourceService.getTextureCache().acquirePermanent("images/ButtonsMain/BlueBlankLarge.png");
+    private static final Texture WIDE_BUTTON_TEXTURE = ResourceService.getTextureCache().acquirePermanent("images/ButtonsMain/WideButtonBrown.png");
+    private static final Texture SMALL_BUTTON_TEXTURE = ResourceService.getTextureCache().acquirePermanent("images/ButtonsMain/SmallBlankLarge.png");
+    private static final Texture SMALL_DIALOGUE_BUTTON_TEXTURE = ResourceService.getTextureCache().acquirePermanent("images/ButtonsMain/BlueBlankSmall.png");
+    private static final Texture WOODEN_PLANK_TEXTURE = ResourceService.getTextureCache().acquirePermanent("images/PauseOverlay/Button2.png");
     private static final Sound BUTTON_CLICK_SOUND = Gdx.audio.newSound(Gdx.files.internal("sounds/click.mp3"));
     private static final Sound BUTTON_HOVER_SOUND = Gdx.audio.newSound(Gdx.files.internal("sounds/hoversound2.mp3"));
 
@@ -11,6 +11,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.csse3200.game.components.quests.QuestManager;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.badlogic.gdx.utils.Align;
 import com.csse3200.game.GdxGame;
@@ -26,9 +27,9 @@ import static com.csse3200.game.minigames.MiniGameNames.*;
 public class DialogueBox {
     // Static resources
     private static final Skin SKIN = new Skin(Gdx.files.internal("flat-earth/skin/flat-earth-ui.json"));
-    private static final Texture BACKGROUND_TEXTURE = new Texture(Gdx.files.internal("images/blue-bar.png"));
-    private static final Texture BUTTON_IMAGE_TEXTURE = new Texture(Gdx.files.internal("images/blue-button.png"));
-    private static final Texture BUTTON_HOVER_TEXTURE = new Texture(Gdx.files.internal("images/blue-b-hover.png"));
+    private static final Texture BACKGROUND_TEXTURE = ResourceService.getTextureCache().acquirePermanent("images/blue-bar.png");
+    private static final Texture BUTTON_IMAGE_TEXTURE = ResourceService.getTextureCache().acquirePermanent("images/blue-button.png");
+    private static final Texture BUTTON_HOVER_TEXTURE = ResourceService.getTextureCache().acquirePermanent("images/blue-b-hover.png");
 
 
     private static GdxGame game;
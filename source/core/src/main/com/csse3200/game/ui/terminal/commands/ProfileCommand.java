@@ -0,0 +1,69 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.badlogic.gdx.Gdx;
+import com.csse3200.game.profiling.FrameProfiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+
+/**
+ * A command for the frame profiler. {@code profile on} and {@code profile off} start and stop
+ * recording, {@code profile show} logs the percentiles of each subsystem and
+ * {@code profile csv [file]} exports them, to profile.csv by default.
+ */
+public class ProfileCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(ProfileCommand.class);
+  static final String DEFAULT_CSV_FILE = "profile.csv";
+
+  /**
+   * Runs the profiler action named by the first argument.
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    if (!isValid(args)) {
+      logger.debug("Invalid arguments received for 'profile' command: {}", args);
+      return false;
+    }
+
+    String arg = args.get(0);
+    switch (arg) {
+      case "on":
+        FrameProfiler.setEnabled(true);
+        return true;
+      case "off":
+        FrameProfiler.setEnabled(false);
+        return true;
+      case "show":
+        logger.info("{}", FrameProfiler.getSummary());
+        return true;
+      case "csv":
+        return exportCsv(args.size() > 1 ? args.get(1) : DEFAULT_CSV_FILE);
+      default:
+        logger.debug("Unrecognised argument received for 'profile' command: {}", args);
+        return false;
+    }
+  }
+
+  private boolean exportCsv(String file) {
+    try (Writer writer = Gdx.files.local(file).writer(false)) {
+      FrameProfiler.writeCsv(writer);
+      logger.info("Wrote {} profiled frames to {}", FrameProfiler.getFrameCount(), file);
+      return true;
+    } catch (IOException | RuntimeException e) {
+      logger.error("Failed to write profile to {}", file, e);
+      return false;
+    }
+  }
+
+  /**
+   * Validates the command arguments.
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    return args.size() == 1 || (args.size() == 2 && args.get(0).equals("csv"));
+  }
+}
@@ -0,0 +1,124 @@
+package com.csse3200.game.ai.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.concurrency.JobSystem;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CountDownLatch;
+
+@ExtendWith(GameExtension.class)
+class AIPlannerTest {
+  @Test
+  void shouldSnapshotPositions() {
+    Entity entity = new Entity();
+    entity.setPosition(2f, 3f);
+    entity.setScale(2f, 4f);
+    Entity other = new Entity();
+    other.setPosition(5f, 7f);
+    Array<Entity> entities = Array.with(entity, other);
+
+    AISnapshot snapshot = new AISnapshot();
+    snapshot.set(entities);
+    entity.setPosition(100f, 100f);
+
+    assertEquals(2, snapshot.size());
+    assertEquals(new Vector2(2f, 3f), snapshot.getPosition(entity, new Vector2()));
+    assertEquals(new Vector2(3f, 5f), snapshot.getCenterPosition(entity, new Vector2()));
+    assertEquals(5f, snapshot.distance(entity, other), 0.001f);
+    assertTrue(snapshot.distance(entity, new Entity()) < 0f);
+  }
+
+  @Test
+  void shouldThinkTheSameInParallel() {
+    Array<Entity> entities = createEntities(AIPlanner.COMPONENTS_PER_JOB * 8 + 5);
+    int count = entities.size;
+
+    AIPlanner planner = new AIPlanner();
+    planner.setParallel(false);
+    PriorityTask[] serialTasks = thinkAndAct(planner, entities);
+    planner.setParallel(true);
+    PriorityTask[] parallelTasks = thinkAndAct(planner, entities);
+
+    assertArrayEquals(serialTasks, parallelTasks);
+    assertEquals(3, ((RangeTask) serialTasks[0]).priority);
+    assertEquals(2, ((RangeTask) serialTasks[50]).priority);
+    assertEquals(1, ((RangeTask) serialTasks[count - 1]).priority);
+  }
+
+  @Test
+  void shouldThinkWhileJobSystemIsBusy() {
+    // Long jobs like terrain generation occupying every job system thread
+    CountDownLatch release = new CountDownLatch(1);
+    for (int i = 0; i < Runtime.getRuntime().availableProcessors(); i++) {
+      JobSystem.launch(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return null;
+      });
+    }
+
+    try {
+      Array<Entity> entities = createEntities(AIPlanner.COMPONENTS_PER_JOB * 4);
+      PriorityTask[] tasks = thinkAndAct(new AIPlanner(), entities);
+      assertEquals(3, ((RangeTask) tasks[0]).priority);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private static Array<Entity> createEntities(int count) {
+    Array<Entity> entities = new Array<>();
+    for (int i = 0; i < count; i++) {
+      Entity entity = new Entity().addComponent(new AITaskComponent()
+          .addTask(new RangeTask(1, 100f))
+          .addTask(new RangeTask(2, 5f))
+          .addTask(new RangeTask(3, 1f)));
+      entity.setPosition(i * 0.05f, 0f);
+      entities.add(entity);
+    }
+    return entities;
+  }
+
+  private static PriorityTask[] thinkAndAct(AIPlanner planner, Array<Entity> entities) {
+    planner.think(entities, entities);
+    PriorityTask[] tasks = new PriorityTask[entities.size];
+    for (int i = 0; i < entities.size; i++) {
+      AITaskComponent ai = entities.get(i).getComponent(AITaskComponent.class);
+      ai.update();
+      tasks[i] = ai.getCurrentTask();
+    }
+    return tasks;
+  }
+
+  /** Wants to run while its entity is within range of the origin, deciding only from snapshots */
+  private static class RangeTask extends DefaultTask implements PriorityTask {
+    private final int priority;
+    private final float range;
+    private final Vector2 position = new Vector2();
+
+    RangeTask(int priority, float range) {
+      this.priority = priority;
+      this.range = range;
+    }
+
+    @Override
+    public int getPriority() {
+      fail("Priority should come from the snapshot");
+      return -1;
+    }
+
+    @Override
+    public int getPriority(AISnapshot snapshot) {
+      return snapshot.getPosition(owner.getEntity(), position).len() < range ? priority : -1;
+    }
+  }
+}
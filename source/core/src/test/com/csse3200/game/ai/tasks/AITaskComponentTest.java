@@ -1,6 +1,8 @@
 package com.csse3200.game.ai.tasks;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -79,4 +81,46 @@ class AITaskComponentTest {
 
     verify(task).stop();
   }
+
+  @Test
+  void shouldRunThoughtPriorityTask() {
+    AITaskComponent taskComponent = new AITaskComponent();
+    PriorityTask lowPriorityTask = mock(PriorityTask.class);
+    when(lowPriorityTask.getPriority(any(AISnapshot.class))).thenReturn(1);
+    taskComponent.addTask(lowPriorityTask);
+    PriorityTask highPriorityTask = mock(PriorityTask.class);
+    when(highPriorityTask.getPriority(any(AISnapshot.class))).thenReturn(2);
+    taskComponent.addTask(highPriorityTask);
+
+    taskComponent.think(new AISnapshot());
+    taskComponent.update();
+
+    verify(highPriorityTask).start();
+    verify(lowPriorityTask, times(0)).start();
+    verify(highPriorityTask, never()).getPriority();
+    verify(lowPriorityTask, never()).getPriority();
+  }
+
+  @Test
+  void shouldAskTaskWhichCouldNotThink() {
+    AITaskComponent taskComponent = new AITaskComponent();
+    PriorityTask thinkingTask = mock(PriorityTask.class);
+    when(thinkingTask.getPriority(any(AISnapshot.class))).thenReturn(1);
+    taskComponent.addTask(thinkingTask);
+    PriorityTask mainThreadTask = mock(PriorityTask.class);
+    when(mainThreadTask.getPriority(any(AISnapshot.class)))
+        .thenReturn(PriorityTask.PRIORITY_MAIN_THREAD);
+    when(mainThreadTask.getPriority()).thenReturn(2);
+    taskComponent.addTask(mainThreadTask);
+
+    taskComponent.think(new AISnapshot());
+    taskComponent.update();
+    verify(mainThreadTask).getPriority();
+    verify(mainThreadTask).start();
+
+    // Thinking is used up, so the next update asks every task directly
+    when(thinkingTask.getPriority()).thenReturn(3);
+    taskComponent.update();
+    verify(thinkingTask).start();
+  }
 }
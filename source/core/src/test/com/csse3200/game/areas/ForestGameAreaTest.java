@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.GdxGame;
 import com.csse3200.game.areas.terrain.TerrainFactory;
@@ -55,6 +56,7 @@ class ForestGameAreaTest {
         ResourceService resourceService = mock(ResourceService.class);
         Texture mockTexture = mock(Texture.class);
         when(resourceService.getAsset(anyString(), eq(Texture.class))).thenReturn(mockTexture);
+        when(resourceService.getRegion(anyString())).thenReturn(new TextureRegion(mockTexture));
         ServiceLocator.registerResourceService(resourceService);
 
         // Send spies to collect information
@@ -0,0 +1,48 @@
+package com.csse3200.game.areas.terrain;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how many chunks the wave function collapse solver can generate per second.
+ * Run with {@code ./gradlew :core:benchmark}.
+ */
+@ExtendWith(GameExtension.class)
+class TerrainChunkBenchmark {
+  private static final Logger logger = LoggerFactory.getLogger(TerrainChunkBenchmark.class);
+  private static final int WARMUP_CHUNKS = 2_000;
+  private static final int CHUNKS = 20_000;
+
+  @Test
+  void chunksPerSecond() {
+    TileRules rules = new TileRules(WaveFunctionSolverTest.createForestTiles());
+    WaveFunctionSolver solver = new WaveFunctionSolver();
+    RandomXS128 random = new RandomXS128(1);
+
+    int checksum = generate(solver, rules, random, WARMUP_CHUNKS);
+    long start = System.nanoTime();
+    checksum += generate(solver, rules, random, CHUNKS);
+    double seconds = (System.nanoTime() - start) / 1e9;
+
+    logger.info("Generated {} chunks in {} s: {} chunks/s (checksum {})",
+        CHUNKS, String.format("%.3f", seconds), String.format("%.0f", CHUNKS / seconds), checksum);
+    assertTrue(seconds > 0);
+  }
+
+  private static int generate(WaveFunctionSolver solver, TileRules rules, RandomXS128 random,
+      int chunks) {
+    int checksum = 0;
+    for (int i = 0; i < chunks; i++) {
+      solver.reset(rules);
+      solver.solve(random);
+      checksum += solver.getTile(i % WaveFunctionSolver.CELLS);
+    }
+    return checksum;
+  }
+}
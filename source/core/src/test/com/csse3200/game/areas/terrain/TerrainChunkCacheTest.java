@@ -0,0 +1,118 @@
+package com.csse3200.game.areas.terrain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.math.GridPoint2;
+import com.csse3200.game.areas.MapHandler.MapType;
+import com.csse3200.game.areas.terrain.tiles.Tile;
+import com.csse3200.game.extensions.GameExtension;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class TerrainChunkCacheTest {
+  private static final int CHUNK = TerrainChunk.CHUNK_SIZE;
+
+  private TiledMap map;
+  private TerrainResource resource;
+  private List<Tile> tiles;
+  private List<Cell> cells;
+
+  @BeforeEach
+  void beforeEach() {
+    map = new TiledMap();
+    for (int i = 0; i < 3; i++) {
+      map.getLayers().add(new TiledMapTileLayer(CHUNK * 4, CHUNK * 4, 1000, 1000));
+    }
+
+    tiles = new ArrayList<>();
+    cells = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      tiles.add(new Tile("tile" + i, new TextureRegion(), List.of("A", "A", "A", "A"), "centre" + i));
+      cells.add(new Cell().setTile(new TerrainTile(tiles.get(i).getTexture())));
+    }
+    resource = mock(TerrainResource.class);
+    when(resource.getMapTilebyIndex(anyInt(), any(MapType.class)))
+        .thenAnswer(invocation -> tiles.get(invocation.getArgument(0, Integer.class)));
+    when(resource.getMapCellbyIndex(anyInt(), any(MapType.class)))
+        .thenAnswer(invocation -> cells.get(invocation.getArgument(0, Integer.class)));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedInactiveChunks() {
+    TerrainChunkCache cache = new TerrainChunkCache(map, 2);
+    TerrainChunk first = commit(new GridPoint2(0, 0), 1);
+    TerrainChunk second = commit(new GridPoint2(1, 0), 2);
+    TerrainChunk third = commit(new GridPoint2(2, 0), 3);
+    cache.put(first);
+    cache.put(second);
+    cache.put(third);
+
+    Set<GridPoint2> active = new HashSet<>();
+    active.add(new GridPoint2(0, 0));
+    cache.evict(active);
+
+    assertEquals(2, cache.getResidentCount());
+    assertEquals(1, cache.getEvictions());
+    assertSame(first, cache.get(new GridPoint2(0, 0)));
+    assertNull(cache.get(new GridPoint2(1, 0)));
+    assertNull(layer().getCell(CHUNK, 0));
+    assertNotNull(layer().getCell(0, 0));
+  }
+
+  @Test
+  void shouldRestoreEvictedChunkWithSameTiles() {
+    TerrainChunkCache cache = new TerrainChunkCache(map, 0);
+    GridPoint2 pos = new GridPoint2(1, 1);
+    cache.put(commit(pos, 5));
+    cache.evict(new HashSet<>());
+    assertNull(layer().getCell(CHUNK + 3, CHUNK + 3));
+
+    TerrainChunk restored = cache.load(pos, resource);
+
+    assertNotNull(restored);
+    assertEquals(1, cache.getHits());
+    assertEquals(0, cache.getMisses());
+    assertSame(cells.get(5), layer().getCell(CHUNK + 3, CHUNK + 3));
+    assertEquals(CHUNK * CHUNK, restored.getTileTypeCount("centre5"));
+  }
+
+  @Test
+  void shouldCountMissForUngeneratedChunk() {
+    TerrainChunkCache cache = new TerrainChunkCache(map, 4);
+    assertNull(cache.load(new GridPoint2(3, 3), resource));
+    assertNull(cache.peek(new GridPoint2(3, 3)));
+    assertEquals(1, cache.getMisses());
+    assertEquals(0, cache.getHits());
+  }
+
+  private TerrainChunk commit(GridPoint2 pos, int tile) {
+    byte[] compact = new byte[CHUNK * CHUNK];
+    Arrays.fill(compact, (byte) tile);
+    TerrainChunk chunk = new TerrainChunk(pos, map);
+    chunk.restoreTiles(compact);
+    chunk.commitTiles(resource);
+    return chunk;
+  }
+
+  private TiledMapTileLayer layer() {
+    return (TiledMapTileLayer) map.getLayers().get(0);
+  }
+}
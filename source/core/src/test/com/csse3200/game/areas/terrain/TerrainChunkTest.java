@@ -32,9 +32,8 @@ public class TerrainChunkTest {
 
     @Test
     public void testInitialization() {
-        // Check that the grid is initialized
-        assertNotNull(terrainChunk.grid);
-        assertEquals(0, terrainChunk.grid.size);
+        // Check that no tiles have been generated yet
+        assertEquals(0, terrainChunk.totalTiles);
 
         // Check that the tile is initialized
         assertNotNull(terrainChunk.getTileTypeCount());
@@ -0,0 +1,162 @@
+package com.csse3200.game.areas.terrain;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.MathUtils;
+import com.csse3200.game.areas.MapHandler.MapType;
+import com.csse3200.game.areas.forest.ForestGameArea;
+import com.csse3200.game.areas.terrain.tiles.Tile;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the heap held by a fully loaded overworld map when chunks are committed with the
+ * terrain resource's shared cells, against committing them the way chunks used to, with a cell,
+ * a tile and four neighbour sets per position. Both maps show the same chunks, generated once by
+ * {@link TerrainChunk#generateTiles}, and are committed with the same chunk restore path the cache
+ * uses, so only the cells differ.
+ * Run with {@code ./gradlew :core:benchmark}.
+ */
+@ExtendWith(GameExtension.class)
+class TerrainMemoryBenchmark {
+  private static final Logger logger = LoggerFactory.getLogger(TerrainMemoryBenchmark.class);
+  private static final long SEED = 3200;
+
+  @Test
+  void heapPerMap() {
+    ResourceService resourceService = mock(ResourceService.class);
+    when(resourceService.getRegion(any())).thenReturn(new TextureRegion(mock(Texture.class)));
+    ServiceLocator.registerResourceService(resourceService);
+    TerrainResource terrainResource = new TerrainResource(MapType.FOREST);
+
+    // Generate every chunk of the overworld through the real solve and commit path
+    MathUtils.random.setSeed(SEED);
+    Map<GridPoint2, TerrainChunk> generated = new LinkedHashMap<>();
+    TiledMap generatedMap = createMap();
+    for (int y = 0; y < ForestGameArea.MAP_SIZE.y / TerrainChunk.CHUNK_SIZE; y++) {
+      for (int x = 0; x < ForestGameArea.MAP_SIZE.x / TerrainChunk.CHUNK_SIZE; x++) {
+        GridPoint2 position = new GridPoint2(x, y);
+        TerrainChunk chunk = new TerrainChunk(position, generatedMap);
+        chunk.generateTiles(position, generated, terrainResource);
+        generated.put(position, chunk);
+      }
+    }
+
+    long sharedCells = measure(generated, (chunk, map) -> chunk.commitTiles(terrainResource));
+    long perCell = measure(generated, (chunk, map) -> commitLegacy(chunk, map, terrainResource));
+
+    logger.info("{} chunks. Per-cell objects: {} KiB, shared cells: {} KiB ({}x smaller)",
+        generated.size(), perCell / 1024, sharedCells / 1024,
+        String.format("%.1f", (double) perCell / sharedCells));
+    assertTrue(sharedCells < perCell);
+  }
+
+  /**
+   * Restore the generated chunks into a new map, then measure the heap taken by committing them.
+   */
+  private static long measure(Map<GridPoint2, TerrainChunk> generated,
+      BiConsumer<TerrainChunk, TiledMap> commit) {
+    TiledMap map = createMap();
+    TerrainChunk[] chunks = new TerrainChunk[generated.size()];
+    int i = 0;
+    for (TerrainChunk chunk : generated.values()) {
+      chunks[i] = new TerrainChunk(chunk.getPosition(), map);
+      chunks[i].restoreTiles(chunk.compactTiles());
+      i++;
+    }
+
+    long before = usedHeap();
+    for (TerrainChunk chunk : chunks) {
+      commit.accept(chunk, map);
+    }
+    long after = usedHeap();
+    // keep the map reachable until it has been measured
+    assertTrue(map.getLayers().size() > 0);
+    return Math.max(1, after - before);
+  }
+
+  /** The map the forest game area creates: terrain, then fog over the water and air thirds. */
+  private static TiledMap createMap() {
+    TiledMap map = new TiledMap();
+    for (int i = 0; i < 3; i++) {
+      map.getLayers().add(new TiledMapTileLayer(
+          ForestGameArea.MAP_SIZE.x, ForestGameArea.MAP_SIZE.y, 1000, 1000));
+    }
+    return map;
+  }
+
+  /** Commit a chunk the way chunks were committed before cells were shared. */
+  private static void commitLegacy(TerrainChunk chunk, TiledMap map,
+      TerrainResource terrainResource) {
+    MapType area = areaOf(chunk.getPosition());
+    byte[] tiles = chunk.compactTiles();
+    int cPosX = chunk.getPosition().x * TerrainChunk.CHUNK_SIZE;
+    int cPosY = chunk.getPosition().y * TerrainChunk.CHUNK_SIZE;
+    Map<String, Integer> tileTypeCount = new HashMap<>();
+    for (int i = 0; i < tiles.length; i++) {
+      int x = cPosX + i % TerrainChunk.CHUNK_SIZE;
+      int y = cPosY + i / TerrainChunk.CHUNK_SIZE;
+      Tile tile = terrainResource.getMapTilebyIndex(tiles[i] & 0xFF, area);
+      ((TiledMapTileLayer) map.getLayers().get(0)).setCell(x, y, new LegacyCell(tile));
+      if (area == MapType.WATER) {
+        ((TiledMapTileLayer) map.getLayers().get(1)).setCell(x, y,
+            new LegacyCell(terrainResource.getMapTilebyIndex(0, MapType.FOG)));
+      } else if (area == MapType.AIR) {
+        ((TiledMapTileLayer) map.getLayers().get(2)).setCell(x, y,
+            new LegacyCell(terrainResource.getMapTilebyIndex(0, MapType.FOG)));
+      }
+      tileTypeCount.merge(tile.getCentre(), 1, Integer::sum);
+    }
+  }
+
+  private static MapType areaOf(GridPoint2 chunkPos) {
+    int areaHeight = (ForestGameArea.MAP_SIZE.y / TerrainChunk.CHUNK_SIZE) / 3;
+    if (chunkPos.y < areaHeight) {
+      return MapType.FOREST;
+    }
+    return chunkPos.y < areaHeight * 2 ? MapType.WATER : MapType.AIR;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /** The per-cell layout terrain cells used to have: a cell, a tile and four neighbour sets. */
+  private static class LegacyCell extends Cell {
+    private BitSet possibleUp = new BitSet();
+    private BitSet possibleDown = new BitSet();
+    private BitSet possibleLeft = new BitSet();
+    private BitSet possibleRight = new BitSet();
+
+    LegacyCell(Tile tile) {
+      setTile(new TerrainTile(tile.getTexture()));
+      possibleUp = tile.getUp();
+      possibleDown = tile.getDown();
+      possibleLeft = tile.getLeft();
+      possibleRight = tile.getRight();
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package com.csse3200.game.areas.terrain;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.csse3200.game.areas.MapHandler.MapType;
+import com.csse3200.game.areas.terrain.tiles.ForestTileConfig;
+import com.csse3200.game.areas.terrain.tiles.Tile;
+import com.csse3200.game.areas.terrain.tiles.TileConfig;
+import com.csse3200.game.extensions.GameExtension;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class WaveFunctionSolverTest {
+  private static final int SIZE = WaveFunctionSolver.CHUNK_SIZE;
+
+  private List<Tile> tiles;
+  private TileRules rules;
+
+  @BeforeEach
+  void beforeEach() {
+    tiles = createForestTiles();
+    rules = new TileRules(tiles);
+  }
+
+  @Test
+  void shouldPackRules() {
+    assertEquals(tiles.size(), rules.getTileCount());
+    assertEquals(1, rules.getWords());
+    for (int i = 0; i < tiles.size(); i++) {
+      assertEquals(tiles.get(i).getUp(), BitSet.valueOf(new long[] {rules.getUp()[i]}));
+      assertEquals(tiles.get(i).getLeft(), BitSet.valueOf(new long[] {rules.getLeft()[i]}));
+    }
+  }
+
+  @Test
+  void shouldMatchOriginalImplementation() {
+    WaveFunctionSolver solver = new WaveFunctionSolver();
+    for (long seed = 0; seed < 20; seed++) {
+      solver.reset(rules);
+      solver.solve(new RandomXS128(seed));
+
+      int[] expected = referenceSolve(new RandomXS128(seed), null);
+      assertArrayEquals(expected, solved(solver), "seed " + seed);
+    }
+  }
+
+  @Test
+  void shouldMatchOriginalImplementationWithBorder() {
+    WaveFunctionSolver solver = new WaveFunctionSolver();
+    BitSet border = tiles.get(0).getUp();
+    for (long seed = 0; seed < 20; seed++) {
+      solver.reset(rules);
+      for (int x = 0; x < SIZE; x++) {
+        solver.constrain(x, border);
+      }
+      solver.solve(new RandomXS128(seed));
+
+      int[] expected = referenceSolve(new RandomXS128(seed), border);
+      assertArrayEquals(expected, solved(solver), "seed " + seed);
+    }
+  }
+
+  @Test
+  void shouldOnlyPlaceMatchingNeighbours() {
+    WaveFunctionSolver solver = new WaveFunctionSolver();
+    solver.reset(rules);
+    solver.solve(new RandomXS128(42));
+
+    for (int cell = 0; cell < WaveFunctionSolver.CELLS; cell++) {
+      int tile = solver.getTile(cell);
+      int right = cell % SIZE + 1 < SIZE ? solver.getTile(cell + 1) : -1;
+      int up = cell / SIZE + 1 < SIZE ? solver.getTile(cell + SIZE) : -1;
+      if (tile >= 0 && right >= 0) {
+        assertTrue(tiles.get(tile).getRight().get(right));
+      }
+      if (tile >= 0 && up >= 0) {
+        assertTrue(tiles.get(tile).getUp().get(up));
+      }
+    }
+  }
+
+  private static int[] solved(WaveFunctionSolver solver) {
+    int[] result = new int[WaveFunctionSolver.CELLS];
+    for (int cell = 0; cell < result.length; cell++) {
+      result[cell] = solver.getTile(cell);
+    }
+    return result;
+  }
+
+  static List<Tile> createForestTiles() {
+    List<Tile> forest = new ArrayList<>();
+    for (TileConfig config : ForestTileConfig.getForestMapTiles()) {
+      forest.add(new Tile(config.id, null, config.edges, config.centre));
+    }
+    TerrainResource resource = new TerrainResource(MapType.COMBAT);
+    for (Tile tile : forest) {
+      resource.setPossibleUp(tile, forest);
+      resource.setPossibleRight(tile, forest);
+      resource.setPossibleDown(tile, forest);
+      resource.setPossibleLeft(tile, forest);
+    }
+    return forest;
+  }
+
+  /**
+   * The BitSet-based solver TerrainChunk used before WaveFunctionSolver, kept here to check that
+   * the same seed still produces the same chunk.
+   */
+  private int[] referenceSolve(Random random, BitSet bottomBorder) {
+    int n = tiles.size();
+    List<BitSet> grid = new ArrayList<>();
+    int[] result = new int[WaveFunctionSolver.CELLS];
+    for (int i = 0; i < WaveFunctionSolver.CELLS; i++) {
+      BitSet bits = new BitSet(n);
+      bits.set(0, n, true);
+      if (bottomBorder != null && i < SIZE) {
+        bits.and(bottomBorder);
+      }
+      grid.add(bits);
+      result[i] = WaveFunctionSolver.UNCOLLAPSED;
+    }
+
+    for (int t = 0; t < WaveFunctionSolver.CELLS; t++) {
+      int minEntropy = Integer.MAX_VALUE;
+      for (BitSet bits : grid) {
+        int entropy = bits.cardinality();
+        if (entropy < minEntropy && entropy > 0) {
+          minEntropy = entropy;
+        }
+      }
+      List<Integer> candidates = new ArrayList<>();
+      for (int i = 0; i < grid.size(); i++) {
+        if (grid.get(i).cardinality() == minEntropy) {
+          candidates.add(i);
+        }
+      }
+      if (candidates.isEmpty()) {
+        break;
+      }
+
+      int cell = candidates.get(random.nextInt(candidates.size()));
+      BitSet bits = grid.get(cell);
+      int pick = (int) (random.nextFloat() * bits.cardinality());
+      int tile = bits.nextSetBit(0);
+      for (int i = 0; i < pick; i++) {
+        tile = bits.nextSetBit(tile + 1);
+      }
+      bits.clear();
+      result[cell] = tile;
+
+      for (int i = 0; i < grid.size(); i++) {
+        if (result[i] != WaveFunctionSolver.UNCOLLAPSED) {
+          continue;
+        }
+        int x = i % SIZE;
+        int y = i / SIZE;
+        if (y + 1 < SIZE && result[i + SIZE] >= 0) {
+          grid.get(i).and(tiles.get(result[i + SIZE]).getDown());
+        }
+        if (y > 0 && result[i - SIZE] >= 0) {
+          grid.get(i).and(tiles.get(result[i - SIZE]).getUp());
+        }
+        if (x > 0 && result[i - 1] >= 0) {
+          grid.get(i).and(tiles.get(result[i - 1]).getRight());
+        }
+        if (x + 1 < SIZE && result[i + 1] >= 0) {
+          grid.get(i).and(tiles.get(result[i + 1]).getLeft());
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -5,6 +5,7 @@ import com.badlogic.gdx.Graphics;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.AssetBundle;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.GameTime;
@@ -472,5 +473,23 @@ class LoadingDisplayTest {
         assertNotEquals(firstMessage, secondMessage, "Loading display should cycle to a different message even when no resources are loaded");
     }
 
-}
+    @Test
+    void shouldShowBundleProgress() {
+        AssetBundle bundle = new AssetBundle("test");
+        loadingDisplay = new LoadingDisplay(bundle);
+        loadingDisplay.create();
+        when(Gdx.graphics.getDeltaTime()).thenReturn(3f);
+        when(resourceService.getProgress(bundle)).thenReturn(0.25f);
+        when(resourceService.isLoaded(bundle, false)).thenReturn(false);
+
+        loadingDisplay.update();
+        assertEquals(0.25f, loadingDisplay.getMoonActor().getProgress(), 0.01f);
+        assertFalse(loadingDisplay.isLoadingFinished(), "Loading should wait for the bundle");
 
+        when(resourceService.getProgress(bundle)).thenReturn(1f);
+        when(resourceService.isLoaded(bundle, false)).thenReturn(true);
+        loadingDisplay.update();
+        assertEquals(1f, loadingDisplay.getMoonActor().getProgress(), 0.01f);
+        assertTrue(loadingDisplay.isLoadingFinished(), "Loading should finish once the bundle has loaded");
+    }
+}
@@ -0,0 +1,93 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.extensions.GameExtension;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the bytes allocated per frame by the per-entity position work each frame does with a
+ * thousand entities on screen: syncing each entity to its physics body, sorting by depth and
+ * reading the position and scale to draw. Compares the copying accessors against the
+ * allocation-free ones.
+ * Run with {@code ./gradlew :core:benchmark}.
+ */
+@ExtendWith(GameExtension.class)
+class EntityAllocationBenchmark {
+  private static final Logger logger = LoggerFactory.getLogger(EntityAllocationBenchmark.class);
+  private static final int ENTITIES = 1_000;
+  private static final int FRAMES = 200;
+
+  private static final Comparator<Entity> COPYING_DEPTH =
+      (a, b) -> Float.compare(-a.getPosition().y, -b.getPosition().y);
+  private static final Comparator<Entity> DIRECT_DEPTH =
+      (a, b) -> Float.compare(-a.getPositionY(), -b.getPositionY());
+
+  private float checksum = 0;
+
+  @Test
+  void allocationPerFrame() {
+    RandomXS128 random = new RandomXS128(1);
+    Array<Entity> entities = new Array<>(ENTITIES);
+    Vector2[] bodies = new Vector2[ENTITIES];
+    for (int i = 0; i < ENTITIES; i++) {
+      entities.add(new Entity());
+      bodies[i] = new Vector2(random.nextFloat() * 100f, random.nextFloat() * 100f);
+    }
+
+    long copying = 0;
+    long direct = 0;
+    for (int round = 0; round < 2; round++) {
+      // the first round warms up
+      copying = allocatedPerFrame(() -> copyingFrame(entities, bodies));
+      direct = allocatedPerFrame(() -> directFrame(entities, bodies));
+    }
+
+    logger.info("{} entities: copying accessors {} bytes/frame, allocation-free accessors {} "
+        + "bytes/frame (checksum {})", ENTITIES, copying, direct, checksum);
+    assertTrue(direct <= copying);
+  }
+
+  private void copyingFrame(Array<Entity> entities, Vector2[] bodies) {
+    for (int i = 0; i < entities.size; i++) {
+      entities.get(i).setPosition(bodies[i].cpy(), false);
+    }
+    entities.sort(COPYING_DEPTH);
+    for (Entity entity : entities) {
+      Vector2 position = entity.getPosition();
+      Vector2 scale = entity.getScale();
+      checksum += position.x + position.y + scale.x + scale.y;
+    }
+  }
+
+  private void directFrame(Array<Entity> entities, Vector2[] bodies) {
+    for (int i = 0; i < entities.size; i++) {
+      entities.get(i).setPosition(bodies[i], false);
+    }
+    entities.sort(DIRECT_DEPTH);
+    for (int i = 0; i < entities.size; i++) {
+      Entity entity = entities.get(i);
+      checksum += entity.getPositionX() + entity.getPositionY()
+          + entity.getScaleX() + entity.getScaleY();
+    }
+  }
+
+  private static long allocatedPerFrame(Runnable frame) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long thread = Thread.currentThread().getId();
+    long before = threads.getThreadAllocatedBytes(thread);
+    for (int i = 0; i < FRAMES; i++) {
+      frame.run();
+    }
+    return (threads.getThreadAllocatedBytes(thread) - before) / FRAMES;
+  }
+}
@@ -1,18 +1,35 @@
 package com.csse3200.game.entities;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.Component;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 @ExtendWith(GameExtension.class)
 class EntityServiceTest {
+  @BeforeEach
+  void beforeEach() {
+    ServiceLocator.registerPhysicsService(new PhysicsService());
+  }
+
   @Test
   void shouldCreateEntity() {
     EntityService entityService = new EntityService();
@@ -69,4 +86,213 @@ class EntityServiceTest {
     entityService.wakeWholeScreen();
     assertTrue(entity.isEnabled());
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldGetOldestEntityWithComponent() {
+    EntityService entityService = new EntityService();
+    Entity first = new Entity().addComponent(new TestComponent());
+    Entity second = new Entity().addComponent(new TestComponent());
+    entityService.register(new Entity());
+    entityService.register(first);
+    entityService.register(second);
+
+    assertSame(first, entityService.getEntity(TestComponent.class));
+    assertSame(first.getComponent(TestComponent.class),
+        entityService.getSpecificComponent(TestComponent.class));
+
+    entityService.unregister(first);
+    assertSame(second, entityService.getEntity(TestComponent.class));
+    entityService.unregister(second);
+    assertNull(entityService.getEntity(TestComponent.class));
+    assertNull(entityService.getSpecificComponent(TestComponent.class));
+  }
+
+  @Test
+  void shouldGetAllEntitiesWithComponent() {
+    EntityService entityService = new EntityService();
+    Entity first = new Entity().addComponent(new TestComponent());
+    Entity second = new Entity().addComponent(new TestComponent());
+    entityService.register(first);
+    entityService.register(new Entity());
+    entityService.register(second);
+
+    assertEquals(2, entityService.getEntitiesWith(TestComponent.class).size);
+    assertSame(first, entityService.getEntitiesWith(TestComponent.class).get(0));
+    assertSame(second, entityService.getEntitiesWith(TestComponent.class).get(1));
+  }
+
+  @Test
+  void shouldKeepEntitiesWithComponentInOrderAfterRemoval() {
+    EntityService entityService = new EntityService();
+    Entity[] entities = new Entity[10];
+    for (int i = 0; i < entities.length; i++) {
+      entities[i] = new Entity().addComponent(new TestComponent());
+      entityService.register(entities[i]);
+    }
+
+    entityService.unregister(entities[0]);
+    entityService.unregister(entities[4]);
+    entityService.unregister(entities[5]);
+    assertSame(entities[1], entityService.getEntity(TestComponent.class));
+    Array<Entity> withComponent = entityService.getEntitiesWith(TestComponent.class);
+    assertEquals(7, withComponent.size);
+    assertSame(entities[3], withComponent.get(2));
+    assertSame(entities[6], withComponent.get(3));
+
+    // Removing most of them at once closes up the gaps as it goes
+    for (int i = 6; i < entities.length; i++) {
+      entityService.unregister(entities[i]);
+    }
+    withComponent = entityService.getEntitiesWith(TestComponent.class);
+    assertEquals(3, withComponent.size);
+    assertSame(entities[3], withComponent.peek());
+  }
+
+  @Test
+  void shouldDeferRemovalDuringUpdate() {
+    EntityService entityService = new EntityService();
+    Entity victim = spy(Entity.class);
+    Entity remover = new Entity().addComponent(new CallbackComponent(() -> entityService.unregister(victim)));
+    entityService.register(remover);
+    entityService.register(victim);
+    Entity other = spy(Entity.class);
+    entityService.register(other);
+
+    entityService.update();
+
+    verify(victim, times(0)).update();
+    verify(other).update();
+    assertEquals(2, entityService.getEntityCount());
+    entityService.update();
+    verify(other, times(2)).update();
+  }
+
+  @Test
+  void shouldDeferRegistrationDuringUpdate() {
+    EntityService entityService = new EntityService();
+    Entity spawned = spy(Entity.class);
+    boolean[] hasSpawned = {false};
+    Entity spawner = new Entity().addComponent(new CallbackComponent(() -> {
+      if (!hasSpawned[0]) {
+        hasSpawned[0] = true;
+        entityService.register(spawned);
+      }
+    }));
+    entityService.register(spawner);
+
+    entityService.update();
+    verify(spawned).create();
+    verify(spawned, times(0)).update();
+    assertEquals(2, entityService.getEntityCount());
+
+    entityService.update();
+    verify(spawned).update();
+  }
+
+  @Test
+  void shouldApplyBatchInOrder() {
+    EntityService entityService = new EntityService();
+    Entity entity = spy(Entity.class);
+    entityService.beginBatch();
+    entityService.register(entity);
+    entityService.unregister(entity);
+    assertEquals(0, entityService.getEntityCount());
+    entityService.endBatch();
+
+    assertEquals(0, entityService.getEntityCount());
+    entityService.update();
+    verify(entity, times(0)).update();
+  }
+
+  @Test
+  void shouldSleepEntitiesOutsideActiveChunks() {
+    EntityService entityService = new EntityService();
+    Entity near = spawnPhysicsEntity(entityService, 1, 1);
+    Entity far = spawnPhysicsEntity(entityService, 100, 100);
+    Entity player = spawnPhysicsEntity(entityService, 100, 100);
+    player.setIsPlayer(true);
+    Entity ui = spy(Entity.class);
+    entityService.register(ui);
+    Set<GridPoint2> active = new HashSet<>();
+    active.add(new GridPoint2(0, 0));
+
+    entityService.setActiveChunks(active);
+    entityService.update();
+
+    assertEquals(3, entityService.getAwakeCount());
+    assertEquals(1, entityService.getSleepingCount());
+    verify(near).update();
+    verify(player).update();
+    verify(ui).update();
+    verify(far, times(0)).update();
+  }
+
+  @Test
+  void shouldWakeEntitiesWhenChunkBecomesActive() {
+    EntityService entityService = new EntityService();
+    Entity far = spawnPhysicsEntity(entityService, 100, 100);
+    Set<GridPoint2> active = new HashSet<>();
+    active.add(new GridPoint2(0, 0));
+    entityService.setActiveChunks(active);
+    entityService.update();
+    verify(far, times(0)).update();
+
+    // changed in place, like the terrain's active chunks
+    active.add(new GridPoint2(6, 6));
+    entityService.update();
+    entityService.update();
+    verify(far).update();
+    assertEquals(1, entityService.getAwakeCount());
+  }
+
+  @Test
+  void shouldSleepEntitiesMovingOutOfActiveChunks() {
+    EntityService entityService = new EntityService();
+    Entity entity = spawnPhysicsEntity(entityService, 1, 1);
+    Set<GridPoint2> active = new HashSet<>();
+    active.add(new GridPoint2(0, 0));
+    entityService.setActiveChunks(active);
+
+    entity.setPosition(100, 100);
+    entityService.update();
+    entityService.update();
+
+    verify(entity, times(1)).update();
+    assertEquals(0, entityService.getAwakeCount());
+  }
+
+  @Test
+  void shouldTickSleepingEntitiesAtReducedRate() {
+    EntityService entityService = new EntityService();
+    Entity far = spawnPhysicsEntity(entityService, 100, 100);
+    entityService.setActiveChunks(new HashSet<>());
+    entityService.setSleepTickInterval(4);
+
+    for (int i = 0; i < 8; i++) {
+      entityService.update();
+    }
+    verify(far, times(2)).update();
+  }
+
+  private static Entity spawnPhysicsEntity(EntityService entityService, float x, float y) {
+    Entity entity = spy(new Entity().addComponent(new PhysicsComponent()));
+    entity.setPosition(x, y);
+    entityService.register(entity);
+    return entity;
+  }
+
+  static class TestComponent extends Component {}
+
+  static class CallbackComponent extends Component {
+    private final Runnable callback;
+
+    CallbackComponent(Runnable callback) {
+      this.callback = callback;
+    }
+
+    @Override
+    public void update() {
+      callback.run();
+    }
+  }
+}
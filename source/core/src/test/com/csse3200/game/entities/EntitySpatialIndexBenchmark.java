@@ -0,0 +1,84 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.forest.ForestGameArea;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the cost of a radius query through the spatial index against scanning every entity, as
+ * the number of entities spread over the overworld grows.
+ * Run with {@code ./gradlew :core:benchmark}.
+ */
+@ExtendWith(GameExtension.class)
+class EntitySpatialIndexBenchmark {
+  private static final Logger logger = LoggerFactory.getLogger(EntitySpatialIndexBenchmark.class);
+  private static final int[] ENTITY_COUNTS = {100, 1_000, 10_000};
+  private static final int QUERIES = 20_000;
+  private static final float RADIUS = 5f;
+
+  @Test
+  void queryCost() {
+    for (int count : ENTITY_COUNTS) {
+      RandomXS128 random = new RandomXS128(count);
+      EntityService entityService = new EntityService();
+      Array<Entity> all = new Array<>(count);
+      for (int i = 0; i < count; i++) {
+        Entity entity = new Entity();
+        entityService.register(entity);
+        entity.setPosition(random.nextFloat() * ForestGameArea.MAP_SIZE.x,
+            random.nextFloat() * ForestGameArea.MAP_SIZE.y);
+        all.add(entity);
+      }
+
+      Vector2[] centres = new Vector2[QUERIES];
+      for (int i = 0; i < QUERIES; i++) {
+        centres[i] = new Vector2(random.nextFloat() * ForestGameArea.MAP_SIZE.x,
+            random.nextFloat() * ForestGameArea.MAP_SIZE.y);
+      }
+
+      Array<Entity> found = new Array<>();
+      long indexedFound = 0;
+      long scannedFound = 0;
+      for (int round = 0; round < 2; round++) {
+        // the first round warms up
+        indexedFound = 0;
+        scannedFound = 0;
+        long start = System.nanoTime();
+        for (Vector2 centre : centres) {
+          indexedFound += entityService.getEntitiesInRadius(centre, RADIUS, null, found);
+        }
+        long indexedNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (Vector2 centre : centres) {
+          scannedFound += scan(all, centre, found);
+        }
+        long scannedNanos = System.nanoTime() - start;
+
+        if (round == 1) {
+          logger.info("{} entities: indexed {} ns/query, linear scan {} ns/query",
+              count, indexedNanos / QUERIES, scannedNanos / QUERIES);
+        }
+      }
+      assertEquals(scannedFound, indexedFound);
+    }
+  }
+
+  private static int scan(Array<Entity> all, Vector2 centre, Array<Entity> out) {
+    out.clear();
+    for (int i = 0; i < all.size; i++) {
+      if (all.get(i).peekPosition().dst2(centre) <= RADIUS * RADIUS) {
+        out.add(all.get(i));
+      }
+    }
+    return out.size;
+  }
+}
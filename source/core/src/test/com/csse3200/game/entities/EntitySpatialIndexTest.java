@@ -0,0 +1,100 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class EntitySpatialIndexTest {
+  private EntityService entityService;
+  private final Array<Entity> found = new Array<>();
+
+  @BeforeEach
+  void beforeEach() {
+    entityService = new EntityService();
+  }
+
+  @Test
+  void shouldFindEntitiesInRadius() {
+    Entity near = spawn(5, 5);
+    Entity acrossChunk = spawn(17, 5);
+    spawn(40, 40);
+
+    assertEquals(2, entityService.getEntitiesInRadius(new Vector2(10, 5), 7.5f, null, found));
+    assertTrue(found.contains(near, true));
+    assertTrue(found.contains(acrossChunk, true));
+  }
+
+  @Test
+  void shouldFindEntitiesInArea() {
+    Entity inside = spawn(-3, 2);
+    spawn(3, 2);
+
+    assertEquals(1, entityService.getEntitiesInArea(new Rectangle(-5, 0, 4, 4), null, found));
+    assertTrue(found.contains(inside, true));
+  }
+
+  @Test
+  void shouldFilterByComponent() {
+    Entity withComponent = new Entity().addComponent(new TestComponent());
+    withComponent.setPosition(1, 1);
+    entityService.register(withComponent);
+    spawn(1, 2);
+
+    assertEquals(1, entityService.getEntitiesInRadius(new Vector2(1, 1), 2f, TestComponent.class, found));
+    assertTrue(found.contains(withComponent, true));
+  }
+
+  @Test
+  void shouldTrackMovingEntities() {
+    Entity entity = spawn(1, 1);
+    entity.setPosition(new Vector2(50, 50));
+
+    assertEquals(0, entityService.getEntitiesInRadius(new Vector2(1, 1), 2f, null, found));
+    assertEquals(1, entityService.getEntitiesInRadius(new Vector2(50, 50), 2f, null, found));
+  }
+
+  @Test
+  void shouldForgetUnregisteredEntities() {
+    Entity entity = spawn(1, 1);
+    entityService.unregister(entity);
+    entity.setPosition(2, 2);
+
+    assertEquals(0, entityService.getEntitiesInRadius(new Vector2(1, 1), 5f, null, found));
+    assertEquals(0, entityService.getSpatialIndex().size());
+    assertFalse(found.contains(entity, true));
+  }
+
+  @Test
+  void shouldKeepOtherEntitiesInCellWhenRemoving() {
+    Entity first = spawn(1, 1);
+    Entity second = spawn(2, 2);
+    Entity third = spawn(3, 3);
+    entityService.unregister(first);
+    second.setPosition(50, 50);
+
+    assertEquals(1, entityService.getEntitiesInRadius(new Vector2(2, 2), 5f, null, found));
+    assertTrue(found.contains(third, true));
+    entityService.unregister(third);
+    assertEquals(0, entityService.getEntitiesInRadius(new Vector2(2, 2), 5f, null, found));
+    assertEquals(1, entityService.getSpatialIndex().size());
+  }
+
+  private Entity spawn(float x, float y) {
+    Entity entity = new Entity();
+    entityService.register(entity);
+    entity.setPosition(x, y);
+    return entity;
+  }
+
+  static class TestComponent extends Component {}
+}
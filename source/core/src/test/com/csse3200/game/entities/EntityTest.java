@@ -28,6 +28,21 @@ class EntityTest {
     assertEquals(Vector2.Zero, entity.getPosition());
   }
 
+  @Test
+  void shouldGetPositionWithoutAliasing() {
+    Entity entity = new Entity();
+    Vector2 pos = new Vector2(5f, -5f);
+    entity.setPosition(pos, false);
+    pos.set(1f, 1f);
+
+    assertEquals(5f, entity.getPositionX());
+    assertEquals(-5f, entity.getPositionY());
+    Vector2 out = new Vector2();
+    assertEquals(new Vector2(5f, -5f), entity.getPosition(out));
+    entity.setScale(2f, 4f);
+    assertEquals(new Vector2(6f, -3f), entity.getCenterPosition(out));
+  }
+
   @Test
   void shouldSetAndGetScale() {
     Entity entity = new Entity();
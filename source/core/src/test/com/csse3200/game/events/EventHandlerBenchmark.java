@@ -0,0 +1,97 @@
+package com.csse3200.game.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.events.listeners.EventListener;
+import com.csse3200.game.events.listeners.EventListener2;
+import com.csse3200.game.extensions.GameExtension;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares triggers per second of a two argument event, like "collisionStart", through the old
+ * name lookup and lambda dispatch, the name API and the event id API.
+ * Run with {@code ./gradlew :core:benchmark}.
+ */
+@ExtendWith(GameExtension.class)
+class EventHandlerBenchmark {
+  private static final Logger logger = LoggerFactory.getLogger(EventHandlerBenchmark.class);
+  private static final int TRIGGERS = 5_000_000;
+  private static final String EVENT = "collisionStart";
+
+  private int handled = 0;
+
+  @Test
+  void triggersPerSecond() {
+    EventListener2<Object, Object> listener = (a, b) -> handled++;
+    LegacyEventHandler legacy = new LegacyEventHandler();
+    legacy.addListener(EVENT, listener);
+    EventHandler handler = new EventHandler();
+    handler.addListener(EVENT, listener);
+    int id = EventHandler.getEventId(EVENT);
+    Object arg0 = new Object();
+    Object arg1 = new Object();
+
+    for (int round = 0; round < 2; round++) {
+      // the first round warms up
+      handled = 0;
+      long start = System.nanoTime();
+      for (int i = 0; i < TRIGGERS; i++) {
+        legacy.trigger(EVENT, arg0, arg1);
+      }
+      long legacyNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (int i = 0; i < TRIGGERS; i++) {
+        handler.trigger(EVENT, arg0, arg1);
+      }
+      long nameNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (int i = 0; i < TRIGGERS; i++) {
+        handler.trigger(id, arg0, arg1);
+      }
+      long idNanos = System.nanoTime() - start;
+
+      assertEquals(3 * TRIGGERS, handled);
+      if (round == 1) {
+        logger.info("Triggers/s: before {}, by name {}, by id {}",
+            perSecond(legacyNanos), perSecond(nameNanos), perSecond(idNanos));
+      }
+    }
+  }
+
+  private static String perSecond(long nanos) {
+    return String.format("%.0f", TRIGGERS / (nanos / 1e9));
+  }
+
+  /** How events used to be dispatched: a name lookup and a capturing lambda per trigger. */
+  private static class LegacyEventHandler {
+    private static final Logger legacyLogger = LoggerFactory.getLogger(LegacyEventHandler.class);
+    private final Map<String, Array<EventListener>> listeners = HashMap.newHashMap(0);
+
+    void addListener(String eventName, EventListener listener) {
+      listeners.computeIfAbsent(eventName, name -> new Array<>(1)).add(listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
+      legacyLogger.debug("Triggering event {}", eventName);
+      forEachListener(eventName,
+          (EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+    }
+
+    private void forEachListener(String eventName, Consumer<EventListener> func) {
+      Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+      if (eventListeners != null) {
+        eventListeners.forEach(func);
+      }
+    }
+  }
+}
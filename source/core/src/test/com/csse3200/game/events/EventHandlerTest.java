@@ -9,7 +9,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -92,4 +98,49 @@ class EventHandlerTest {
       handler.trigger("stringEvent", true);
     });
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldShareIdsBetweenHandlers() {
+    int id = EventHandler.getEventId("event");
+    assertEquals(id, EventHandler.getEventId("event"));
+    assertTrue(id != EventHandler.getEventId("event2"));
+    assertEquals("event", EventHandler.getEventName(id));
+  }
+
+  @Test
+  void shouldMixNamesAndIds() {
+    int id = EventHandler.getEventId("event");
+    EventListener1<String> byName = (EventListener1<String>) mock(EventListener1.class);
+    EventListener1<String> byId = (EventListener1<String>) mock(EventListener1.class);
+    handler.addListener("event", byName);
+    handler.addListener(id, byId);
+
+    handler.trigger(id, "argument");
+    handler.trigger("event", "again");
+
+    verify(byName).handle("argument");
+    verify(byName).handle("again");
+    verify(byId).handle("argument");
+    verify(byId).handle("again");
+    assertTrue(handler.hasListener("event"));
+    assertEquals("event", handler.getLastTriggeredEvent());
+  }
+
+  @Test
+  void shouldGiveSameIdsAcrossThreads() {
+    List<CompletableFuture<int[]>> jobs = IntStream.range(0, 8)
+        .mapToObj(thread -> CompletableFuture.supplyAsync(() -> IntStream.range(0, 100)
+            .map(i -> EventHandler.getEventId("concurrentEvent" + i))
+            .toArray()))
+        .toList();
+
+    int[] ids = jobs.get(0).join();
+    for (CompletableFuture<int[]> job : jobs) {
+      int[] threadIds = job.join();
+      for (int i = 0; i < ids.length; i++) {
+        assertEquals(ids[i], threadIds[i]);
+        assertEquals("concurrentEvent" + i, EventHandler.getEventName(threadIds[i]));
+      }
+    }
+  }
+}
@@ -6,6 +6,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.GL30;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
@@ -33,5 +34,7 @@ public class GameExtension implements AfterEachCallback, BeforeAllCallback {
   public void afterEach(ExtensionContext context) {
     // Clear the global state from the service locator
     ServiceLocator.clear();
+    // Resource services share one asset manager, so don't let assets carry over between tests
+    ResourceService.disposeShared();
   }
 }
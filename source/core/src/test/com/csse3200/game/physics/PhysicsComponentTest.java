@@ -63,4 +63,27 @@ class PhysicsComponentTest {
     entity.setPosition(newPos);
     verify(body).setTransform(eq(newPos), anyFloat());
   }
+
+  @Test
+  void shouldDrawBetweenPreviousAndCurrentPosition() {
+    Entity entity = new Entity();
+    PhysicsComponent component = new PhysicsComponent();
+    entity.addComponent(component);
+    entity.create();
+
+    when(body.getPosition()).thenReturn(new Vector2(0f, 0f), new Vector2(4f, 2f));
+    component.savePreviousPosition();
+    component.syncTransform();
+    component.interpolate(0.25f);
+
+    // A quarter of the way from the previous position to the current one
+    assertEquals(new Vector2(4f, 2f), entity.getPosition());
+    assertEquals(1f, entity.getRenderX(), 0.0001f);
+    assertEquals(0.5f, entity.getRenderY(), 0.0001f);
+
+    // Moving the entity directly isn't interpolated
+    entity.setPosition(-3f, 5f);
+    assertEquals(-3f, entity.getRenderX());
+    assertEquals(5f, entity.getRenderY());
+  }
 }
@@ -1,12 +1,15 @@
 package com.csse3200.game.physics;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.csse3200.game.entities.Entity;
@@ -82,6 +85,78 @@ class PhysicsContactListenerTest {
     verify(endCallback2).handle(fixture2, fixture1);
   }
 
+  @Test
+  void shouldDeferEventsUntilDispatched() {
+    Entity entity1 = createPhysicsEntity();
+    Entity entity2 = createPhysicsEntity();
+    Fixture fixture1 = entity1.getComponent(ColliderComponent.class).getFixture();
+    Fixture fixture2 = entity2.getComponent(ColliderComponent.class).getFixture();
+    EventListener2<Fixture, Fixture> callback = mock(EventListener2.class);
+    entity1.getEvents().addListener("collisionStart", callback);
+
+    PhysicsContactListener listener = new PhysicsContactListener();
+    listener.deferEvents();
+    listener.beginContact(createContact(fixture1, fixture2));
+    verifyNoInteractions(callback);
+    assertEquals(1, listener.getBufferedCount());
+
+    listener.dispatchEvents();
+    verify(callback).handle(fixture1, fixture2);
+    assertEquals(0, listener.getBufferedCount());
+  }
+
+  @Test
+  void shouldMergeRepeatedContactsOfPair() {
+    Entity entity1 = createPhysicsEntity();
+    Entity entity2 = createPhysicsEntity();
+    Fixture fixture1 = entity1.getComponent(ColliderComponent.class).getFixture();
+    Fixture fixture2 = entity2.getComponent(ColliderComponent.class).getFixture();
+    EventListener2<Fixture, Fixture> startCallback = mock(EventListener2.class);
+    EventListener2<Fixture, Fixture> endCallback = mock(EventListener2.class);
+    entity1.getEvents().addListener("collisionStart", startCallback);
+    entity1.getEvents().addListener("collisionEnd", endCallback);
+
+    // Start, end and start again over several steps, with the pair reported either way round
+    PhysicsContactListener listener = new PhysicsContactListener();
+    listener.deferEvents();
+    listener.beginContact(createContact(fixture1, fixture2));
+    listener.endContact(createContact(fixture2, fixture1));
+    listener.beginContact(createContact(fixture1, fixture2));
+    assertEquals(1, listener.getBufferedCount());
+    listener.dispatchEvents();
+
+    verify(startCallback).handle(fixture1, fixture2);
+    verify(endCallback, never()).handle(fixture1, fixture2);
+
+    // Start then end in one batch still reports both
+    listener.deferEvents();
+    listener.endContact(createContact(fixture1, fixture2));
+    listener.beginContact(createContact(fixture1, fixture2));
+    listener.dispatchEvents();
+    verify(endCallback).handle(fixture1, fixture2);
+  }
+
+  @Test
+  void shouldOnlyTriggerContactsInContactLayers() {
+    Entity entity1 = new Entity()
+        .addComponent(new PhysicsComponent().setContactLayers(PhysicsLayer.PLAYER))
+        .addComponent(new ColliderComponent());
+    entity1.create();
+    Entity entity2 = createPhysicsEntity();
+    Fixture fixture1 = entity1.getComponent(ColliderComponent.class).getFixture();
+    Fixture fixture2 = entity2.getComponent(ColliderComponent.class).getFixture();
+    EventListener2<Fixture, Fixture> callback1 = mock(EventListener2.class);
+    EventListener2<Fixture, Fixture> callback2 = mock(EventListener2.class);
+    entity1.getEvents().addListener("collisionStart", callback1);
+    entity2.getEvents().addListener("collisionStart", callback2);
+
+    ServiceLocator.getPhysicsService().getPhysics().update();
+
+    // entity2's collider is on the default layer, so only entity2 hears about it
+    verifyNoInteractions(callback1);
+    verify(callback2).handle(fixture2, fixture1);
+  }
+
   Entity createPhysicsEntity() {
     Entity entity =
         new Entity().addComponent(new PhysicsComponent()).addComponent(new ColliderComponent());
@@ -89,6 +164,13 @@ class PhysicsContactListenerTest {
     return entity;
   }
 
+  Contact createContact(Fixture fixtureA, Fixture fixtureB) {
+    Contact contact = mock(Contact.class);
+    when(contact.getFixtureA()).thenReturn(fixtureA);
+    when(contact.getFixtureB()).thenReturn(fixtureB);
+    return contact;
+  }
+
   Fixture createFixture(PhysicsEngine engine) {
     Body body = engine.createBody(new BodyDef());
     return body.createFixture(new FixtureDef());
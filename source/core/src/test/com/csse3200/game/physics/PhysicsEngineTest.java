@@ -1,18 +1,31 @@
 package com.csse3200.game.physics;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Joint;
 import com.badlogic.gdx.physics.box2d.JointDef;
 import com.badlogic.gdx.physics.box2d.World;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.HashSet;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -50,6 +63,94 @@ class PhysicsEngineTest {
     verify(world, times(3)).step(anyFloat(), anyInt(), anyInt());
   }
 
+  @Test
+  void shouldStepAtTickRate() {
+    when(gameTime.getDeltaTime()).thenReturn(0.02f);
+    PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+    engine.setTickRate(30f);
+    engine.setIterations(8, 3);
+
+    engine.update();
+    verify(world, times(0)).step(anyFloat(), anyInt(), anyInt());
+    engine.update();
+    verify(world, times(1)).step(eq(1f / 30f, 0.0001f), eq(8), eq(3));
+  }
+
+  @Test
+  void shouldCapStepsPerFrame() {
+    when(gameTime.getDeltaTime()).thenReturn(0.25f);
+    PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+    engine.setMaxStepsPerFrame(4);
+
+    engine.update();
+    verify(world, times(4)).step(anyFloat(), anyInt(), anyInt());
+    assertEquals(4, engine.getStepsLastFrame());
+    assertTrue(engine.getDroppedTime() > 0f);
+  }
+
+  @Test
+  void shouldInterpolateFromLastStep() {
+    when(gameTime.getDeltaTime()).thenReturn(0.04f);
+    PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+    engine.setInterpolating(true);
+    PhysicsComponent component = mock(PhysicsComponent.class);
+    Body body = mock(Body.class);
+    when(component.getBody()).thenReturn(body);
+    when(body.isAwake()).thenReturn(true);
+    engine.addSyncedComponent(component);
+
+    engine.update();
+
+    // 2 steps of 0.016s leaves 0.008s, half way to the next step
+    verify(world, times(2)).step(anyFloat(), anyInt(), anyInt());
+    verify(component, times(1)).savePreviousPosition();
+    verify(component).interpolate(eq(0.5f, 0.001f));
+  }
+
+  @Test
+  void shouldDeactivateBodiesOutsideActiveChunks() {
+    PhysicsEngine engine = new PhysicsEngine(new World(Vector2.Zero, true), gameTime);
+    ServiceLocator.registerPhysicsService(new PhysicsService(engine));
+    Body near = createPhysicsEntity(1f, 1f, 1f).getComponent(PhysicsComponent.class).getBody();
+    Body far = createPhysicsEntity(40f, 40f, 1f).getComponent(PhysicsComponent.class).getBody();
+    Body wall = createPhysicsEntity(40f, 40f, 100f).getComponent(PhysicsComponent.class).getBody();
+
+    Set<GridPoint2> activeChunks = new HashSet<>();
+    activeChunks.add(new GridPoint2(0, 0));
+    engine.setActiveChunks(activeChunks);
+    assertTrue(near.isActive());
+    assertFalse(far.isActive());
+    assertTrue(wall.isActive());
+    assertEquals(3, engine.getBodyCount());
+    assertEquals(2, engine.getActiveBodyCount());
+
+    // Reactivated once its chunk is active again
+    activeChunks.add(new GridPoint2(2, 2));
+    engine.update();
+    assertTrue(far.isActive());
+    assertEquals(3, engine.getActiveBodyCount());
+    engine.dispose();
+  }
+
+  @Test
+  void shouldReactivateBodyMovedIntoActiveChunk() {
+    PhysicsEngine engine = new PhysicsEngine(new World(Vector2.Zero, true), gameTime);
+    ServiceLocator.registerPhysicsService(new PhysicsService(engine));
+    Entity entity = createPhysicsEntity(40f, 40f, 1f);
+    Body body = entity.getComponent(PhysicsComponent.class).getBody();
+
+    Set<GridPoint2> activeChunks = new HashSet<>();
+    activeChunks.add(new GridPoint2(0, 0));
+    engine.setActiveChunks(activeChunks);
+    assertFalse(body.isActive());
+
+    // Moved without the active chunks changing
+    entity.setPosition(1f, 1f);
+    assertTrue(body.isActive());
+    assertEquals(1, engine.getActiveBodyCount());
+    engine.dispose();
+  }
+
   @Test
   void shouldCreateBody() {
     PhysicsEngine engine = new PhysicsEngine(world, gameTime);
@@ -78,4 +179,34 @@ class PhysicsEngineTest {
     engine.dispose();
     verify(world).dispose();
   }
+
+  @Test
+  void shouldSyncAwakeBodiesAfterStep() {
+    when(gameTime.getDeltaTime()).thenReturn(0.02f);
+    PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+    PhysicsComponent awake = mock(PhysicsComponent.class);
+    PhysicsComponent asleep = mock(PhysicsComponent.class);
+    Body awakeBody = mock(Body.class);
+    Body asleepBody = mock(Body.class);
+    when(awake.getBody()).thenReturn(awakeBody);
+    when(awakeBody.isAwake()).thenReturn(true);
+    when(asleep.getBody()).thenReturn(asleepBody);
+    when(asleepBody.isAwake()).thenReturn(false);
+    engine.addSyncedComponent(awake);
+    engine.addSyncedComponent(asleep);
+
+    engine.update();
+
+    verify(awake).setSyncedByEngine(true);
+    verify(awake).syncTransform();
+    verify(asleep, times(0)).syncTransform();
+  }
+
+  Entity createPhysicsEntity(float x, float y, float scale) {
+    Entity entity = new Entity().addComponent(new PhysicsComponent());
+    entity.setPosition(x, y);
+    entity.setScale(scale, scale);
+    entity.create();
+    return entity;
+  }
 }
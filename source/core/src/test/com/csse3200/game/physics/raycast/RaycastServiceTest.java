@@ -0,0 +1,118 @@
+package com.csse3200.game.physics.raycast;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsLayer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class RaycastServiceTest {
+  private World world;
+  private RaycastService raycasts;
+
+  @BeforeEach
+  void beforeEach() {
+    world = new World(Vector2.Zero, true);
+    raycasts = new RaycastService(world);
+    // Box from (4.5, -0.5) to (5.5, 0.5)
+    BodyDef bodyDef = new BodyDef();
+    bodyDef.position.set(5f, 0f);
+    Body body = world.createBody(bodyDef);
+    PolygonShape shape = new PolygonShape();
+    shape.setAsBox(0.5f, 0.5f);
+    body.createFixture(shape, 0f);
+    shape.dispose();
+  }
+
+  @AfterEach
+  void afterEach() {
+    world.dispose();
+  }
+
+  @Test
+  void shouldHitCollider() {
+    RaycastHit hit = new RaycastHit();
+    assertTrue(raycasts.raycast(new Vector2(0f, 0f), new Vector2(10f, 0f), PhysicsLayer.ALL, hit));
+    assertEquals(4.5f, hit.getPoint().x, 0.001f);
+    assertEquals(-1f, hit.getNormal().x, 0.001f);
+    assertFalse(raycasts.raycast(new Vector2(0f, 2f), new Vector2(10f, 2f), PhysicsLayer.ALL, hit));
+  }
+
+  @Test
+  void shouldCacheRepeatedRaysWithinFrame() {
+    RaycastHit hit = new RaycastHit();
+    raycasts.raycast(new Vector2(0f, 0f), new Vector2(10f, 0f), PhysicsLayer.ALL, hit);
+    RaycastHit cachedHit = new RaycastHit();
+    // Close enough to share a result
+    assertTrue(raycasts.raycast(
+        new Vector2(0.001f, 0f), new Vector2(10f, 0f), PhysicsLayer.ALL, cachedHit));
+    assertEquals(hit.getFixture(), cachedHit.getFixture());
+    assertEquals(hit.getPoint(), cachedHit.getPoint());
+    assertEquals(2, raycasts.getQueryCount());
+    assertEquals(1, raycasts.getCastCount());
+    assertEquals(0.5f, raycasts.getCacheHitRate(), 0.001f);
+
+    // A different layer mask is a different ray
+    assertFalse(raycasts.raycast(
+        new Vector2(0f, 0f), new Vector2(10f, 0f), PhysicsLayer.NPC, hit));
+    assertEquals(2, raycasts.getCastCount());
+
+    raycasts.newFrame();
+    raycasts.raycast(new Vector2(0f, 0f), new Vector2(10f, 0f), PhysicsLayer.ALL, hit);
+    assertEquals(3, raycasts.getCastCount());
+  }
+
+  @Test
+  void shouldForgetDestroyedFixtures() {
+    RaycastHit hit = new RaycastHit();
+    assertTrue(raycasts.raycast(new Vector2(0f, 0f), new Vector2(10f, 0f), PhysicsLayer.ALL, hit));
+    Body body = hit.getFixture().getBody();
+
+    raycasts.invalidate();
+    world.destroyBody(body);
+
+    assertFalse(raycasts.raycast(new Vector2(0f, 0f), new Vector2(10f, 0f), PhysicsLayer.ALL, hit));
+    assertEquals(2, raycasts.getCastCount());
+  }
+
+  @Test
+  void shouldKeepResultsWhenGrowing() {
+    RaycastHit hit = new RaycastHit();
+    for (int i = 0; i < 500; i++) {
+      raycasts.raycast(new Vector2(-i * 0.1f, 0f), new Vector2(10f, 0f), PhysicsLayer.ALL, hit);
+    }
+    for (int i = 0; i < 500; i++) {
+      assertTrue(raycasts.raycast(
+          new Vector2(-i * 0.1f, 0f), new Vector2(10f, 0f), PhysicsLayer.ALL, hit));
+    }
+    assertEquals(1000, raycasts.getQueryCount());
+    assertEquals(500, raycasts.getCastCount());
+  }
+
+  @Test
+  void shouldCastBatch() {
+    RaycastBatch batch = new RaycastBatch();
+    int blocked = batch.add(new Vector2(0f, 0f), new Vector2(10f, 0f), PhysicsLayer.ALL);
+    int clear = batch.add(new Vector2(0f, 2f), new Vector2(10f, 2f), PhysicsLayer.ALL);
+    raycasts.raycast(batch);
+
+    assertTrue(batch.didHit(blocked));
+    assertEquals(4.5f, batch.getHit(blocked).getPoint().x, 0.001f);
+    assertFalse(batch.didHit(clear));
+
+    // Hits are reused
+    RaycastHit first = batch.getHit(blocked);
+    batch.clear();
+    batch.add(new Vector2(0f, 0f), new Vector2(10f, 0f), PhysicsLayer.ALL);
+    assertSame(first, batch.getHit(0));
+  }
+}
@@ -0,0 +1,84 @@
+package com.csse3200.game.profiling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.profiling.FrameProfiler.Metric;
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class FrameProfilerTest {
+  @AfterEach
+  void afterEach() {
+    FrameProfiler.setEnabled(false);
+    FrameProfiler.setCapacity(FrameProfiler.DEFAULT_CAPACITY);
+  }
+
+  @Test
+  void shouldRecordNothingWhenDisabled() {
+    assertEquals(0L, FrameProfiler.start());
+    FrameProfiler.set(Metric.ENTITY_COUNT, 5);
+    FrameProfiler.endFrame();
+
+    assertEquals(0, FrameProfiler.getFrameCount());
+    assertEquals(0, FrameProfiler.getPercentile(Metric.ENTITY_COUNT, 0.5f));
+  }
+
+  @Test
+  void shouldGetPercentiles() {
+    FrameProfiler.setEnabled(true);
+    for (int i = 1; i <= 100; i++) {
+      FrameProfiler.set(Metric.ENTITY_COUNT, i);
+      FrameProfiler.endFrame();
+    }
+
+    assertEquals(100, FrameProfiler.getFrameCount());
+    assertEquals(50, FrameProfiler.getPercentile(Metric.ENTITY_COUNT, 0.5f));
+    assertEquals(95, FrameProfiler.getPercentile(Metric.ENTITY_COUNT, 0.95f));
+    assertEquals(99, FrameProfiler.getPercentile(Metric.ENTITY_COUNT, 0.99f));
+  }
+
+  @Test
+  void shouldKeepOnlyRecentFrames() {
+    FrameProfiler.setCapacity(10);
+    FrameProfiler.setEnabled(true);
+    for (int i = 1; i <= 30; i++) {
+      FrameProfiler.set(Metric.ENTITY_COUNT, i);
+      FrameProfiler.endFrame();
+    }
+
+    assertEquals(10, FrameProfiler.getFrameCount());
+    assertEquals(21, FrameProfiler.getPercentile(Metric.ENTITY_COUNT, 0f));
+    assertEquals(30, FrameProfiler.getPercentile(Metric.ENTITY_COUNT, 1f));
+  }
+
+  @Test
+  void shouldAddTimingsWithinFrame() {
+    FrameProfiler.setEnabled(true);
+    FrameProfiler.stop(Metric.PHYSICS, FrameProfiler.start() - 1000);
+    FrameProfiler.stop(Metric.PHYSICS, FrameProfiler.start() - 1000);
+    FrameProfiler.endFrame();
+
+    assertTrue(FrameProfiler.getPercentile(Metric.PHYSICS, 0.5f) >= 2000);
+    assertTrue(FrameProfiler.getPercentile(Metric.FRAME, 0.5f) > 0);
+  }
+
+  @Test
+  void shouldWriteCsv() throws IOException {
+    FrameProfiler.setEnabled(true);
+    FrameProfiler.set(Metric.DRAW_CALLS, 12);
+    FrameProfiler.endFrame();
+
+    StringWriter writer = new StringWriter();
+    FrameProfiler.writeCsv(writer);
+    String[] lines = writer.toString().split("\n");
+
+    assertEquals("metric,unit,frames,p50,p95,p99,max", lines[0]);
+    assertEquals(Metric.values().length + 1, lines.length);
+    assertTrue(writer.toString().contains("draw_calls,count,1,12,12,12,12"));
+  }
+}
@@ -1,5 +1,6 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
@@ -92,6 +93,33 @@ class AnimationRenderComponentTest {
     }
   }
 
+  @Test
+  void shouldDrawFlippedWithoutChangingSharedRegion() {
+    TextureAtlas atlas = createMockAtlas("test_name", 1);
+    AtlasRegion region = atlas.findRegions("test_name").get(0);
+    SpriteBatch batch = mock(SpriteBatch.class);
+
+    GameTime gameTime = mock(GameTime.class);
+    ServiceLocator.registerTimeSource(gameTime);
+
+    AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+    Entity entity = new Entity();
+    entity.setPosition(2f, 3f);
+    entity.setScale(1f, 2f);
+    animator.setEntity(entity);
+    animator.addAnimation("test_name", 1f);
+    animator.startAnimation("test_name");
+    animator.setFlipX(true);
+    animator.draw(batch);
+    verify(batch).draw(region, 3f, 3f, -1f, 2f);
+
+    animator.setFlipX(false);
+    animator.setFlipY(true);
+    animator.draw(batch);
+    verify(batch).draw(region, 2f, 5f, 1f, -2f);
+    verify(region, never()).flip(anyBoolean(), anyBoolean());
+  }
+
   @Test
   void shouldFinish() {
     TextureAtlas atlas = createMockAtlas("test_name", 1);
@@ -126,6 +154,26 @@ class AnimationRenderComponentTest {
     assertNull(animator.getCurrentAnimation());
   }
 
+  @Test
+  void shouldShareAnimationsBetweenComponents() {
+    TextureAtlas atlas = createMockAtlas("test_name", 3);
+    AnimationRenderComponent first = new AnimationRenderComponent(atlas);
+    AnimationRenderComponent second = new AnimationRenderComponent(atlas);
+    AnimationRenderComponent slower = new AnimationRenderComponent(atlas);
+
+    first.addAnimation("test_name", 0.1f, PlayMode.LOOP);
+    second.addAnimation("test_name", 0.1f, PlayMode.LOOP);
+    slower.addAnimation("test_name", 0.2f, PlayMode.LOOP);
+    first.startAnimation("test_name");
+    second.startAnimation("test_name");
+    slower.startAnimation("test_name");
+
+    assertSame(first.currentAnimation, second.currentAnimation);
+    assertNotSame(first.currentAnimation, slower.currentAnimation);
+    // looked up in the atlas once for each frame duration
+    verify(atlas, times(2)).findRegions("test_name");
+  }
+
   static TextureAtlas createMockAtlas(String animationName, int numRegions) {
     TextureAtlas atlas = mock(TextureAtlas.class);
     Array<AtlasRegion> regions = new Array<>(numRegions);
@@ -0,0 +1,114 @@
+package com.csse3200.game.rendering;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how many animated entities can be spawned per second, set up the way the enemy
+ * factories do, with animations shared through the animation cache compared to building each
+ * entity's animations from the atlas.
+ * Run with {@code ./gradlew :core:benchmark}.
+ */
+@ExtendWith(GameExtension.class)
+class AnimationSpawnBenchmark {
+  private static final Logger logger = LoggerFactory.getLogger(AnimationSpawnBenchmark.class);
+  private static final String[] ANIMATIONS = {"float", "spawn", "chase", "alert", "run"};
+  private static final int FRAMES_PER_ANIMATION = 8;
+  private static final int SPAWNS = 20_000;
+
+  @Test
+  void spawnRate() {
+    ServiceLocator.registerTimeSource(new GameTime());
+    TextureAtlas atlas = createAtlas();
+
+    long cachedNanos = 0;
+    long cachedBytes = 0;
+    long uncachedNanos = 0;
+    long uncachedBytes = 0;
+    for (int round = 0; round < 2; round++) {
+      // the first round warms up
+      long bytes = allocatedBytes();
+      long start = System.nanoTime();
+      for (int i = 0; i < SPAWNS; i++) {
+        spawnCached(atlas);
+      }
+      cachedNanos = System.nanoTime() - start;
+      cachedBytes = allocatedBytes() - bytes;
+
+      bytes = allocatedBytes();
+      start = System.nanoTime();
+      for (int i = 0; i < SPAWNS; i++) {
+        spawnUncached(atlas);
+      }
+      uncachedNanos = System.nanoTime() - start;
+      uncachedBytes = allocatedBytes() - bytes;
+    }
+
+    logger.info("{} spawns: shared animations {} spawns/s ({} bytes/spawn), "
+            + "per entity animations {} spawns/s ({} bytes/spawn)",
+        SPAWNS, spawnsPerSecond(cachedNanos), cachedBytes / SPAWNS,
+        spawnsPerSecond(uncachedNanos), uncachedBytes / SPAWNS);
+    assertTrue(AnimationRenderComponent.getAnimationCache().getHits() > 0);
+  }
+
+  private static Entity spawnCached(TextureAtlas atlas) {
+    AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+    for (String name : ANIMATIONS) {
+      animator.addAnimation(name, 0.1f, PlayMode.LOOP);
+    }
+    animator.startAnimation(ANIMATIONS[0]);
+    return new Entity().addComponent(animator);
+  }
+
+  /** How each entity's animations were built before they were shared */
+  private static Entity spawnUncached(TextureAtlas atlas) {
+    AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+    Array<Animation<TextureRegion>> animations = new Array<>(ANIMATIONS.length);
+    for (String name : ANIMATIONS) {
+      animations.add(new Animation<>(0.1f, atlas.findRegions(name), PlayMode.LOOP));
+    }
+    animator.currentAnimation = animations.first();
+    return new Entity().addComponent(animator);
+  }
+
+  private static TextureAtlas createAtlas() {
+    Texture texture = mock(Texture.class);
+    when(texture.getWidth()).thenReturn(1024);
+    when(texture.getHeight()).thenReturn(1024);
+    TextureAtlas atlas = new TextureAtlas();
+    for (int i = 0; i < ANIMATIONS.length; i++) {
+      for (int frame = 0; frame < FRAMES_PER_ANIMATION; frame++) {
+        AtlasRegion region = atlas.addRegion(ANIMATIONS[i], texture, frame * 64, i * 64, 64, 64);
+        region.index = frame;
+      }
+    }
+    return atlas;
+  }
+
+  private static long spawnsPerSecond(long nanos) {
+    return SPAWNS * 1_000_000_000L / Math.max(nanos, 1);
+  }
+
+  private static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+        .getCurrentThreadAllocatedBytes();
+  }
+}
@@ -3,7 +3,7 @@ package com.csse3200.game.rendering.Minigames;
 import static org.mockito.Mockito.*;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.minigames.MinigameRenderer;
@@ -24,9 +24,9 @@ class GridRendererTest {
     @Mock
     private SnakeGrid grid;
 
-    // mocks the Texture to actually avoid loading the assets
+    // mocks the texture region to actually avoid loading the assets
     @Mock
-    private Texture grassTexture;
+    private TextureRegion grassTexture;
 
     // mocks the Mini-game Renderer to get SpriteBatch and camera
     @Mock
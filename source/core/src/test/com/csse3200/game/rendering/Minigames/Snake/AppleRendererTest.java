@@ -4,7 +4,7 @@ import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.minigames.snake.Apple;
 import com.csse3200.game.minigames.snake.SnakeGrid;
 import com.csse3200.game.minigames.snake.rendering.AppleRenderer;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.minigames.MinigameRenderer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,7 +25,7 @@ class AppleRendererTest {
         // Mock dependencies for the AppleRenderer
         Apple apple = mock(Apple.class);
         SnakeGrid grid = mock(SnakeGrid.class);
-        Texture appleTexture = mock(Texture.class);
+        TextureRegion appleTexture = mock(TextureRegion.class);
         MinigameRenderer minigameRenderer = mock(MinigameRenderer.class);
 
         // Initialising the AppleRenderer with mocked dependencies
@@ -5,7 +5,7 @@ import com.csse3200.game.minigames.Direction;
 import com.csse3200.game.minigames.snake.Snake;
 import com.csse3200.game.minigames.snake.SnakeGrid;
 import com.csse3200.game.minigames.snake.rendering.SnakeRenderer;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.minigames.MinigameRenderer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,11 +28,11 @@ class SnakeRendererTest {
         // Mock dependencies for the SnakeRenderer
         Snake snake = mock(Snake.class);
         SnakeGrid grid = mock(SnakeGrid.class);
-        Texture snakeTexture = mock(Texture.class);
-        Texture snakeBodyHorizontalTexture = mock(Texture.class);
-        Texture snakeBodyVerticalTexture = mock(Texture.class);
-        Texture snakeBodyBentTexture = mock(Texture.class);
-        Texture snakeTailTexture = mock(Texture.class);
+        TextureRegion snakeTexture = mock(TextureRegion.class);
+        TextureRegion snakeBodyHorizontalTexture = mock(TextureRegion.class);
+        TextureRegion snakeBodyVerticalTexture = mock(TextureRegion.class);
+        TextureRegion snakeBodyBentTexture = mock(TextureRegion.class);
+        TextureRegion snakeTailTexture = mock(TextureRegion.class);
         MinigameRenderer minigameRenderer = mock(MinigameRenderer.class);
 
         // Initialising the SnakeRenderer with mocked dependencies
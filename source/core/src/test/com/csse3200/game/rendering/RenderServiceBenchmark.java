@@ -0,0 +1,109 @@
+package com.csse3200.game.rendering;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the per frame cost of ordering a layer in the render service against sorting it with
+ * {@link Array#sort()} every frame, for a scene where nothing moves, one where a few renderables
+ * move, and one where everything moves.
+ * Run with {@code ./gradlew :core:benchmark}.
+ */
+@ExtendWith(GameExtension.class)
+class RenderServiceBenchmark {
+  private static final Logger logger = LoggerFactory.getLogger(RenderServiceBenchmark.class);
+  private static final int[] RENDERABLE_COUNTS = {500, 1_000, 2_000, 5_000};
+  private static final int FRAMES = 500;
+  private static final float MAP_HEIGHT = 100f;
+
+  @Test
+  void sortCost() {
+    for (int count : RENDERABLE_COUNTS) {
+      run(count, "static", 0f);
+      run(count, "mostly static", 0.05f);
+      run(count, "all moving", 1f);
+    }
+  }
+
+  private static void run(int count, String scene, float movingFraction) {
+    RandomXS128 random = new RandomXS128(count);
+    Array<TestRenderable> legacy = new Array<>(count);
+    RenderService renderService = new RenderService();
+    TestRenderable[] all = new TestRenderable[count];
+    for (int i = 0; i < count; i++) {
+      all[i] = new TestRenderable(random.nextFloat() * MAP_HEIGHT);
+      renderService.register(all[i]);
+      legacy.add(all[i]);
+    }
+    int moving = (int) (count * movingFraction);
+
+    long serviceNanos = 0;
+    long legacyNanos = 0;
+    for (int round = 0; round < 2; round++) {
+      // the first round warms up
+      serviceNanos = 0;
+      legacyNanos = 0;
+      for (int frame = 0; frame < FRAMES; frame++) {
+        for (int i = 0; i < moving; i++) {
+          all[i].move(random.nextFloat() - 0.5f);
+        }
+
+        long start = System.nanoTime();
+        renderService.render(null);
+        serviceNanos += System.nanoTime() - start;
+
+        start = System.nanoTime();
+        legacy.sort();
+        for (TestRenderable renderable : legacy) {
+          renderable.render(null);
+        }
+        legacyNanos += System.nanoTime() - start;
+      }
+    }
+
+    logger.info("{} renderables, {}: cached keys {} ns/frame, Array.sort {} ns/frame",
+        count, scene, serviceNanos / FRAMES, legacyNanos / FRAMES);
+    assertEquals(all[0].rendered, all[count - 1].rendered);
+  }
+
+  private static class TestRenderable implements Renderable {
+    private float y;
+    private int rendered = 0;
+
+    TestRenderable(float y) {
+      this.y = y;
+    }
+
+    void move(float dy) {
+      y += dy;
+    }
+
+    @Override
+    public void render(SpriteBatch batch) {
+      rendered++;
+    }
+
+    @Override
+    public float getZIndex() {
+      return -y;
+    }
+
+    @Override
+    public int getLayer() {
+      return 1;
+    }
+
+    @Override
+    public int compareTo(Renderable o) {
+      return Float.compare(getZIndex(), o.getZIndex());
+    }
+  }
+}
@@ -1,13 +1,21 @@
 package com.csse3200.game.rendering;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
@@ -27,6 +35,22 @@ class RenderServiceTest {
     renderService.unregister(renderable);
   }
 
+  @Test
+  void shouldCountUnbatchedDrawCalls() {
+    RenderService renderService = new RenderService();
+    Renderable terrain = mock(Renderable.class);
+    when(terrain.getUnbatchedDrawCalls()).thenReturn(3);
+    Renderable other = mock(Renderable.class);
+    when(other.getUnbatchedDrawCalls()).thenReturn(2);
+    renderService.register(terrain);
+    renderService.register(other);
+
+    renderService.render(mock(SpriteBatch.class));
+    assertEquals(5, renderService.getUnbatchedDrawCalls());
+    renderService.render(mock(SpriteBatch.class));
+    assertEquals(5, renderService.getUnbatchedDrawCalls());
+  }
+
   @Test
   void shouldNotRenderAfterUnregister() {
     RenderService renderService = new RenderService();
@@ -45,11 +69,11 @@ class RenderServiceTest {
     RenderComponent renderable1 = mock(RenderComponent.class);
     RenderComponent renderable2 = mock(RenderComponent.class);
 
-    // Same layer, renderable2 is in front
+    // Same layer, renderable2 is behind
     when(renderable1.getLayer()).thenReturn(1);
     when(renderable2.getLayer()).thenReturn(1);
-    when(renderable1.compareTo(any())).thenReturn(1);
-    when(renderable2.compareTo(any())).thenReturn(-1);
+    when(renderable1.getZIndex()).thenReturn(1f);
+    when(renderable2.getZIndex()).thenReturn(-1f);
 
     renderService.register(renderable1);
     renderService.register(renderable2);
@@ -80,4 +104,153 @@ class RenderServiceTest {
     inOrder.verify(renderable1).render(any());
     inOrder.verify(renderable2).render(any());
   }
+
+  @Test
+  void shouldNotSortLayerInOrder() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Renderable[] layer = zIndexed(1f, 2f, 3f);
+    for (Renderable renderable : layer) {
+      renderService.register(renderable);
+    }
+
+    renderService.render(spriteBatch);
+    renderService.render(spriteBatch);
+    assertEquals(2, renderService.getSortsSkipped(1));
+    verifyRenderOrder(layer[0], layer[1], layer[2]);
+  }
+
+  @Test
+  void shouldResortWhenZIndexChanges() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Renderable[] layer = zIndexed(1f, 2f, 3f);
+    for (Renderable renderable : layer) {
+      renderService.register(renderable);
+    }
+    renderService.render(spriteBatch);
+
+    // The front renderable moves behind the others
+    when(layer[2].getZIndex()).thenReturn(0f);
+    Mockito.clearInvocations((Object[]) layer);
+    renderService.render(spriteBatch);
+    assertEquals(1, renderService.getSortsSkipped(1));
+    verifyRenderOrder(layer[2], layer[0], layer[1]);
+  }
+
+  @Test
+  void shouldSortManyRenderables() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    // Enough out of order to need a full sort, including negative and equal z indexes
+    float[] zIndexes = new float[40];
+    for (int i = 0; i < zIndexes.length; i++) {
+      zIndexes[i] = (i % 2 == 0) ? -i : i / 4;
+    }
+    Renderable[] layer = zIndexed(zIndexes);
+    for (Renderable renderable : layer) {
+      renderService.register(renderable);
+    }
+    renderService.render(spriteBatch);
+
+    Renderable[] expected = layer.clone();
+    Arrays.sort(expected, (a, b) -> Float.compare(a.getZIndex(), b.getZIndex()));
+    verifyRenderOrder(expected);
+  }
+
+  @Test
+  void shouldCullRenderablesOutOfView() {
+    RenderService renderService = new RenderService();
+    ServiceLocator.registerRenderService(renderService);
+    ServiceLocator.registerEntityService(new EntityService());
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Texture texture = mock(Texture.class);
+    spawnTexture(texture, 1f, 1f, 1f);
+    Entity outOfView = spawnTexture(texture, 50f, 50f, 1f);
+    // Positioned outside the view, but large enough to reach into it
+    spawnTexture(texture, -3f, -3f, 4f);
+
+    renderService.setCullMargin(0f);
+    renderService.setView(new Rectangle(0f, 0f, 10f, 10f));
+    renderService.render(spriteBatch);
+    verify(spriteBatch).draw(texture, 1f, 1f, 1f, 1f);
+    verify(spriteBatch).draw(texture, -3f, -3f, 4f, 4f);
+    verify(spriteBatch, never()).draw(texture, 50f, 50f, 1f, 1f);
+    assertEquals(2, renderService.getDrawnCount());
+    assertEquals(1, renderService.getCulledCount());
+
+    outOfView.setPosition(5f, 5f);
+    renderService.render(spriteBatch);
+    verify(spriteBatch).draw(texture, 5f, 5f, 1f, 1f);
+    assertEquals(3, renderService.getDrawnCount());
+    assertEquals(0, renderService.getCulledCount());
+
+    outOfView.setPosition(50f, 50f);
+    renderService.render(spriteBatch);
+    assertEquals(1, renderService.getCulledCount());
+
+    renderService.setView(null);
+    renderService.render(spriteBatch);
+    verify(spriteBatch).draw(texture, 50f, 50f, 1f, 1f);
+    assertEquals(3, renderService.getDrawnCount());
+    assertEquals(0, renderService.getCulledCount());
+  }
+
+  @Test
+  void shouldGroupByTextureWithinBand() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Texture texture1 = mock(Texture.class);
+    Texture texture2 = mock(Texture.class);
+    when(texture1.getTextureObjectHandle()).thenReturn(1);
+    when(texture2.getTextureObjectHandle()).thenReturn(2);
+    RenderComponent a = textured(texture1, 0f);
+    RenderComponent b = textured(texture2, 0.1f);
+    RenderComponent c = textured(texture1, 0.2f);
+    RenderComponent d = textured(texture2, 5f);
+    for (RenderComponent renderable : new RenderComponent[] {a, b, c, d}) {
+      renderService.register(renderable);
+    }
+
+    renderService.render(spriteBatch);
+    verifyRenderOrder(a, b, c, d);
+
+    Mockito.clearInvocations(a, b, c, d);
+    renderService.setTextureBatching(1f);
+    renderService.render(spriteBatch);
+    verifyRenderOrder(a, c, b, d);
+  }
+
+  private static RenderComponent textured(Texture texture, float zIndex) {
+    RenderComponent renderable = mock(RenderComponent.class);
+    when(renderable.getLayer()).thenReturn(1);
+    when(renderable.getZIndex()).thenReturn(zIndex);
+    when(renderable.getTexture()).thenReturn(texture);
+    return renderable;
+  }
+
+  private static Entity spawnTexture(Texture texture, float x, float y, float scale) {
+    Entity entity = new Entity().addComponent(new TextureRenderComponent(texture));
+    entity.setPosition(x, y);
+    entity.setScale(scale, scale);
+    ServiceLocator.getEntityService().register(entity);
+    return entity;
+  }
+
+  private static Renderable[] zIndexed(float... zIndexes) {
+    Renderable[] renderables = new Renderable[zIndexes.length];
+    for (int i = 0; i < zIndexes.length; i++) {
+      renderables[i] = mock(Renderable.class);
+      when(renderables[i].getLayer()).thenReturn(1);
+      when(renderables[i].getZIndex()).thenReturn(zIndexes[i]);
+    }
+    return renderables;
+  }
+
+  private static void verifyRenderOrder(Renderable... renderables) {
+    InOrder inOrder = Mockito.inOrder((Object[]) renderables);
+    for (Renderable renderable : renderables) {
+      inOrder.verify(renderable).render(any());
+    }
+  }
 }
@@ -5,7 +5,6 @@ import static org.mockito.Mockito.when;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
@@ -22,12 +21,26 @@ class TextureRenderComponentTest {
 
   @Test
   void shouldDrawTexture() {
-    when(entity.getPosition()).thenReturn(new Vector2(2f, 2f));
-    when(entity.getScale()).thenReturn(new Vector2(1f, 1f));
+    when(entity.getRenderX()).thenReturn(2f);
+    when(entity.getRenderY()).thenReturn(2f);
+    when(entity.getScaleX()).thenReturn(1f);
+    when(entity.getScaleY()).thenReturn(1f);
     TextureRenderComponent component = new TextureRenderComponent(texture);
     component.setEntity(entity);
     component.render(spriteBatch);
 
     verify(spriteBatch).draw(texture, 2f, 2f, 1f, 1f);
   }
+
+  @Test
+  void shouldDrawAtRenderOffset() {
+    Entity movingEntity = new Entity();
+    movingEntity.setPosition(2f, 2f);
+    movingEntity.setRenderOffset(0.5f, -0.25f);
+    TextureRenderComponent component = new TextureRenderComponent(texture);
+    component.setEntity(movingEntity);
+    component.render(spriteBatch);
+
+    verify(spriteBatch).draw(texture, 2.5f, 1.75f, 1f, 1f);
+  }
 }
\ No newline at end of file
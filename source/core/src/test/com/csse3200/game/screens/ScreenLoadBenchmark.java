@@ -0,0 +1,63 @@
+package com.csse3200.game.screens;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.csse3200.game.areas.combat.CombatArea;
+import com.csse3200.game.areas.forest.ForestGameArea;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.AssetBundle;
+import com.csse3200.game.services.ResourceService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the time from a screen starting to load until it can draw its first frame, when it
+ * blocks on all of its assets compared to only its critical assets. Also measures how long the
+ * remaining assets then take to stream in at the game's per frame budget.
+ * Run with {@code ./gradlew :core:benchmark}.
+ */
+@ExtendWith(GameExtension.class)
+class ScreenLoadBenchmark {
+  private static final Logger logger = LoggerFactory.getLogger(ScreenLoadBenchmark.class);
+  private static final int STREAM_MILLIS = 4;
+
+  @Test
+  void timeToFirstFrame() {
+    run(new AssetBundle("main game").addAll(MainGameScreen.ASSETS).addAll(ForestGameArea.ASSETS));
+    run(new AssetBundle("combat").addAll(CombatScreen.ASSETS).addAll(CombatArea.ASSETS));
+  }
+
+  private static void run(AssetBundle bundle) {
+    long blockingNanos = 0;
+    long criticalNanos = 0;
+    int streamedFrames = 0;
+    for (int round = 0; round < 2; round++) {
+      // the first round warms up the file system and class loading
+      ResourceService blocking = new ResourceService(new AssetManager());
+      long start = System.nanoTime();
+      blocking.loadBundle(bundle);
+      blocking.loadAll();
+      blockingNanos = System.nanoTime() - start;
+      blocking.dispose();
+
+      ResourceService streaming = new ResourceService(new AssetManager());
+      start = System.nanoTime();
+      streaming.loadBundle(bundle);
+      streaming.finishLoadingCritical(bundle);
+      criticalNanos = System.nanoTime() - start;
+      streamedFrames = 0;
+      while (!streaming.streamAssets(STREAM_MILLIS)) {
+        streamedFrames++;
+      }
+      assertTrue(streaming.isLoaded(bundle, false));
+      streaming.dispose();
+    }
+
+    logger.info("{} ({} assets): all assets {} ms, critical assets {} ms, "
+            + "then {} frames streaming the rest",
+        bundle, bundle.size(), blockingNanos / 1_000_000, criticalNanos / 1_000_000, streamedFrames);
+  }
+}
@@ -5,6 +5,7 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -144,4 +145,82 @@ class ResourceServiceTest {
     verify(assetManager).load(asset2, Music.class);
   }
 
+  @Test
+  void shouldGetUnpackedTextureAsRegion() {
+    String asset = "test/files/tree.png";
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.loadTextures(new String[] {asset});
+    resourceService.loadAll();
+
+    assertFalse(resourceService.isPacked(asset));
+    TextureRegion region = resourceService.getRegion(asset);
+    assertSame(resourceService.getAsset(asset, Texture.class), region.getTexture());
+    assertSame(region, resourceService.getRegion(asset));
+  }
+
+  @Test
+  void shouldLoadCriticalAssetsFirst() {
+    String critical = "test/files/tree.png";
+    String optional = "test/files/health_bar_x1.png";
+    AssetBundle bundle = new AssetBundle("test")
+        .addTextures(new String[] {optional}, false)
+        .addTextures(new String[] {critical}, true);
+    AssetManager assetManager = new AssetManager();
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    resourceService.loadBundle(bundle);
+    assertFalse(resourceService.isLoaded(bundle, true));
+    assertEquals(0f, resourceService.getProgress(bundle));
+
+    resourceService.finishLoadingCritical(bundle);
+    assertTrue(resourceService.isLoaded(bundle, true));
+    assertTrue(assetManager.isLoaded(critical));
+    assertFalse(assetManager.isLoaded(optional));
+    assertEquals(0.5f, resourceService.getProgress(bundle));
+
+    while (!resourceService.streamAssets(1)) {
+      ;
+    }
+    assertTrue(resourceService.isLoaded(bundle, false));
+    assertEquals(1f, resourceService.getProgress(bundle));
+
+    resourceService.unloadBundle(bundle);
+    assertFalse(assetManager.isLoaded(critical));
+    assertFalse(assetManager.isLoaded(optional));
+  }
+
+  @Test
+  void shouldCountMissingAssetsAsFinished() {
+    AssetBundle bundle = new AssetBundle("test")
+        .addTextures(new String[] {"test/files/missing.png"}, true);
+    ResourceService resourceService = new ResourceService(new AssetManager());
+
+    resourceService.loadBundle(bundle);
+    resourceService.finishLoadingCritical(bundle);
+
+    assertTrue(resourceService.isLoaded(bundle, false));
+    assertEquals(1f, resourceService.getProgress(bundle));
+  }
+
+  @Test
+  void shouldWaitForStreamingAsset() {
+    String asset = "test/files/tree.png";
+    ResourceService resourceService = new ResourceService(new AssetManager());
+    resourceService.loadBundle(new AssetBundle("test").addTextures(new String[] {asset}, false));
+
+    assertNotNull(resourceService.getAsset(asset, Texture.class));
+  }
+
+  @Test
+  void shouldNotShareAssetsAfterDisposeShared() {
+    String asset = "test/files/tree.png";
+    ResourceService resourceService = new ResourceService();
+    resourceService.loadTextures(new String[] {asset});
+    resourceService.loadAll();
+    assertTrue(new ResourceService().containsAsset(asset, Texture.class));
+
+    ResourceService.disposeShared();
+    assertFalse(new ResourceService().containsAsset(asset, Texture.class));
+  }
 }
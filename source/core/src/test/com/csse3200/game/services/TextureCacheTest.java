@@ -0,0 +1,92 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class TextureCacheTest {
+  private static final String TREE = "test/files/tree.png";
+  private static final String HEALTH_BAR = "test/files/health_bar_x1.png";
+  private AssetManager assetManager;
+  private TextureCache cache;
+
+  @BeforeEach
+  void beforeEach() {
+    assetManager = new AssetManager();
+    cache = new TextureCache(assetManager);
+  }
+
+  @Test
+  void shouldShareTexture() {
+    Texture first = cache.acquire(TREE);
+    Texture second = cache.acquire(TREE);
+
+    assertSame(first, second);
+    assertEquals(2, cache.getReferences(TREE));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void shouldDisposeOnLastRelease() {
+    Texture first = cache.acquire(TREE);
+    cache.acquire(TREE);
+
+    cache.release(TREE);
+    assertEquals(1, cache.getReferences(TREE));
+    cache.release(TREE);
+    assertEquals(0, cache.getReferences(TREE));
+    assertEquals(0, cache.size());
+
+    // Acquiring again loads a new texture
+    assertNotSame(first, cache.acquire(TREE));
+  }
+
+  @Test
+  void shouldReportLeaksSinceMark() {
+    cache.acquire(TREE);
+    long mark = cache.mark();
+    cache.acquire(HEALTH_BAR);
+    cache.acquire(TREE);
+
+    // the tree was already in use, but was acquired again after the mark
+    assertEquals(2, cache.reportLeaks("test", mark));
+    cache.release(HEALTH_BAR);
+    assertEquals(1, cache.reportLeaks("test", mark));
+    cache.release(TREE);
+    assertEquals(0, cache.reportLeaks("test", mark));
+    assertEquals(1, cache.getReferences(TREE));
+  }
+
+  @Test
+  void shouldShareTextureLoadedByScreen() {
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.loadTextures(new String[] {TREE});
+    resourceService.loadAll();
+    Texture loaded = resourceService.getAsset(TREE, Texture.class);
+
+    assertSame(loaded, cache.acquire(TREE));
+    resourceService.dispose();
+    assertTrue(assetManager.isLoaded(TREE));
+
+    cache.release(TREE);
+    assertFalse(assetManager.isLoaded(TREE));
+  }
+
+  @Test
+  void shouldNotReportPermanentTextures() {
+    long mark = cache.mark();
+    cache.acquirePermanent(TREE);
+
+    assertEquals(0, cache.reportLeaks("test", mark));
+  }
+}